@@ -0,0 +1,44 @@
+package com.wootae.backend.domain.lotto.benchmark;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.service.LottoGenerateService;
+import com.wootae.backend.domain.lotto.strategy.DrawHistoryIndex;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회차별 전략 컨텍스트 구성 비용 (시뮬레이션의 (전략, 회차) 작업마다 1회 호출)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DrawContextBenchmark {
+
+      private LottoGenerateService generateService;
+      private List<LottoDraw> draws;
+      private DrawHistoryIndex historyIndex;
+      private int targetDrawNo;
+
+      @Setup
+      public void setUp() {
+            generateService = LottoBenchmarkFixtures.generateService();
+            draws = LottoBenchmarkFixtures.draws();
+            historyIndex = DrawHistoryIndex.of(draws);
+      }
+
+      @Benchmark
+      public LottoStrategyContext buildContextForDraw() {
+            // 전체 회차를 순환하며 대상 회차를 바꿔 실제 백필 패턴을 재현
+            targetDrawNo = targetDrawNo % LottoBenchmarkFixtures.DRAW_COUNT + 1;
+            return generateService.buildContextForDraw(targetDrawNo, draws);
+      }
+
+      @Benchmark
+      public LottoStrategyContext contextFromHistoryIndex() {
+            targetDrawNo = targetDrawNo % LottoBenchmarkFixtures.DRAW_COUNT + 1;
+            return historyIndex.contextFor(targetDrawNo);
+      }
+}
@@ -0,0 +1,75 @@
+package com.wootae.backend.domain.lotto.benchmark;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.service.ExactRankCalculator;
+import com.wootae.backend.domain.lotto.service.LottoGenerateService;
+import com.wootae.backend.domain.lotto.service.LottoMatchService;
+import com.wootae.backend.domain.lotto.service.SimulationService;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import com.wootae.backend.domain.lotto.strategy.impl.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 픽스처 - Spring 컨텍스트/DB 없이 서비스와 추첨 이력을 직접 구성
+ */
+final class LottoBenchmarkFixtures {
+
+      // 실제 누적 회차 수와 비슷한 규모
+      static final int DRAW_COUNT = 1_200;
+
+      private LottoBenchmarkFixtures() {
+      }
+
+      static List<LottoStrategy> strategies() {
+            return List.of(
+                        new RandomStrategy(), new AttackStrategy(), new StableStrategy(),
+                        new BalanceStrategy(), new LowHighStrategy(), new SumRangeStrategy(),
+                        new ConsecutiveStrategy(), new NoConsecutiveStrategy(), new PrimeStrategy(),
+                        new SpreadStrategy(), new ClusterStrategy(), new DecadeStrategy(),
+                        new EdgeStrategy(), new FibonacciStrategy(), new LuckyStrategy(),
+                        new DoubleStrategy(), new HotStrategy(), new ColdStrategy(),
+                        new HotColdMixStrategy(), new FrequencyStrategy(), new MirrorStrategy(),
+                        new ExcludeLastStrategy());
+      }
+
+      /**
+       * 고정 시드로 생성한 가상 추첨 이력 (회차 내림차순 - findAllByOrderByDrwNoDesc와 동일)
+       */
+      static List<LottoDraw> draws() {
+            Random random = new Random(42);
+            List<LottoDraw> draws = new ArrayList<>(DRAW_COUNT);
+            LocalDate firstDate = LocalDate.of(2002, 12, 7);
+            for (int drwNo = DRAW_COUNT; drwNo >= 1; drwNo--) {
+                  long mask = 0L;
+                  while (Long.bitCount(mask) < 7) {
+                        mask |= LottoTicket.bit(random.nextInt(LottoTicket.MAX_NUMBER) + 1);
+                  }
+                  int[] numbers = LottoTicket.toArray(mask);
+                  // 7개 중 하나를 보너스 번호로 사용
+                  int bonusIndex = random.nextInt(7);
+                  int bonus = numbers[bonusIndex];
+                  int[] main = new int[6];
+                  for (int i = 0, j = 0; i < 7; i++) {
+                        if (i != bonusIndex) main[j++] = numbers[i];
+                  }
+                  draws.add(new LottoDraw(drwNo, firstDate.plusWeeks(drwNo - 1),
+                              main[0], main[1], main[2], main[3], main[4], main[5], bonus,
+                              2_000_000_000L, 10L));
+            }
+            return draws;
+      }
+
+      static LottoGenerateService generateService() {
+            return new LottoGenerateService(null, null, strategies(), null, 100_000, 5_000, 300);
+      }
+
+      static SimulationService simulationService(LottoGenerateService generateService) {
+            return new SimulationService(null, null, null, generateService, new LottoMatchService(), null,
+                        new ExactRankCalculator(), null);
+      }
+}
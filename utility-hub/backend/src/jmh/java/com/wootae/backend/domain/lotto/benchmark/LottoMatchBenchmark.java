@@ -0,0 +1,63 @@
+package com.wootae.backend.domain.lotto.benchmark;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.service.LottoMatchService;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 티켓 1장 등수 판정 처리량 (List 매칭 vs 비트마스크 매칭)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LottoMatchBenchmark {
+
+      private static final int TICKET_POOL = 1 << 12;
+
+      private final LottoMatchService matchService = new LottoMatchService();
+
+      private LottoDraw draw;
+      private LottoMatchService.WinningMask winning;
+      private List<Integer>[] listTickets;
+      private long[] maskTickets;
+      private int cursor;
+
+      @Setup
+      @SuppressWarnings("unchecked")
+      public void setUp() {
+            draw = LottoBenchmarkFixtures.draws().get(0);
+            winning = matchService.toWinningMask(draw);
+
+            Random random = new Random(7);
+            listTickets = new List[TICKET_POOL];
+            maskTickets = new long[TICKET_POOL];
+            for (int i = 0; i < TICKET_POOL; i++) {
+                  long mask = 0L;
+                  while (Long.bitCount(mask) < LottoTicket.PICK_COUNT) {
+                        mask |= LottoTicket.bit(random.nextInt(LottoTicket.MAX_NUMBER) + 1);
+                  }
+                  maskTickets[i] = mask;
+                  listTickets[i] = LottoTicket.toList(mask);
+            }
+      }
+
+      @Benchmark
+      public int matchRankList() {
+            return matchService.matchRank(listTickets[next()], draw);
+      }
+
+      @Benchmark
+      public int matchRankMask() {
+            return matchService.matchRank(maskTickets[next()], winning);
+      }
+
+      private int next() {
+            cursor = (cursor + 1) & (TICKET_POOL - 1);
+            return cursor;
+      }
+}
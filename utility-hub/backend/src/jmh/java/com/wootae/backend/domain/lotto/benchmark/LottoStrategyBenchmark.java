@@ -0,0 +1,50 @@
+package com.wootae.backend.domain.lotto.benchmark;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.service.LottoGenerateService;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전략별 티켓 1장 생성 처리량 (List API vs 비트마스크 API)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LottoStrategyBenchmark {
+
+      @Param({
+                  "RANDOM", "ATTACK", "STABLE", "BALANCE",
+                  "LOW_HIGH", "SUM_RANGE", "CONSECUTIVE", "NO_CONSECUTIVE",
+                  "PRIME", "SPREAD", "CLUSTER", "DECADE", "EDGE",
+                  "FIBONACCI", "LUCKY", "DOUBLE",
+                  "HOT", "COLD", "HOT_COLD_MIX", "FREQUENCY",
+                  "MIRROR", "EXCLUDE_LAST"
+      })
+      public String strategyType;
+
+      private LottoStrategy strategy;
+      private LottoStrategyContext context;
+
+      @Setup
+      public void setUp() {
+            LottoGenerateService generateService = LottoBenchmarkFixtures.generateService();
+            List<LottoDraw> draws = LottoBenchmarkFixtures.draws();
+            strategy = generateService.getStrategyMap().get(strategyType);
+            context = generateService.buildContextForDraw(draws.get(0).getDrwNo() + 1, draws);
+      }
+
+      @Benchmark
+      public List<Integer> generate() {
+            return strategy.generate(context);
+      }
+
+      @Benchmark
+      public long generateMask() {
+            return strategy.generateMask(context);
+      }
+}
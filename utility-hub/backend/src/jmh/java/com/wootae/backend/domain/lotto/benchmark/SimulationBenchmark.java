@@ -0,0 +1,53 @@
+package com.wootae.backend.domain.lotto.benchmark;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.entity.SimulationResult;
+import com.wootae.backend.domain.lotto.service.LottoGenerateService;
+import com.wootae.backend.domain.lotto.service.SimulationService;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (전략, 회차) 단위 시뮬레이션 end-to-end 처리량
+ * 컨텍스트 구성 + 티켓 생성 + 매칭을 포함하며, 결과는 tickets/sec 로 보고된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SimulationBenchmark {
+
+      private static final int TICKETS_PER_DRAW = 10_000;
+
+      @Param({
+                  "RANDOM", "ATTACK", "STABLE", "BALANCE",
+                  "LOW_HIGH", "SUM_RANGE", "CONSECUTIVE", "NO_CONSECUTIVE",
+                  "PRIME", "SPREAD", "CLUSTER", "DECADE", "EDGE",
+                  "FIBONACCI", "LUCKY", "DOUBLE",
+                  "HOT", "COLD", "HOT_COLD_MIX", "FREQUENCY",
+                  "MIRROR", "EXCLUDE_LAST"
+      })
+      public String strategyType;
+
+      private SimulationService simulationService;
+      private LottoStrategy strategy;
+      private List<LottoDraw> draws;
+      private LottoDraw targetDraw;
+
+      @Setup
+      public void setUp() {
+            LottoGenerateService generateService = LottoBenchmarkFixtures.generateService();
+            simulationService = LottoBenchmarkFixtures.simulationService(generateService);
+            strategy = generateService.getStrategyMap().get(strategyType);
+            draws = LottoBenchmarkFixtures.draws();
+            targetDraw = draws.get(0);
+      }
+
+      @Benchmark
+      @OperationsPerInvocation(TICKETS_PER_DRAW)
+      public SimulationResult simulateDraw() {
+            return simulationService.simulateDraw(strategy, targetDraw, draws, TICKETS_PER_DRAW);
+      }
+}
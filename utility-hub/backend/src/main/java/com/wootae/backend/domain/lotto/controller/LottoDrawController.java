@@ -0,0 +1,102 @@
+package com.wootae.backend.domain.lotto.controller;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.service.LottoDrawIngestService;
+import com.wootae.backend.domain.lotto.service.LottoDrawStore;
+import com.wootae.backend.domain.lotto.service.UserTicketSettlementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/lotto/draws")
+@RequiredArgsConstructor
+public class LottoDrawController {
+
+      private final LottoDrawIngestService lottoDrawIngestService;
+      private final LottoDrawStore lottoDrawStore;
+      private final UserTicketSettlementService userTicketSettlementService;
+
+      /**
+       * 최신 추첨 회차
+       * GET /api/lotto/draws/latest
+       */
+      @GetMapping("/latest")
+      public ResponseEntity<Map<String, Object>> getLatest() {
+            Optional<LottoDraw> latest = lottoDrawStore.latest();
+            if (latest.isEmpty()) {
+                  return ResponseEntity.ok(Map.of("status", "NO_DATA", "message", "추첨 데이터가 없습니다."));
+            }
+            Map<String, Object> response = toDrawMap(latest.get());
+            response.put("totalDraws", lottoDrawStore.size());
+            return ResponseEntity.ok(response);
+      }
+
+      /**
+       * 설정된 경로의 최신 XLSX 일괄 적재
+       * POST /api/lotto/draws/import
+       */
+      @PostMapping("/import")
+      public ResponseEntity<Map<String, Object>> importDraws() {
+            LottoDrawIngestService.ImportResult result = lottoDrawIngestService.importLatestFile();
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", "COMPLETED");
+            response.put("read", result.read());
+            response.put("inserted", result.inserted());
+            response.put("updated", result.updated());
+            response.put("rejected", result.rejected());
+            response.put("totalDraws", lottoDrawStore.size());
+            return ResponseEntity.ok(response);
+      }
+
+      /**
+       * 공급원에서 다음 회차 가져오기
+       * POST /api/lotto/draws/fetch-next
+       */
+      @PostMapping("/fetch-next")
+      public ResponseEntity<Map<String, Object>> fetchNext() {
+            Optional<LottoDraw> draw = lottoDrawIngestService.ingestNextDraw();
+            if (draw.isEmpty()) {
+                  return ResponseEntity.ok(Map.of("status", "NO_NEW_DRAW", "message", "새로 저장할 회차가 없습니다."));
+            }
+            Map<String, Object> response = toDrawMap(draw.get());
+            response.put("status", "SAVED");
+            return ResponseEntity.ok(response);
+      }
+
+      /**
+       * 회차의 미정산 사용자 티켓 일괄 정산
+       * POST /api/lotto/draws/{drawNo}/settle
+       */
+      @PostMapping("/{drawNo}/settle")
+      public ResponseEntity<Map<String, Object>> settle(@PathVariable int drawNo) {
+            UserTicketSettlementService.SettlementResult result = userTicketSettlementService.settle(drawNo);
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", "COMPLETED");
+            response.put("drawNo", result.drawNo());
+            response.put("settled", result.settled());
+            response.put("winners", result.winners());
+            response.put("totalPrize", result.totalPrize());
+            response.put("invalid", result.invalid());
+            return ResponseEntity.ok(response);
+      }
+
+      private Map<String, Object> toDrawMap(LottoDraw draw) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("drawNo", draw.getDrwNo());
+            map.put("drawDate", draw.getDrwNoDate());
+            map.put("numbers", List.of(draw.getDrwtNo1(), draw.getDrwtNo2(), draw.getDrwtNo3(),
+                        draw.getDrwtNo4(), draw.getDrwtNo5(), draw.getDrwtNo6()));
+            map.put("bonus", draw.getBnusNo());
+            map.put("firstPrize", draw.getFirstWinamnt());
+            map.put("firstWinners", draw.getFirstPrzwnerCo());
+            return map;
+      }
+}
@@ -2,11 +2,15 @@ package com.wootae.backend.domain.lotto.controller;
 
 import com.wootae.backend.domain.lotto.dto.LottoGenerateRequest;
 import com.wootae.backend.domain.lotto.dto.LottoGenerateResponse;
+import com.wootae.backend.domain.lotto.dto.LottoPortfolioResponse;
 import com.wootae.backend.domain.lotto.service.LottoGenerateService;
+import com.wootae.backend.domain.lotto.service.LottoTicketStream;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/rules")
@@ -21,4 +25,35 @@ public class LottoGenerateController {
                   @Valid @RequestBody LottoGenerateRequest request) {
             return ResponseEntity.ok(lottoGenerateService.generate(ruleId, request.getCount()));
       }
+
+      /**
+       * 대량 번호 생성 - 생성하는 대로 응답에 기록 (NDJSON: 줄마다 [1,2,3,4,5,6], CSV: 헤더 + 줄마다 번호 6개)
+       * POST /api/rules/{ruleId}/generate/stream?count=100000&format=ndjson&distinct=true
+       */
+      @PostMapping("/{ruleId}/generate/stream")
+      public ResponseEntity<StreamingResponseBody> streamNumbers(
+                  @PathVariable Long ruleId,
+                  @RequestParam int count,
+                  @RequestParam(defaultValue = "ndjson") String format,
+                  @RequestParam(defaultValue = "true") boolean distinct) {
+            LottoTicketStream.Format streamFormat = LottoTicketStream.Format.from(format);
+            LottoTicketStream tickets = lottoGenerateService.openStream(ruleId, count, distinct);
+            return ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(streamFormat.getMediaType()))
+                        .header("X-Strategy-Type", tickets.getStrategyType())
+                        .body(out -> tickets.writeTo(out, streamFormat));
+      }
+
+      /**
+       * 커버리지 최적화 포트폴리오 - 전략의 번호 풀 poolSize개에서 match개 조합을 최대한 덮는 티켓 count장
+       * POST /api/rules/{ruleId}/generate/portfolio?count=30&match=3&poolSize=15
+       */
+      @PostMapping("/{ruleId}/generate/portfolio")
+      public ResponseEntity<LottoPortfolioResponse> generatePortfolio(
+                  @PathVariable Long ruleId,
+                  @RequestParam int count,
+                  @RequestParam(defaultValue = "3") int match,
+                  @RequestParam(defaultValue = "15") int poolSize) {
+            return ResponseEntity.ok(lottoGenerateService.generatePortfolio(ruleId, count, match, poolSize));
+      }
 }
@@ -1,10 +1,18 @@
 package com.wootae.backend.domain.lotto.controller;
 
 import com.wootae.backend.domain.lotto.entity.SimulationJob;
+import com.wootae.backend.domain.lotto.service.CombinationHistoryIndex;
+import com.wootae.backend.domain.lotto.service.SimulationJobScheduler;
+import com.wootae.backend.domain.lotto.service.SimulationProgressStream;
 import com.wootae.backend.domain.lotto.service.SimulationService;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -16,44 +24,85 @@ import java.util.Map;
 public class SimulationController {
 
       private final SimulationService simulationService;
+      private final SimulationJobScheduler simulationJobScheduler;
+      private final CombinationHistoryIndex combinationHistoryIndex;
+      private final SimulationProgressStream simulationProgressStream;
 
+      /**
+       * 시뮬레이션 작업 제출 (대기열 순서대로 실행)
+       * POST /api/simulation/start?ticketsPerDraw=100000&strategyTypes=RANDOM,HOT&seed=42
+       */
       @PostMapping("/start")
       public ResponseEntity<Map<String, Object>> startSimulation(
-                  @RequestParam(defaultValue = "100000") int ticketsPerDraw) {
-            if (simulationService.isRunning()) {
-                  return ResponseEntity.badRequest().body(Map.of(
-                              "status", "ALREADY_RUNNING",
-                              "message", "시뮬레이션이 이미 실행 중입니다."));
-            }
-            simulationService.startSimulation(ticketsPerDraw);
+                  @RequestParam(defaultValue = "100000") int ticketsPerDraw,
+                  @RequestParam(required = false) List<String> strategyTypes,
+                  @RequestParam(required = false) Long seed) {
+            SimulationJob job = simulationJobScheduler.submit(ticketsPerDraw, strategyTypes, seed);
             return ResponseEntity.ok(Map.of(
-                        "status", "STARTED",
+                        "status", job.getStatus(),
+                        "jobId", job.getId(),
                         "ticketsPerDraw", ticketsPerDraw,
-                        "message", "시뮬레이션이 시작되었습니다."));
+                        "message", "시뮬레이션 작업이 대기열에 추가되었습니다."));
       }
 
       @GetMapping("/status")
       public ResponseEntity<Map<String, Object>> getStatus() {
             SimulationJob job = simulationService.getLatestJob();
             if (job == null) {
-                  return ResponseEntity.ok(Map.of("status", "NO_JOB", "message", "실행된 시뮬레이션이 없습니다."));
+                  return ResponseEntity.ok(Map.of("status", "NO_JOB", "message", "실행된 시뮬레이션이 없습니다.",
+                              "executionMode", simulationService.getExecutionMode(),
+                              "parallelism", simulationService.getParallelism()));
             }
-            Map<String, Object> status = new LinkedHashMap<>();
-            status.put("status", job.getStatus());
-            status.put("totalTasks", job.getTotalTasks());
-            status.put("completedTasks", job.getCompletedTasks());
-            status.put("progressPercent", String.format("%.1f", job.getProgressPercent()));
-            status.put("currentStrategy", job.getCurrentStrategy());
-            status.put("startedAt", job.getStartedAt());
-            status.put("completedAt", job.getCompletedAt());
-            if (job.getErrorMessage() != null) status.put("errorMessage", job.getErrorMessage());
+            Map<String, Object> status = toJobStatus(job);
+            status.put("executionMode", simulationService.getExecutionMode());
+            status.put("parallelism", simulationService.getParallelism());
+            status.put("exactMode", simulationService.isExactMode());
+            status.put("maxConcurrentJobs", simulationJobScheduler.getMaxConcurrentJobs());
             return ResponseEntity.ok(status);
       }
 
+      @GetMapping("/jobs")
+      public ResponseEntity<List<Map<String, Object>>> getJobs() {
+            return ResponseEntity.ok(simulationJobScheduler.getJobs().stream().map(this::toJobStatus).toList());
+      }
+
+      @GetMapping("/jobs/{jobId}")
+      public ResponseEntity<Map<String, Object>> getJob(@PathVariable long jobId) {
+            return ResponseEntity.ok(toJobStatus(simulationJobScheduler.getJob(jobId)));
+      }
+
+      @PostMapping("/jobs/{jobId}/pause")
+      public ResponseEntity<Map<String, Object>> pauseJob(@PathVariable long jobId) {
+            return ResponseEntity.ok(toJobStatus(simulationJobScheduler.pause(jobId)));
+      }
+
+      @PostMapping("/jobs/{jobId}/resume")
+      public ResponseEntity<Map<String, Object>> resumeJob(@PathVariable long jobId) {
+            return ResponseEntity.ok(toJobStatus(simulationJobScheduler.resume(jobId)));
+      }
+
+      @PostMapping("/jobs/{jobId}/cancel")
+      public ResponseEntity<Map<String, Object>> cancelJob(@PathVariable long jobId) {
+            return ResponseEntity.ok(toJobStatus(simulationJobScheduler.cancel(jobId)));
+      }
+
+      /**
+       * 실시간 진행 상황 스트림 (SSE, "progress" 이벤트)
+       * 처리 작업 수, 티켓/초, 예상 남은 시간, 현재 전략, 작업 스레드별 상태
+       */
+      @GetMapping(value = "/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+      public SseEmitter streamProgress() {
+            return simulationProgressStream.subscribe();
+      }
+
+      /**
+       * 대기/실행 중인 모든 작업 일시정지 (재개: /jobs/{jobId}/resume)
+       */
       @PostMapping("/stop")
-      public ResponseEntity<Map<String, String>> stopSimulation() {
-            simulationService.stopSimulation();
-            return ResponseEntity.ok(Map.of("status", "STOPPING", "message", "시뮬레이션 중단 요청되었습니다."));
+      public ResponseEntity<Map<String, Object>> stopSimulation() {
+            int paused = simulationJobScheduler.pauseAll();
+            return ResponseEntity.ok(Map.of("status", "STOPPING", "pausedJobs", paused,
+                        "message", "시뮬레이션 중단 요청되었습니다."));
       }
 
       @GetMapping("/results")
@@ -81,4 +130,60 @@ public class SimulationController {
                         "ticketsPerDraw", ticketsPerDraw,
                         "message", drawNo + "회차 주간 시뮬레이션이 완료되었습니다."));
       }
+
+      /**
+       * 티켓의 과거 전 회차 당첨 이력 (조합 인덱스 조회)
+       * GET /api/simulation/ticket-history?numbers=1,2,3,4,5,6
+       */
+      @GetMapping("/ticket-history")
+      public ResponseEntity<Map<String, Object>> getTicketHistory(@RequestParam List<Integer> numbers) {
+            long ticket = LottoTicket.fromList(numbers);
+            if (numbers.size() != LottoTicket.PICK_COUNT || !LottoTicket.isValid(ticket)) {
+                  throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            CombinationHistoryIndex.TicketHistory history = combinationHistoryIndex.history(ticket);
+
+            Map<String, Object> rankCounts = new LinkedHashMap<>();
+            for (int rank = 1; rank <= 5; rank++) {
+                  rankCounts.put("rank" + rank, history.rankCounts()[rank]);
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("numbers", LottoTicket.toList(ticket));
+            result.put("rankCounts", rankCounts);
+            result.put("bestRank", history.bestRank());
+            result.put("bestDrawNo", history.bestDrawNo());
+            result.put("drawCount", history.drawCount());
+            return ResponseEntity.ok(result);
+      }
+
+      /**
+       * 조합 인덱스에 아직 반영되지 않은 회차 반영 (파일이 없으면 전체 구축)
+       * POST /api/simulation/combination-index/refresh
+       */
+      @PostMapping("/combination-index/refresh")
+      public ResponseEntity<Map<String, Object>> refreshCombinationIndex() {
+            int added = combinationHistoryIndex.refresh();
+            return ResponseEntity.ok(Map.of(
+                        "status", "COMPLETED",
+                        "addedDraws", added,
+                        "message", added + "개 회차가 조합 인덱스에 반영되었습니다."));
+      }
+
+      private Map<String, Object> toJobStatus(SimulationJob job) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("jobId", job.getId());
+            status.put("status", job.getStatus());
+            status.put("totalTasks", job.getTotalTasks());
+            status.put("completedTasks", job.getCompletedTasks());
+            status.put("progressPercent", String.format("%.1f", job.getProgressPercent()));
+            status.put("currentStrategy", job.getCurrentStrategy());
+            status.put("ticketsPerDraw", job.getTicketsPerDraw());
+            status.put("strategyTypes", job.getStrategyTypes());
+            status.put("seed", job.getSeed());
+            status.put("createdAt", job.getCreatedAt());
+            status.put("startedAt", job.getStartedAt());
+            status.put("completedAt", job.getCompletedAt());
+            if (job.getErrorMessage() != null) status.put("errorMessage", job.getErrorMessage());
+            return status;
+      }
 }
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -17,9 +18,16 @@ public class UserLottoController {
 
       private final UserLottoService userLottoService;
 
+      /**
+       * 구매 기록 (최신순 키셋 페이지)
+       * GET /api/me/history?cursor={이전 응답의 nextCursor}&size=20
+       */
       @GetMapping("/history")
-      public ResponseEntity<UserHistoryResponse> getUserHistory(@AuthenticationPrincipal Long userId) {
-            return ResponseEntity.ok(userLottoService.getUserHistory(userId));
+      public ResponseEntity<UserHistoryResponse> getUserHistory(
+                  @AuthenticationPrincipal Long userId,
+                  @RequestParam(required = false) Long cursor,
+                  @RequestParam(defaultValue = "20") int size) {
+            return ResponseEntity.ok(userLottoService.getUserHistory(userId, cursor, size));
       }
 
       @GetMapping("/stats")
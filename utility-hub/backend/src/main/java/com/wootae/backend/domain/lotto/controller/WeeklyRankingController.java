@@ -2,6 +2,8 @@ package com.wootae.backend.domain.lotto.controller;
 
 import com.wootae.backend.domain.lotto.entity.WeeklyStrategyRanking;
 import com.wootae.backend.domain.lotto.service.WeeklyRankingService;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -126,6 +128,15 @@ public class WeeklyRankingController {
             return ResponseEntity.ok(response);
       }
 
+      /**
+       * 현재 랭킹 캐시 통계 (적중/미적중/무효화)
+       * GET /api/rankings/cache-stats
+       */
+      @GetMapping("/cache-stats")
+      public ResponseEntity<Map<String, Object>> getCacheStats() {
+            return ResponseEntity.ok(weeklyRankingService.getCacheStats());
+      }
+
       /**
        * 수동으로 특정 회차 랭킹 계산 트리거
        * POST /api/rankings/calculate/{drawNo}
@@ -146,6 +157,24 @@ public class WeeklyRankingController {
             return ResponseEntity.ok(response);
       }
 
+      /**
+       * 회차 구간 일괄 랭킹 계산 (이미 계산된 회차는 건너뜀)
+       * POST /api/rankings/backfill?fromDrawNo=1&toDrawNo=1210
+       */
+      @PostMapping("/backfill")
+      public ResponseEntity<Map<String, Object>> backfillRankings(
+                  @RequestParam int fromDrawNo, @RequestParam int toDrawNo) {
+            if (fromDrawNo > toDrawNo) throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+
+            int calculated = weeklyRankingService.backfillRankings(fromDrawNo, toDrawNo);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", "COMPLETED");
+            response.put("fromDrawNo", fromDrawNo);
+            response.put("toDrawNo", toDrawNo);
+            response.put("calculatedDraws", calculated);
+            return ResponseEntity.ok(response);
+      }
+
       private Map<String, Object> toDetailMap(WeeklyStrategyRanking r) {
             Map<String, Object> map = new LinkedHashMap<>();
             map.put("rank", r.getRankPosition());
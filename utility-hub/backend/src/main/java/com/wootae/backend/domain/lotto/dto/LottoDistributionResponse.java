@@ -14,5 +14,5 @@ import java.util.Map;
 public class LottoDistributionResponse {
 
       private Long ruleId;
-      private Map<String, Long> distribution; // number -> frequency
+      private Map<String, Long> distribution; // "1st" -> count, ... (전체 기간)
 }
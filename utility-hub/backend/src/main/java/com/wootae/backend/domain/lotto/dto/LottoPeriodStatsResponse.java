@@ -15,5 +15,7 @@ public class LottoPeriodStatsResponse {
 
       private Long ruleId;
       private String period; // RECENT_4_WEEKS, RECENT_8_WEEKS, ALL_TIME
+      private Integer fromDrawNo; // 집계 구간 (집계가 없으면 null)
+      private Integer toDrawNo;
       private Map<String, Long> stats; // "1st" -> count, "2nd" -> count, etc.
 }
@@ -0,0 +1,21 @@
+package com.wootae.backend.domain.lotto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LottoPortfolioResponse {
+      private Long ruleId;
+      private String strategyType;
+      private List<Integer> pool;
+      private int match;
+      private List<List<Integer>> tickets;
+      private long coveredCombinations;
+      private long totalCombinations;
+      private double coverageRate;
+      // 풀의 match개 조합을 모두 덮었는지 (당첨 번호 중 match개 이상이 풀에 있으면 한 장 이상 match개 일치 보장)
+      private boolean fullCoverage;
+}
@@ -1,7 +1,6 @@
 package com.wootae.backend.domain.lotto.dto;
 
 import com.wootae.backend.domain.lotto.entity.LottoRule;
-import com.wootae.backend.domain.lotto.entity.LottoSimulationStats;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,12 +36,16 @@ public class LottoRuleDetailResponse {
             private List<Integer> recent5Weeks;
       }
 
-      public static LottoRuleDetailResponse from(LottoRule rule, LottoSimulationStats simStats) {
+      /**
+       * @param wins         전체 기간 등수별 당첨 수 (집계가 없으면 null)
+       * @param recent5Weeks 최근 5개 회차의 회차별 당첨 수 (오래된 회차부터)
+       */
+      public static LottoRuleDetailResponse from(LottoRule rule, Map<String, Long> wins, List<Integer> recent5Weeks) {
             RuleStats stats = null;
-            if (simStats != null) {
+            if (wins != null) {
                   stats = RuleStats.builder()
-                              .wins(Map.of()) // populated from rankDistribution
-                              .recent5Weeks(List.of())
+                              .wins(wins)
+                              .recent5Weeks(recent5Weeks)
                               .build();
             }
 
@@ -1,8 +1,7 @@
 package com.wootae.backend.domain.lotto.dto;
 
 import com.wootae.backend.domain.lotto.entity.UserTicketHistory;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +17,7 @@ import java.util.List;
 public class UserHistoryResponse {
 
       private List<HistoryItem> history;
+      private Long nextCursor; // 다음 페이지 조회용 (마지막 페이지면 null)
 
       @Getter
       @Builder
@@ -31,16 +31,11 @@ public class UserHistoryResponse {
             private Long prize;
       }
 
-      public static UserHistoryResponse from(List<UserTicketHistory> histories) {
-            ObjectMapper mapper = new ObjectMapper();
+      public static UserHistoryResponse from(List<UserTicketHistory> histories, Long nextCursor) {
             List<HistoryItem> items = histories.stream()
                         .map(h -> {
-                              List<Integer> ticketNumbers;
-                              try {
-                                    ticketNumbers = mapper.readValue(h.getTicket(), new TypeReference<>() {});
-                              } catch (Exception e) {
-                                    ticketNumbers = List.of();
-                              }
+                              long mask = LottoTicket.parse(h.getTicket());
+                              List<Integer> ticketNumbers = LottoTicket.isValid(mask) ? LottoTicket.toList(mask) : List.of();
                               return HistoryItem.builder()
                                           .date(h.getDrawDate())
                                           .drawId(h.getDrawId())
@@ -53,6 +48,7 @@ public class UserHistoryResponse {
 
             return UserHistoryResponse.builder()
                         .history(items)
+                        .nextCursor(nextCursor)
                         .build();
       }
 }
@@ -1,39 +1,94 @@
 package com.wootae.backend.domain.lotto.entity;
 
 import jakarta.persistence.*;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 
+import java.time.LocalDateTime;
+
+/**
+ * 전략별 기간(최근 4주·8주·전체) 시뮬레이션 집계
+ *
+ * 회차별 결과(simulation_results)에서 기간 구간을 합산해 시뮬레이션이 끝날 때 SimulationResultWriter가 다시 계산한다.
+ * 규칙 통계는 규칙의 전략 타입으로 (전략, 기간) 한 행을 조회한다. (요청마다 결과를 합산·파싱하지 않음)
+ */
 @Entity
 @Getter
-@Setter
 @NoArgsConstructor
-@Table(name = "lotto_simulation_stats")
+@Table(name = "lotto_simulation_stats",
+            uniqueConstraints = @UniqueConstraint(columnNames = {"strategy_type", "period"}))
 public class LottoSimulationStats {
 
       @Id
       @GeneratedValue(strategy = GenerationType.IDENTITY)
       private Long id;
 
-      @ManyToOne(fetch = FetchType.LAZY)
-      @JoinColumn(name = "rule_id")
-      private LottoRule rule;
-
-      private Long totalSimulations = 0L;
-      private Long totalWins = 0L;
-      private Double winRate = 0.0;
-
-      // Store distribution of wins (e.g., "5th:10, 4th:2...") ideally in JSON or
-      // separate table
-      // For simplicity stringified JSON or CSV
-      private String rankDistribution;
-
-      public void updateStats(long wins, long simulations) {
-            this.totalSimulations += simulations;
-            this.totalWins += wins;
-            if (this.totalSimulations > 0) {
-                  this.winRate = (double) this.totalWins / this.totalSimulations * 100.0;
-            }
+      @Column(name = "strategy_type", nullable = false, length = 30)
+      private String strategyType;
+
+      @Enumerated(EnumType.STRING)
+      @Column(nullable = false, length = 20)
+      private LottoStatsPeriod period;
+
+      // 집계 구간 [fromDrawNo, toDrawNo] - toDrawNo는 집계 시점의 최신 회차
+      @Column(nullable = false)
+      private Integer fromDrawNo;
+
+      @Column(nullable = false)
+      private Integer toDrawNo;
+
+      // 구간 안에서 시뮬레이션된 회차 수
+      @Column(nullable = false)
+      private Long totalDraws;
+
+      @Column(nullable = false)
+      private Long totalTickets;
+
+      @Column(nullable = false)
+      private Long rank1Count;
+
+      @Column(nullable = false)
+      private Long rank2Count;
+
+      @Column(nullable = false)
+      private Long rank3Count;
+
+      @Column(nullable = false)
+      private Long rank4Count;
+
+      @Column(nullable = false)
+      private Long rank5Count;
+
+      @Column(nullable = false)
+      private Long totalPrize;
+
+      private LocalDateTime updatedAt;
+
+      @Builder
+      public LottoSimulationStats(String strategyType, LottoStatsPeriod period, Integer fromDrawNo, Integer toDrawNo,
+                  Long totalDraws, Long totalTickets, Long rank1Count, Long rank2Count, Long rank3Count,
+                  Long rank4Count, Long rank5Count, Long totalPrize) {
+            this.strategyType = strategyType;
+            this.period = period;
+            this.fromDrawNo = fromDrawNo;
+            this.toDrawNo = toDrawNo;
+            this.totalDraws = totalDraws != null ? totalDraws : 0L;
+            this.totalTickets = totalTickets != null ? totalTickets : 0L;
+            this.rank1Count = rank1Count != null ? rank1Count : 0L;
+            this.rank2Count = rank2Count != null ? rank2Count : 0L;
+            this.rank3Count = rank3Count != null ? rank3Count : 0L;
+            this.rank4Count = rank4Count != null ? rank4Count : 0L;
+            this.rank5Count = rank5Count != null ? rank5Count : 0L;
+            this.totalPrize = totalPrize != null ? totalPrize : 0L;
+            this.updatedAt = LocalDateTime.now();
+      }
+
+      public long getTotalWins() {
+            return rank1Count + rank2Count + rank3Count + rank4Count + rank5Count;
+      }
+
+      public double getWinRate() {
+            return totalTickets > 0 ? (double) getTotalWins() / totalTickets * 100.0 : 0.0;
       }
 }
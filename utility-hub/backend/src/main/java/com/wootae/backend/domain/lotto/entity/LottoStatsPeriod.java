@@ -0,0 +1,34 @@
+package com.wootae.backend.domain.lotto.entity;
+
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 규칙 통계 기간 - 매주 1회 추첨이므로 최근 N주 = 최신 회차부터 N개 회차
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LottoStatsPeriod {
+      RECENT_4_WEEKS(4),
+      RECENT_8_WEEKS(8),
+      ALL_TIME(0);
+
+      // 0이면 전체 회차
+      private final int draws;
+
+      public static LottoStatsPeriod from(String value) {
+            for (LottoStatsPeriod period : values()) {
+                  if (period.name().equals(value)) return period;
+            }
+            throw new BusinessException(ErrorCode.LOTTO_INVALID_PERIOD);
+      }
+
+      /**
+       * latestDrawNo 기준 기간의 첫 회차
+       */
+      public int fromDrawNo(int latestDrawNo) {
+            return draws == 0 ? 1 : Math.max(1, latestDrawNo - draws + 1);
+      }
+}
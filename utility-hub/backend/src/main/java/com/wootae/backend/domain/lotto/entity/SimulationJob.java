@@ -17,7 +17,7 @@ public class SimulationJob {
       private Long id;
 
       @Column(nullable = false, length = 20)
-      private String status; // RUNNING, COMPLETED, FAILED, PAUSED
+      private String status; // QUEUED, RUNNING, COMPLETED, FAILED, PAUSED, CANCELLED
 
       @Column(nullable = false)
       private Integer totalTasks;
@@ -37,16 +37,72 @@ public class SimulationJob {
       @Column(columnDefinition = "TEXT")
       private String errorMessage;
 
-      public static SimulationJob create(int totalTasks) {
+      // 난수 시드 - 같은 시드로 재실행하면 동일한 결과 (미지정 시 작업 ID)
+      private Long seed;
+
+      private Integer ticketsPerDraw;
+
+      // 제출 시점에 해석된 대상 전략 (쉼표 구분, 정렬) - 체크포인트 청크 순서의 기준 (null이면 이전 버전 작업의 전체)
+      @Column(length = 1000)
+      private String strategyTypes;
+
+      // 제출 시점의 최신 회차 - 재개해도 작업 범위가 바뀌지 않도록 고정
+      private Integer maxDrawNo;
+
+      private Integer chunkSize;
+
+      // 완료된 청크 BitSet (Base64)
+      @Column(columnDefinition = "TEXT")
+      private String completedChunks;
+
+      private LocalDateTime createdAt;
+
+      /**
+       * 대기열에 넣을 작업 생성 (실행은 스케줄러가 시작)
+       */
+      public static SimulationJob queue(int totalTasks, int ticketsPerDraw, String strategyTypes,
+                  int maxDrawNo, int chunkSize, Long seed) {
             SimulationJob job = new SimulationJob();
-            job.status = "RUNNING";
+            job.status = "QUEUED";
             job.totalTasks = totalTasks;
             job.completedTasks = 0;
-            job.startedAt = LocalDateTime.now();
+            job.ticketsPerDraw = ticketsPerDraw;
+            job.strategyTypes = strategyTypes;
+            job.maxDrawNo = maxDrawNo;
+            job.chunkSize = chunkSize;
+            job.seed = seed;
+            job.createdAt = LocalDateTime.now();
             return job;
       }
 
-      public void updateProgress(String strategyType, int drawNo, int completedTasks) {
+      public void start() {
+            this.status = "RUNNING";
+            this.errorMessage = null;
+            if (this.startedAt == null) this.startedAt = LocalDateTime.now();
+      }
+
+      public void requeue() {
+            this.status = "QUEUED";
+      }
+
+      public void cancel() {
+            this.status = "CANCELLED";
+            this.completedAt = LocalDateTime.now();
+      }
+
+      public boolean isFinished() {
+            return "COMPLETED".equals(status) || "FAILED".equals(status) || "CANCELLED".equals(status);
+      }
+
+      public void updateCheckpoint(String completedChunks) {
+            this.completedChunks = completedChunks;
+      }
+
+      public void assignSeed(long seed) {
+            this.seed = seed;
+      }
+
+      public void updateProgress(String strategyType, Integer drawNo, int completedTasks) {
             this.currentStrategy = strategyType;
             this.currentDrawNo = drawNo;
             this.completedTasks = completedTasks;
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Table(name = "simulation_results",
-            uniqueConstraints = @UniqueConstraint(columnNames = {"strategy_type", "draw_no"}))
+            uniqueConstraints = @UniqueConstraint(columnNames = {"strategy_type", "draw_no"}),
+            indexes = @Index(name = "idx_simulation_results_draw_no", columnList = "draw_no"))
 public class SimulationResult {
 
       @Id
@@ -0,0 +1,54 @@
+package com.wootae.backend.domain.lotto.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전략별 시뮬레이션 누적 집계
+ *
+ * 결과 저장과 같은 트랜잭션에서 SimulationResultWriter가 증분 갱신한다. (요약 조회 시 결과 전체를 읽지 않음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "simulation_strategy_aggregates")
+public class SimulationStrategyAggregate {
+
+      @Id
+      @Column(name = "strategy_type", length = 30)
+      private String strategyType;
+
+      // 집계된 결과(회차) 수
+      @Column(nullable = false)
+      private Long totalDraws;
+
+      @Column(nullable = false)
+      private Long totalTickets;
+
+      @Column(nullable = false)
+      private Long rank1Count;
+
+      @Column(nullable = false)
+      private Long rank2Count;
+
+      @Column(nullable = false)
+      private Long rank3Count;
+
+      @Column(nullable = false)
+      private Long rank4Count;
+
+      @Column(nullable = false)
+      private Long rank5Count;
+
+      @Column(nullable = false)
+      private Long totalPrize;
+
+      private LocalDateTime updatedAt;
+
+      public long getTotalWins() {
+            return rank1Count + rank2Count + rank3Count + rank4Count + rank5Count;
+      }
+}
@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "user_ticket_history")
+@Table(name = "user_ticket_history",
+            indexes = {
+                        @Index(name = "idx_user_ticket_history_draw_pending", columnList = "draw_id, rank_result, id"),
+                        @Index(name = "idx_user_ticket_history_user", columnList = "user_id, id")
+            })
 public class UserTicketHistory {
 
       @Id
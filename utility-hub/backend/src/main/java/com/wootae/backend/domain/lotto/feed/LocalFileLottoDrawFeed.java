@@ -0,0 +1,52 @@
+package com.wootae.backend.domain.lotto.feed;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 로컬 XLSX 파일 공급원 - 디렉터리의 최신 "회차별 당첨번호" 파일에서 회차를 찾는다.
+ * 새 파일을 내려받아 두면 다음 조회부터 반영된다.
+ */
+@Slf4j
+@Component
+public class LocalFileLottoDrawFeed implements LottoDrawFeed {
+
+      private final Path path;
+
+      public LocalFileLottoDrawFeed(@Value("${lotto.draw-feed.path:data}") String path) {
+            this.path = Path.of(path);
+      }
+
+      @Override
+      public String getName() {
+            return "FILE";
+      }
+
+      @Override
+      public Optional<LottoDraw> fetch(int drawNo) {
+            try {
+                  Optional<Path> file = LottoDrawXlsxReader.latestIn(path);
+                  if (file.isEmpty()) {
+                        log.warn("추첨 데이터 파일이 없습니다: {}", path.toAbsolutePath());
+                        return Optional.empty();
+                  }
+
+                  try (LottoDrawXlsxReader reader = LottoDrawXlsxReader.open(file.get())) {
+                        LottoDraw draw;
+                        while ((draw = reader.next()) != null) {
+                              if (draw.getDrwNo() == drawNo) return Optional.of(draw);
+                        }
+                  }
+                  return Optional.empty();
+            } catch (IOException e) {
+                  log.warn("추첨 데이터 파일을 읽을 수 없습니다: {}", path.toAbsolutePath(), e);
+                  return Optional.empty();
+            }
+      }
+}
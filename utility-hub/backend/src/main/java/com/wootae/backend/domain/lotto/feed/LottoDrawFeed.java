@@ -0,0 +1,21 @@
+package com.wootae.backend.domain.lotto.feed;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+
+import java.util.Optional;
+
+/**
+ * 추첨 결과 공급원 (주간 스케줄러가 새 회차를 가져올 때 사용)
+ *
+ * 기본 구현은 로컬 XLSX 파일({@link LocalFileLottoDrawFeed})이며,
+ * 외부 API 등 다른 공급원은 이 인터페이스를 구현한 @Primary 빈으로 교체한다.
+ */
+public interface LottoDrawFeed {
+
+      String getName();
+
+      /**
+       * 특정 회차 추첨 결과 (아직 발표 전이거나 공급원에 없으면 empty)
+       */
+      Optional<LottoDraw> fetch(int drawNo);
+}
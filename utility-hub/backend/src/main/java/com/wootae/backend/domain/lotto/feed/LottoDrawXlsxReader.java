@@ -0,0 +1,348 @@
+package com.wootae.backend.domain.lotto.feed;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 동행복권 "회차별 당첨번호" XLSX 스트리밍 리더
+ *
+ * 워크북 전체를 메모리에 올리지 않고 첫 시트 XML을 StAX로 한 행씩 읽어 LottoDraw로 변환한다.
+ * (공유 문자열 표만 메모리에 적재)
+ * 헤더 행의 "회차", "당첨번호"(6칸), "보너스", "당첨게임수", "1게임당 당첨금액" 열을 찾아 사용하고,
+ * "순위" 열이 있으면 1등 행만 읽는다. 파일에 추첨일이 없어 1회(2002-12-07)부터 주 단위로 계산한다.
+ */
+public final class LottoDrawXlsxReader implements Closeable {
+
+      public static final LocalDate FIRST_DRAW_DATE = LocalDate.of(2002, 12, 7);
+
+      private static final String DRAW_NO = "회차";
+      private static final String NUMBERS = "당첨번호";
+      private static final String BONUS = "보너스";
+      private static final String WINNERS = "당첨게임수";
+      private static final String PRIZE = "1게임당 당첨금액";
+      private static final String RANK = "순위";
+      private static final String FIRST_RANK = "1등";
+
+      private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+      private final FileSystem zip;
+      private final InputStream sheetStream;
+      private final XMLStreamReader sheet;
+      private final List<String> sharedStrings;
+      private Map<String, Integer> columns;
+      private int rowNo;
+
+      private LottoDrawXlsxReader(FileSystem zip) throws IOException, XMLStreamException {
+            this.zip = zip;
+            this.sharedStrings = readSharedStrings(zip);
+            this.sheetStream = Files.newInputStream(entry(zip, firstSheetPath(zip)));
+            this.sheet = XML_INPUT_FACTORY.createXMLStreamReader(sheetStream);
+      }
+
+      public static LottoDrawXlsxReader open(Path path) throws IOException {
+            FileSystem zip = FileSystems.newFileSystem(path);
+            try {
+                  return new LottoDrawXlsxReader(zip);
+            } catch (IOException | XMLStreamException | RuntimeException e) {
+                  zip.close();
+                  throw e instanceof IOException io ? io : new IOException("XLSX 형식이 아닙니다: " + path, e);
+            }
+      }
+
+      /**
+       * 디렉터리에서 가장 최근 파일 (파일명에 내려받은 시각이 붙으므로 이름순 마지막) - 파일 경로면 그대로
+       */
+      public static Optional<Path> latestIn(Path path) throws IOException {
+            if (!Files.isDirectory(path)) return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+            try (Stream<Path> files = Files.list(path)) {
+                  return files.filter(file -> file.getFileName().toString().toLowerCase().endsWith(".xlsx"))
+                              .max(Comparator.comparing(file -> file.getFileName().toString()));
+            }
+      }
+
+      public static LocalDate drawDateOf(int drawNo) {
+            return FIRST_DRAW_DATE.plusWeeks(drawNo - 1L);
+      }
+
+      /**
+       * 다음 회차 (없으면 null) - 파일의 행 순서대로 반환
+       */
+      public LottoDraw next() throws IOException {
+            try {
+                  String[] cells;
+                  while ((cells = nextRow()) != null) {
+                        if (columns == null) {
+                              columns = headerColumns(cells);
+                              continue;
+                        }
+                        LottoDraw draw = toDraw(cells);
+                        if (draw != null) return draw;
+                  }
+                  if (columns == null) throw new IOException("헤더 행(" + DRAW_NO + ")을 찾을 수 없습니다.");
+                  return null;
+            } catch (XMLStreamException e) {
+                  throw new IOException("시트를 읽을 수 없습니다. (" + rowNo + "행)", e);
+            }
+      }
+
+      @Override
+      public void close() throws IOException {
+            try {
+                  sheet.close();
+            } catch (XMLStreamException ignored) {
+                  // 스트림 닫기 실패는 무시하고 파일은 닫는다
+            } finally {
+                  try {
+                        sheetStream.close();
+                  } finally {
+                        zip.close();
+                  }
+            }
+      }
+
+      /**
+       * 다음 행의 셀 값 (열 인덱스 0부터, 빈 셀은 null)
+       */
+      private String[] nextRow() throws XMLStreamException {
+            List<String> cells = null;
+            int column = -1;
+            String type = null;
+            StringBuilder value = null;
+            while (sheet.hasNext()) {
+                  int event = sheet.next();
+                  if (event == XMLStreamConstants.START_ELEMENT) {
+                        switch (sheet.getLocalName()) {
+                              case "row" -> {
+                                    cells = new ArrayList<>();
+                                    rowNo++;
+                              }
+                              case "c" -> {
+                                    column = columnIndex(sheet.getAttributeValue(null, "r"), cells.size());
+                                    type = sheet.getAttributeValue(null, "t");
+                                    value = new StringBuilder();
+                              }
+                              case "v", "t" -> {
+                                    if (value != null) value.append(sheet.getElementText());
+                              }
+                              default -> { }
+                        }
+                  } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        switch (sheet.getLocalName()) {
+                              case "c" -> {
+                                    while (cells.size() <= column) cells.add(null);
+                                    cells.set(column, cellValue(type, value.toString()));
+                                    value = null;
+                              }
+                              case "row" -> {
+                                    return cells.toArray(new String[0]);
+                              }
+                              default -> { }
+                        }
+                  }
+            }
+            return null;
+      }
+
+      private String cellValue(String type, String raw) {
+            if ("s".equals(type)) return sharedStrings.get(Integer.parseInt(raw.trim()));
+            return raw;
+      }
+
+      private static Map<String, Integer> headerColumns(String[] cells) {
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < cells.length; i++) {
+                  if (cells[i] != null && !cells[i].isBlank()) columns.putIfAbsent(cells[i].trim(), i);
+            }
+            for (String required : List.of(DRAW_NO, NUMBERS, BONUS)) {
+                  if (!columns.containsKey(required)) return null;
+            }
+            return columns;
+      }
+
+      private LottoDraw toDraw(String[] cells) throws IOException {
+            Integer rankColumn = columns.get(RANK);
+            if (rankColumn != null && !FIRST_RANK.equals(trim(cell(cells, rankColumn)))) return null;
+
+            String drawNoText = trim(cell(cells, columns.get(DRAW_NO)));
+            if (drawNoText == null) return null;
+
+            try {
+                  int drawNo = (int) parseNumber(drawNoText);
+                  int numbersColumn = columns.get(NUMBERS);
+                  int[] numbers = new int[6];
+                  for (int i = 0; i < numbers.length; i++) {
+                        numbers[i] = (int) parseNumber(cell(cells, numbersColumn + i));
+                  }
+                  int bonus = (int) parseNumber(cell(cells, columns.get(BONUS)));
+                  return new LottoDraw(drawNo, drawDateOf(drawNo),
+                              numbers[0], numbers[1], numbers[2], numbers[3], numbers[4], numbers[5], bonus,
+                              optionalNumber(cells, PRIZE), optionalNumber(cells, WINNERS));
+            } catch (NumberFormatException e) {
+                  throw new IOException(rowNo + "행 값을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+      }
+
+      private Long optionalNumber(String[] cells, String header) {
+            Integer column = columns.get(header);
+            String text = column != null ? trim(cell(cells, column)) : null;
+            return text != null ? parseNumber(text) : null;
+      }
+
+      /**
+       * "1,371,910,466 원", "22 명", "1209" 형식의 숫자 (숫자 외 문자는 무시)
+       */
+      static long parseNumber(String text) {
+            if (text == null) throw new NumberFormatException("빈 셀");
+            long value = 0;
+            int digits = 0;
+            for (int i = 0; i < text.length(); i++) {
+                  char ch = text.charAt(i);
+                  if (ch == '.') break; // 숫자 셀이 "7.0" 형식으로 저장된 경우
+                  if (ch >= '0' && ch <= '9') {
+                        value = value * 10 + (ch - '0');
+                        digits++;
+                  }
+            }
+            if (digits == 0) throw new NumberFormatException(text);
+            return value;
+      }
+
+      private static String cell(String[] cells, int column) {
+            return column < cells.length ? cells[column] : null;
+      }
+
+      private static String trim(String text) {
+            if (text == null) return null;
+            String trimmed = text.trim();
+            return trimmed.isEmpty() ? null : trimmed;
+      }
+
+      // "AB12" -> 27 (참조가 없으면 직전 셀 다음 열)
+      private static int columnIndex(String reference, int fallback) {
+            if (reference == null) return fallback;
+            int index = 0;
+            for (int i = 0; i < reference.length(); i++) {
+                  char ch = reference.charAt(i);
+                  if (ch < 'A' || ch > 'Z') break;
+                  index = index * 26 + (ch - 'A' + 1);
+            }
+            return index - 1;
+      }
+
+      private static List<String> readSharedStrings(FileSystem zip) throws IOException, XMLStreamException {
+            List<String> strings = new ArrayList<>();
+            Path entry = zip.getPath("xl/sharedStrings.xml");
+            if (!Files.exists(entry)) return strings;
+
+            try (InputStream in = Files.newInputStream(entry)) {
+                  XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+                  StringBuilder current = null;
+                  boolean phonetic = false;
+                  while (reader.hasNext()) {
+                        int event = reader.next();
+                        if (event == XMLStreamConstants.START_ELEMENT) {
+                              switch (reader.getLocalName()) {
+                                    case "si" -> current = new StringBuilder();
+                                    case "rPh" -> phonetic = true;
+                                    case "t" -> {
+                                          String text = reader.getElementText();
+                                          if (current != null && !phonetic) current.append(text);
+                                    }
+                                    default -> { }
+                              }
+                        } else if (event == XMLStreamConstants.END_ELEMENT) {
+                              switch (reader.getLocalName()) {
+                                    case "si" -> {
+                                          strings.add(current.toString());
+                                          current = null;
+                                    }
+                                    case "rPh" -> phonetic = false;
+                                    default -> { }
+                              }
+                        }
+                  }
+                  reader.close();
+            }
+            return strings;
+      }
+
+      /**
+       * workbook.xml의 첫 시트 → workbook.xml.rels의 대상 경로
+       */
+      private static String firstSheetPath(FileSystem zip) throws IOException, XMLStreamException {
+            String relationId = firstAttribute(zip, "xl/workbook.xml", "sheet", "id");
+            if (relationId == null) return "xl/worksheets/sheet1.xml";
+
+            try (InputStream in = Files.newInputStream(entry(zip, "xl/_rels/workbook.xml.rels"))) {
+                  XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+                  while (reader.hasNext()) {
+                        if (reader.next() == XMLStreamConstants.START_ELEMENT
+                                    && "Relationship".equals(reader.getLocalName())
+                                    && relationId.equals(reader.getAttributeValue(null, "Id"))) {
+                              String target = reader.getAttributeValue(null, "Target");
+                              reader.close();
+                              return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+                        }
+                  }
+                  reader.close();
+            }
+            throw new IOException("시트 경로를 찾을 수 없습니다: " + relationId);
+      }
+
+      // 네임스페이스와 무관하게 첫 element의 attribute (r:id 등)
+      private static String firstAttribute(FileSystem zip, String path, String element, String attribute)
+                  throws IOException, XMLStreamException {
+            try (InputStream in = Files.newInputStream(entry(zip, path))) {
+                  XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+                  try {
+                        while (reader.hasNext()) {
+                              if (reader.next() == XMLStreamConstants.START_ELEMENT
+                                          && element.equals(reader.getLocalName())) {
+                                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                                          if (attribute.equals(reader.getAttributeLocalName(i))
+                                                      && reader.getAttributeNamespace(i) != null) {
+                                                return reader.getAttributeValue(i);
+                                          }
+                                    }
+                                    return null;
+                              }
+                        }
+                        return null;
+                  } finally {
+                        reader.close();
+                  }
+            }
+      }
+
+      private static Path entry(FileSystem zip, String path) throws IOException {
+            Path entry = zip.getPath(path);
+            if (!Files.exists(entry)) throw new IOException("XLSX 항목이 없습니다: " + path);
+            return entry;
+      }
+
+      private static XMLInputFactory createInputFactory() {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            return factory;
+      }
+}
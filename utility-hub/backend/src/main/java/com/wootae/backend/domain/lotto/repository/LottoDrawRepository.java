@@ -28,4 +28,7 @@ public interface LottoDrawRepository extends JpaRepository<LottoDraw, Integer> {
       // 최근 N회차 조회 (Pageable 없이)
       @Query("SELECT l FROM LottoDraw l ORDER BY l.drwNo DESC LIMIT :limit")
       List<LottoDraw> findRecentDraws(@Param("limit") int limit);
+
+      // 마지막으로 적재한 회차 이후 회차 (LottoDrawStore 증분 갱신용)
+      List<LottoDraw> findByDrwNoGreaterThanOrderByDrwNoAsc(int drwNo);
 }
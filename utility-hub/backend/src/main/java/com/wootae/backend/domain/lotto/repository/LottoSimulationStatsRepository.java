@@ -1,6 +1,7 @@
 package com.wootae.backend.domain.lotto.repository;
 
 import com.wootae.backend.domain.lotto.entity.LottoSimulationStats;
+import com.wootae.backend.domain.lotto.entity.LottoStatsPeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +9,7 @@ import java.util.Optional;
 
 @Repository
 public interface LottoSimulationStatsRepository extends JpaRepository<LottoSimulationStats, Long> {
-      Optional<LottoSimulationStats> findByRuleId(Long ruleId);
+
+      // (strategy_type, period) 유니크 인덱스로 한 행 조회
+      Optional<LottoSimulationStats> findByStrategyTypeAndPeriod(String strategyType, LottoStatsPeriod period);
 }
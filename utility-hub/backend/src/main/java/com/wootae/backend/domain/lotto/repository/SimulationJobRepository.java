@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +14,10 @@ public interface SimulationJobRepository extends JpaRepository<SimulationJob, Lo
       @Query("SELECT j FROM SimulationJob j WHERE j.status = 'RUNNING' ORDER BY j.startedAt DESC LIMIT 1")
       Optional<SimulationJob> findRunningJob();
 
-      @Query("SELECT j FROM SimulationJob j ORDER BY j.startedAt DESC LIMIT 1")
+      @Query("SELECT j FROM SimulationJob j ORDER BY j.id DESC LIMIT 1")
       Optional<SimulationJob> findLatestJob();
+
+      List<SimulationJob> findByStatusInOrderByIdAsc(List<String> statuses);
+
+      List<SimulationJob> findTop50ByOrderByIdDesc();
 }
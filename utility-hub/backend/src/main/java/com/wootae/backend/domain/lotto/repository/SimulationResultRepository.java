@@ -3,6 +3,7 @@ package com.wootae.backend.domain.lotto.repository;
 import com.wootae.backend.domain.lotto.entity.SimulationResult;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,11 +21,31 @@ public interface SimulationResultRepository extends JpaRepository<SimulationResu
       @Query("SELECT DISTINCT r.strategyType FROM SimulationResult r")
       List<String> findDistinctStrategyTypes();
 
+      // 완료된 (전략, 회차) 목록 - 재시작 시 건너뛰기 판단용 (엔티티 로딩 없이 두 컬럼만)
+      @Query("SELECT r.strategyType AS strategyType, r.drawNo AS drawNo FROM SimulationResult r")
+      List<CompletedTask> findAllCompletedTasks();
+
+      @Query("SELECT r.strategyType FROM SimulationResult r WHERE r.drawNo = :drawNo")
+      List<String> findStrategyTypesByDrawNo(@Param("drawNo") Integer drawNo);
+
       void deleteByStrategyType(String strategyType);
 
-      // 특정 회차 + 전략 결과 조회 (주간 랭킹 계산용)
+      // 특정 회차 + 전략 결과 조회
       Optional<SimulationResult> findByStrategyTypeAndDrawNo(String strategyType, Integer drawNo);
 
       // 특정 회차의 모든 전략 결과 조회
       List<SimulationResult> findByDrawNo(Integer drawNo);
+
+      // 전략의 회차 구간 결과 조회 ((strategy_type, draw_no) 유니크 인덱스 구간 조회)
+      List<SimulationResult> findByStrategyTypeAndDrawNoBetweenOrderByDrawNoAsc(
+                  String strategyType, Integer fromDrawNo, Integer toDrawNo);
+
+      // 회차 구간의 모든 전략 결과 조회 (주간 랭킹 일괄 계산용)
+      List<SimulationResult> findByDrawNoBetween(Integer fromDrawNo, Integer toDrawNo);
+
+      interface CompletedTask {
+            String getStrategyType();
+
+            Integer getDrawNo();
+      }
 }
@@ -0,0 +1,13 @@
+package com.wootae.backend.domain.lotto.repository;
+
+import com.wootae.backend.domain.lotto.entity.SimulationStrategyAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SimulationStrategyAggregateRepository extends JpaRepository<SimulationStrategyAggregate, String> {
+
+      List<SimulationStrategyAggregate> findAllByOrderByStrategyTypeAsc();
+}
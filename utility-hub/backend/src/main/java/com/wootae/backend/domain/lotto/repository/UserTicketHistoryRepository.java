@@ -11,17 +11,30 @@ import java.util.List;
 @Repository
 public interface UserTicketHistoryRepository extends JpaRepository<UserTicketHistory, Long> {
 
-      List<UserTicketHistory> findByUserIdOrderByCreatedAtDesc(Long userId);
-
-      @Query("SELECT COUNT(h) FROM UserTicketHistory h WHERE h.user.id = :userId")
-      Long countByUserId(@Param("userId") Long userId);
-
-      @Query("SELECT COUNT(h) FROM UserTicketHistory h WHERE h.user.id = :userId AND h.rankResult IS NOT NULL AND h.rankResult > 0")
-      Long countWinsByUserId(@Param("userId") Long userId);
-
-      @Query("SELECT MIN(h.rankResult) FROM UserTicketHistory h WHERE h.user.id = :userId AND h.rankResult IS NOT NULL AND h.rankResult > 0")
-      Integer findBestRankByUserId(@Param("userId") Long userId);
-
-      @Query("SELECT COALESCE(SUM(h.prize), 0) FROM UserTicketHistory h WHERE h.user.id = :userId AND h.prize IS NOT NULL")
-      Long sumPrizeByUserId(@Param("userId") Long userId);
+      /**
+       * 사용자 통계 집계 결과 (티켓이 없으면 개수·당첨금 0, bestRank null)
+       */
+      interface UserStatsView {
+            Long getTotalTickets();
+
+            Long getTotalWins();
+
+            Integer getBestRank();
+
+            Long getTotalPrize();
+      }
+
+      // 티켓 수·당첨 수·최고 등수·당첨금 합계를 한 번의 조회로 집계 (user_id 인덱스 범위 스캔)
+      @Query("SELECT COUNT(h) AS totalTickets, "
+                  + "COALESCE(SUM(CASE WHEN h.rankResult > 0 THEN 1 ELSE 0 END), 0) AS totalWins, "
+                  + "MIN(CASE WHEN h.rankResult > 0 THEN h.rankResult END) AS bestRank, "
+                  + "COALESCE(SUM(h.prize), 0) AS totalPrize "
+                  + "FROM UserTicketHistory h WHERE h.user.id = :userId")
+      UserStatsView aggregateStatsByUserId(@Param("userId") Long userId);
+
+      // 키셋 페이지 - cursor(id)보다 오래된 기록을 최신순으로 limit개
+      @Query("SELECT h FROM UserTicketHistory h WHERE h.user.id = :userId AND h.id < :cursor "
+                  + "ORDER BY h.id DESC LIMIT :limit")
+      List<UserTicketHistory> findHistoryPage(@Param("userId") Long userId, @Param("cursor") Long cursor,
+                  @Param("limit") int limit);
 }
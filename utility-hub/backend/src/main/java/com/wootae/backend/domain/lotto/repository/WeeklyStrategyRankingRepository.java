@@ -25,19 +25,8 @@ public interface WeeklyStrategyRankingRepository extends JpaRepository<WeeklyStr
       @Query("SELECT MAX(r.drawNo) FROM WeeklyStrategyRanking r")
       Optional<Integer> findLatestRankedDrawNo();
 
-      // 특정 전략의 최근 N회차 주간 점수 조회 (가중 평균 계산용)
-      @Query("SELECT r FROM WeeklyStrategyRanking r WHERE r.strategyType = :strategyType " +
-                  "AND r.drawNo <= :drawNo ORDER BY r.drawNo DESC")
-      List<WeeklyStrategyRanking> findRecentRankings(
-                  @Param("strategyType") String strategyType,
-                  @Param("drawNo") Integer drawNo);
-
-      // 이전 회차의 특정 전략 순위 조회
-      @Query("SELECT r.rankPosition FROM WeeklyStrategyRanking r " +
-                  "WHERE r.strategyType = :strategyType AND r.drawNo = :drawNo")
-      Optional<Integer> findRankByStrategyTypeAndDrawNo(
-                  @Param("strategyType") String strategyType,
-                  @Param("drawNo") Integer drawNo);
+      // 회차 구간의 모든 랭킹 (일괄 랭킹 계산의 4주 가중 평균·이전 순위용)
+      List<WeeklyStrategyRanking> findByDrawNoBetween(Integer fromDrawNo, Integer toDrawNo);
 
       // 특정 회차의 Top N 랭킹
       @Query("SELECT r FROM WeeklyStrategyRanking r WHERE r.drawNo = :drawNo " +
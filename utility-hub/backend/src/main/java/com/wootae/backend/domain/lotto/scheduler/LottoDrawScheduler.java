@@ -2,8 +2,11 @@ package com.wootae.backend.domain.lotto.scheduler;
 
 import com.wootae.backend.domain.lotto.entity.LottoDraw;
 import com.wootae.backend.domain.lotto.entity.WeeklyStrategyRanking;
-import com.wootae.backend.domain.lotto.repository.LottoDrawRepository;
+import com.wootae.backend.domain.lotto.service.CombinationHistoryIndex;
+import com.wootae.backend.domain.lotto.service.LottoDrawIngestService;
+import com.wootae.backend.domain.lotto.service.LottoDrawStore;
 import com.wootae.backend.domain.lotto.service.SimulationService;
+import com.wootae.backend.domain.lotto.service.UserTicketSettlementService;
 import com.wootae.backend.domain.lotto.service.WeeklyRankingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,18 +22,23 @@ import java.util.Optional;
  *
  * 동작 흐름:
  * 1. 매주 토요일 21:30 KST (추첨 완료 후) 실행
- * 2. 최신 추첨 데이터 확인
- * 3. 해당 회차 주간 시뮬레이션 실행 (모든 전략 × 10만장)
- * 4. 주간 랭킹 계산 및 저장
+ * 2. 추첨 결과 공급원에서 새 회차를 가져와 검증·저장 후 최신 회차 확인
+ * 3. 해당 회차 사용자 구매 티켓 일괄 정산
+ * 4. 해당 회차 주간 시뮬레이션 실행 (모든 전략 × 10만장)
+ * 5. 주간 랭킹 계산 및 저장
+ * 6. 조합 이력 인덱스에 새 회차 반영
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LottoDrawScheduler {
 
-      private final LottoDrawRepository lottoDrawRepository;
+      private final LottoDrawStore lottoDrawStore;
+      private final LottoDrawIngestService lottoDrawIngestService;
+      private final UserTicketSettlementService userTicketSettlementService;
       private final SimulationService simulationService;
       private final WeeklyRankingService weeklyRankingService;
+      private final CombinationHistoryIndex combinationHistoryIndex;
 
       @Value("${lotto.simulation.tickets-per-draw:100000}")
       private int ticketsPerDraw;
@@ -52,8 +60,9 @@ public class LottoDrawScheduler {
             log.info("=== 주간 자동 시뮬레이션 & 랭킹 갱신 시작 ===");
 
             try {
-                  // 1. 최신 추첨 회차 확인
-                  Optional<LottoDraw> latestDrawOpt = lottoDrawRepository.findLatestDraw();
+                  // 1. 새 회차 적재 후 최신 추첨 회차 확인 (공급원에 아직 없으면 기존 최신 회차로 진행)
+                  lottoDrawIngestService.ingestNextDraw();
+                  Optional<LottoDraw> latestDrawOpt = lottoDrawStore.latest();
                   if (latestDrawOpt.isEmpty()) {
                         log.warn("추첨 데이터가 없습니다. 스킵합니다.");
                         return;
@@ -62,12 +71,18 @@ public class LottoDrawScheduler {
                   int latestDrawNo = latestDrawOpt.get().getDrwNo();
                   log.info("최신 추첨 회차: {}회", latestDrawNo);
 
-                  // 2. 주간 시뮬레이션 실행
+                  // 2. 사용자 티켓 정산
+                  settleUserTickets(latestDrawNo);
+
+                  // 3. 주간 시뮬레이션 실행
                   runWeeklySimulation(latestDrawNo);
 
-                  // 3. 주간 랭킹 계산
+                  // 4. 주간 랭킹 계산
                   calculateWeeklyRanking(latestDrawNo);
 
+                  // 5. 조합 이력 인덱스 증분 갱신
+                  refreshCombinationIndex();
+
                   log.info("=== 주간 자동 시뮬레이션 & 랭킹 갱신 완료: {}회차 ===", latestDrawNo);
 
             } catch (Exception e) {
@@ -75,6 +90,17 @@ public class LottoDrawScheduler {
             }
       }
 
+      /**
+       * 사용자 구매 티켓 정산 - 실패해도 시뮬레이션/랭킹은 계속 진행 (미정산 티켓은 다음 실행 때 다시 정산)
+       */
+      private void settleUserTickets(int drawNo) {
+            try {
+                  userTicketSettlementService.settle(drawNo);
+            } catch (Exception e) {
+                  log.error("사용자 티켓 정산 실패: {}회차", drawNo, e);
+            }
+      }
+
       /**
        * 주간 시뮬레이션 실행
        */
@@ -107,11 +133,23 @@ public class LottoDrawScheduler {
             }
       }
 
+      /**
+       * 조합 이력 인덱스 갱신 - 실패해도 시뮬레이션/랭킹 결과에는 영향 없음
+       */
+      private void refreshCombinationIndex() {
+            try {
+                  combinationHistoryIndex.refresh();
+            } catch (Exception e) {
+                  log.error("조합 인덱스 갱신 실패", e);
+            }
+      }
+
       /**
        * 수동 실행 메서드 (컨트롤러에서 호출 가능)
        */
       public void manualRun(int drawNo) {
             log.info("수동 실행: {}회차", drawNo);
+            lottoDrawStore.refresh();
             runWeeklySimulation(drawNo);
             calculateWeeklyRanking(drawNo);
       }
@@ -120,15 +158,8 @@ public class LottoDrawScheduler {
        * 과거 회차 일괄 랭킹 계산 (초기 데이터 구축용)
        * 시뮬레이션 결과가 이미 있는 회차에 대해 랭킹만 계산
        */
-      public void backfillRankings(int fromDrawNo, int toDrawNo) {
+      public int backfillRankings(int fromDrawNo, int toDrawNo) {
             log.info("랭킹 백필 시작: {}회차 ~ {}회차", fromDrawNo, toDrawNo);
-
-            int count = 0;
-            for (int drawNo = fromDrawNo; drawNo <= toDrawNo; drawNo++) {
-                  List<WeeklyStrategyRanking> rankings = weeklyRankingService.calculateAndSaveRankings(drawNo);
-                  if (!rankings.isEmpty()) count++;
-            }
-
-            log.info("랭킹 백필 완료: {}개 회차 처리", count);
+            return weeklyRankingService.backfillRankings(fromDrawNo, toDrawNo);
       }
 }
@@ -0,0 +1,185 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 전체 조합(8,145,060개)의 과거 당첨 이력 인덱스
+ *
+ * colex 순위({@link LottoTicket#colexRank})를 키로, 조합마다 등수별 당첨 횟수(1~5등, 포화 byte)와
+ * 최고 등수를 마지막으로 달성한 회차(char)를 7바이트 레코드로 메모리 매핑 파일에 저장한다.
+ * 회차마다 3개 이상 일치하는 조합(194,130개)만 갱신하므로, 새 회차는 기존 인덱스에 이어 붙인다.
+ */
+@Slf4j
+@Component
+public class CombinationHistoryIndex {
+
+      private static final int MAGIC = 0x4C434958; // "LCIX"
+      private static final int VERSION = 1;
+      private static final int HEADER_SIZE = 16;
+      private static final int LAST_DRAW_NO_OFFSET = 8;
+      private static final int DRAW_COUNT_OFFSET = 12;
+      private static final int RECORD_SIZE = 7;
+      private static final int BEST_DRAW_OFFSET = 5;
+      private static final long FILE_SIZE = HEADER_SIZE + (long) LottoTicket.COMBINATION_COUNT * RECORD_SIZE;
+
+      private final LottoDrawStore lottoDrawStore;
+      private final Path path;
+      private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+      private volatile MappedByteBuffer buffer;
+
+      public CombinationHistoryIndex(
+                  LottoDrawStore lottoDrawStore,
+                  @Value("${lotto.combination-index.path:data/combination-index.bin}") String path) {
+            this.lottoDrawStore = lottoDrawStore;
+            this.path = Path.of(path);
+      }
+
+      /**
+       * 티켓의 과거 당첨 이력 요약
+       *
+       * @param rankCounts 등수별 당첨 횟수 (index 1~5, 255에서 포화)
+       * @param bestRank   최고 등수 (당첨 이력이 없으면 0)
+       * @param bestDrawNo 최고 등수를 마지막으로 달성한 회차 (없으면 0)
+       * @param drawCount  인덱스에 반영된 회차 수
+       */
+      public record TicketHistory(int[] rankCounts, int bestRank, int bestDrawNo, int drawCount) {
+      }
+
+      /**
+       * 인덱스 최신화 - 파일이 없거나 형식이 다르면 전체 재구축, 아니면 마지막 반영 회차 이후만 추가
+       *
+       * @return 새로 반영한 회차 수
+       */
+      public int refresh() {
+            lock.writeLock().lock();
+            try {
+                  open();
+                  List<LottoMatchService.WinningMask> newDraws =
+                              lottoDrawStore.winningMasksAfter(buffer.getInt(LAST_DRAW_NO_OFFSET));
+                  if (newDraws.isEmpty()) return 0;
+
+                  // 반영 중 중단되면 다음 실행에서 전체 재구축되도록 MAGIC을 지웠다가 완료 후 기록
+                  long startTime = System.currentTimeMillis();
+                  buffer.putInt(0, 0);
+                  buffer.force();
+                  for (LottoMatchService.WinningMask winning : newDraws) {
+                        apply(winning);
+                  }
+                  buffer.putInt(LAST_DRAW_NO_OFFSET, newDraws.get(newDraws.size() - 1).drawNo());
+                  buffer.putInt(DRAW_COUNT_OFFSET, buffer.getInt(DRAW_COUNT_OFFSET) + newDraws.size());
+                  buffer.putInt(0, MAGIC);
+                  buffer.force();
+
+                  log.info("조합 인덱스 갱신: {}회차 추가 (~{}회), {}ms", newDraws.size(),
+                              buffer.getInt(LAST_DRAW_NO_OFFSET), System.currentTimeMillis() - startTime);
+                  return newDraws.size();
+            } finally {
+                  lock.writeLock().unlock();
+            }
+      }
+
+      /**
+       * 티켓의 과거 당첨 이력 조회 (인덱스가 없으면 먼저 구축)
+       */
+      public TicketHistory history(long ticket) {
+            if (buffer == null) refresh();
+
+            lock.readLock().lock();
+            try {
+                  int offset = offsetOf(LottoTicket.colexRank(ticket));
+                  int[] rankCounts = new int[6];
+                  int bestRank = 0;
+                  for (int rank = 5; rank >= 1; rank--) {
+                        rankCounts[rank] = Byte.toUnsignedInt(buffer.get(offset + rank - 1));
+                        if (rankCounts[rank] > 0) bestRank = rank;
+                  }
+                  return new TicketHistory(rankCounts, bestRank,
+                              buffer.getChar(offset + BEST_DRAW_OFFSET), buffer.getInt(DRAW_COUNT_OFFSET));
+            } finally {
+                  lock.readLock().unlock();
+            }
+      }
+
+      /**
+       * 한 회차 반영 - 당첨 번호와 3개 이상 겹치는 조합만 순회
+       */
+      private void apply(LottoMatchService.WinningMask winning) {
+            long others = LottoTicket.ALL_NUMBERS & ~winning.numbers();
+            for (int matched = 3; matched <= LottoTicket.PICK_COUNT; matched++) {
+                  long[] winningParts = ExactRankCalculator.combinations(winning.numbers(), matched);
+                  long[] otherParts = ExactRankCalculator.combinations(others, LottoTicket.PICK_COUNT - matched);
+                  for (long b : otherParts) {
+                        int rank = ExactRankCalculator.rankOf(matched, (b & winning.bonus()) != 0);
+                        for (long a : winningParts) {
+                              record(offsetOf(LottoTicket.colexRank(a | b)), rank, winning.drawNo());
+                        }
+                  }
+            }
+      }
+
+      private void record(int offset, int rank, int drawNo) {
+            int countOffset = offset + rank - 1;
+            int count = Byte.toUnsignedInt(buffer.get(countOffset));
+            if (count < 255) buffer.put(countOffset, (byte) (count + 1));
+
+            // 더 높은 등수 이력이 없으면 최고 등수 달성 회차 갱신 (회차 오름차순으로 반영)
+            for (int better = 1; better < rank; better++) {
+                  if (buffer.get(offset + better - 1) != 0) return;
+            }
+            buffer.putChar(offset + BEST_DRAW_OFFSET, (char) drawNo);
+      }
+
+      private void open() {
+            if (buffer != null) return;
+            try {
+                  Path parent = path.toAbsolutePath().getParent();
+                  if (parent != null) Files.createDirectories(parent);
+
+                  // 형식이 다른 파일은 지우고 새로 매핑 (새 파일은 0으로 채워짐)
+                  boolean valid = hasValidHeader();
+                  if (!valid) {
+                        log.info("조합 인덱스 초기화: {}", path.toAbsolutePath());
+                        Files.deleteIfExists(path);
+                  }
+
+                  MappedByteBuffer mapped;
+                  try (FileChannel channel = FileChannel.open(path,
+                              StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+                  }
+                  if (!valid) mapped.putInt(4, VERSION);
+                  buffer = mapped;
+            } catch (IOException e) {
+                  throw new UncheckedIOException("조합 인덱스 파일을 열 수 없습니다: " + path, e);
+            }
+      }
+
+      private boolean hasValidHeader() throws IOException {
+            if (!Files.exists(path) || Files.size(path) != FILE_SIZE) return false;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                  ByteBuffer header = ByteBuffer.allocate(8);
+                  channel.read(header, 0);
+                  header.flip();
+                  return header.getInt() == MAGIC && header.getInt() == VERSION;
+            }
+      }
+
+      private static int offsetOf(int colexRank) {
+            return HEADER_SIZE + colexRank * RECORD_SIZE;
+      }
+}
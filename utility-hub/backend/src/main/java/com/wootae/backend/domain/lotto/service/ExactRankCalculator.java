@@ -0,0 +1,124 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 균등 추출 전략({@link LottoStrategy#uniformSupport()})의 정확 등수 분포 계산기
+ *
+ * 조건을 만족하는 전체 조합 수는 전략별로 한 번 열거(8,145,060개)해 캐시하고,
+ * 회차별로는 당첨 번호와 3개 이상 겹치는 조합(194,130개)만 열거해 등수별 조합 수를 센다.
+ */
+@Component
+public class ExactRankCalculator {
+
+      // 전략 타입별 (계산한 전략 인스턴스, 조합 수) - 규칙 스크립트가 바뀌어 다시 컴파일되면 새로 센다
+      private final Map<String, SupportSize> supportSizes = new ConcurrentHashMap<>();
+
+      public boolean supports(LottoStrategy strategy) {
+            return strategy.uniformSupport() != null;
+      }
+
+      /**
+       * 등수별 조합 수 (index 0=미당첨, 1~5=등수, 합계 = 조건을 만족하는 전체 조합 수)
+       */
+      public long[] countRanks(LottoStrategy strategy, LottoMatchService.WinningMask winning) {
+            LongPredicate support = strategy.uniformSupport();
+            long[] counts = new long[6];
+            long others = LottoTicket.ALL_NUMBERS & ~winning.numbers();
+
+            for (int matched = 3; matched <= LottoTicket.PICK_COUNT; matched++) {
+                  long[] winningParts = combinations(winning.numbers(), matched);
+                  long[] otherParts = combinations(others, LottoTicket.PICK_COUNT - matched);
+                  for (long a : winningParts) {
+                        for (long b : otherParts) {
+                              long ticket = a | b;
+                              if (support.test(ticket)) {
+                                    counts[rankOf(matched, (b & winning.bonus()) != 0)]++;
+                              }
+                        }
+                  }
+            }
+
+            long winners = counts[1] + counts[2] + counts[3] + counts[4] + counts[5];
+            counts[0] = supportSize(strategy) - winners;
+            return counts;
+      }
+
+      /**
+       * 티켓 tickets장의 등수별 기댓값
+       */
+      public double[] expectedCounts(LottoStrategy strategy, LottoMatchService.WinningMask winning, int tickets) {
+            long[] counts = countRanks(strategy, winning);
+            double total = supportSize(strategy);
+            double[] expected = new double[counts.length];
+            for (int rank = 0; rank < counts.length; rank++) {
+                  expected[rank] = tickets * (counts[rank] / total);
+            }
+            return expected;
+      }
+
+      /**
+       * 조건을 만족하는 전체 조합 수 (전략별 캐시)
+       */
+      public long supportSize(LottoStrategy strategy) {
+            return supportSizes.compute(strategy.getType(), (type, cached) ->
+                        cached != null && cached.strategy() == strategy ? cached
+                                    : new SupportSize(strategy, countAll(strategy.uniformSupport()))).size();
+      }
+
+      static int rankOf(int matched, boolean bonusMatched) {
+            return switch (matched) {
+                  case 6 -> 1;
+                  case 5 -> bonusMatched ? 2 : 3;
+                  case 4 -> 4;
+                  default -> 5;
+            };
+      }
+
+      private static long countAll(LongPredicate support) {
+            long[] count = new long[1];
+            LottoTicket.forEachCombination(ticket -> {
+                  if (support.test(ticket)) count[0]++;
+                  return true;
+            });
+            return count[0];
+      }
+
+      /**
+       * pool 마스크에서 size개를 고르는 모든 조합
+       */
+      static long[] combinations(long pool, int size) {
+            int[] numbers = LottoTicket.toArray(pool);
+            long[] result = new long[(int) binomial(numbers.length, size)];
+            fill(numbers, size, 0, 0L, result, new int[1]);
+            return result;
+      }
+
+      private static void fill(int[] numbers, int remaining, int from, long partial, long[] result, int[] cursor) {
+            if (remaining == 0) {
+                  result[cursor[0]++] = partial;
+                  return;
+            }
+            for (int i = from; i <= numbers.length - remaining; i++) {
+                  fill(numbers, remaining - 1, i + 1, partial | LottoTicket.bit(numbers[i]), result, cursor);
+            }
+      }
+
+      static long binomial(int n, int k) {
+            if (k < 0 || k > n) return 0;
+            long result = 1;
+            for (int i = 1; i <= k; i++) {
+                  result = result * (n - k + i) / i;
+            }
+            return result;
+      }
+
+      private record SupportSize(LottoStrategy strategy, long size) {
+      }
+}
@@ -0,0 +1,257 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.feed.LottoDrawFeed;
+import com.wootae.backend.domain.lotto.feed.LottoDrawXlsxReader;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 추첨 데이터 적재
+ *
+ * - XLSX 일괄 적재: 파일을 한 행씩 읽어 batchSize 단위로 검증·upsert (배치마다 한 트랜잭션)
+ * - 주간 적재: {@link LottoDrawFeed}에서 다음 회차를 가져와 검증 후 저장
+ * upsert는 배치 회차 범위의 기존 회차를 한 번 조회해 UPDATE/INSERT 배치로 나눈다. (DB 방언 무관)
+ * 저장 후 {@link LottoDrawStore}를 최신화한다.
+ */
+@Slf4j
+@Service
+public class LottoDrawIngestService {
+
+      private static final String EXISTING_SQL = "SELECT drw_no FROM lotto_draws WHERE drw_no BETWEEN ? AND ?";
+
+      private static final String UPDATE_SQL = "UPDATE lotto_draws SET drw_no_date = ?, "
+                  + "drwt_no1 = ?, drwt_no2 = ?, drwt_no3 = ?, drwt_no4 = ?, drwt_no5 = ?, drwt_no6 = ?, "
+                  + "bnus_no = ?, first_winamnt = ?, first_przwner_co = ? WHERE drw_no = ?";
+
+      private static final String INSERT_SQL = "INSERT INTO lotto_draws (drw_no_date, "
+                  + "drwt_no1, drwt_no2, drwt_no3, drwt_no4, drwt_no5, drwt_no6, "
+                  + "bnus_no, first_winamnt, first_przwner_co, drw_no) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+      private final JdbcTemplate jdbcTemplate;
+      private final TransactionTemplate transactionTemplate;
+      private final LottoDrawStore lottoDrawStore;
+      private final LottoDrawFeed lottoDrawFeed;
+      private final Path importPath;
+      private final boolean importOnStartup;
+      private final int batchSize;
+
+      public LottoDrawIngestService(
+                  JdbcTemplate jdbcTemplate,
+                  PlatformTransactionManager transactionManager,
+                  LottoDrawStore lottoDrawStore,
+                  LottoDrawFeed lottoDrawFeed,
+                  @Value("${lotto.ingest.path:data}") String importPath,
+                  @Value("${lotto.ingest.import-on-startup:true}") boolean importOnStartup,
+                  @Value("${lotto.ingest.batch-size:500}") int batchSize) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.lottoDrawStore = lottoDrawStore;
+            this.lottoDrawFeed = lottoDrawFeed;
+            this.importPath = Path.of(importPath);
+            this.importOnStartup = importOnStartup;
+            this.batchSize = Math.max(1, batchSize);
+      }
+
+      /**
+       * @param read     파일에서 읽은 회차 수
+       * @param inserted 새로 저장한 회차 수
+       * @param updated  기존 회차를 덮어쓴 수
+       * @param rejected 검증에 실패해 건너뛴 회차 수
+       */
+      public record ImportResult(int read, int inserted, int updated, int rejected) {
+      }
+
+      /**
+       * 서버 시작 시 추첨 데이터가 비어 있으면 동봉된 XLSX로 초기 적재
+       */
+      @Order(2)
+      @EventListener(ApplicationReadyEvent.class)
+      public void importIfEmpty() {
+            if (!importOnStartup || lottoDrawStore.size() > 0) return;
+            try {
+                  Optional<Path> file = LottoDrawXlsxReader.latestIn(importPath);
+                  if (file.isEmpty()) {
+                        log.warn("추첨 데이터가 비어 있지만 적재할 파일이 없습니다: {}", importPath.toAbsolutePath());
+                        return;
+                  }
+                  importFile(file.get());
+            } catch (Exception e) {
+                  log.error("추첨 데이터 초기 적재 실패", e);
+            }
+      }
+
+      /**
+       * 설정된 경로의 최신 XLSX 일괄 적재 (이미 있는 회차는 덮어씀)
+       */
+      public ImportResult importLatestFile() {
+            try {
+                  Path file = LottoDrawXlsxReader.latestIn(importPath)
+                              .orElseThrow(() -> new BusinessException(ErrorCode.LOTTO_DRAW_IMPORT_FAILED));
+                  return importFile(file);
+            } catch (IOException e) {
+                  log.error("추첨 데이터 파일 적재 실패: {}", importPath.toAbsolutePath(), e);
+                  throw new BusinessException(ErrorCode.LOTTO_DRAW_IMPORT_FAILED);
+            }
+      }
+
+      public ImportResult importFile(Path file) throws IOException {
+            long startTime = System.currentTimeMillis();
+            int read = 0;
+            int rejected = 0;
+            int[] written = new int[2];
+            List<LottoDraw> batch = new ArrayList<>(batchSize);
+
+            try (LottoDrawXlsxReader reader = LottoDrawXlsxReader.open(file)) {
+                  LottoDraw draw;
+                  while ((draw = reader.next()) != null) {
+                        read++;
+                        String error = validate(draw);
+                        if (error != null) {
+                              rejected++;
+                              log.warn("추첨 데이터 검증 실패 ({}회): {}", draw.getDrwNo(), error);
+                              continue;
+                        }
+                        batch.add(draw);
+                        if (batch.size() >= batchSize) {
+                              upsert(batch, written);
+                              batch.clear();
+                        }
+                  }
+            }
+            upsert(batch, written);
+
+            // 과거 회차가 추가·수정되었을 수 있으므로 저장소는 전체 다시 적재
+            lottoDrawStore.reload();
+            ImportResult result = new ImportResult(read, written[0], written[1], rejected);
+            log.info("추첨 데이터 적재 완료: {} - {} ({}ms)", file.getFileName(), result,
+                        System.currentTimeMillis() - startTime);
+            return result;
+      }
+
+      /**
+       * 공급원에서 다음 회차를 가져와 검증 후 저장
+       *
+       * @return 새로 저장한 회차 (공급원에 아직 없거나 검증에 실패하면 empty)
+       */
+      public Optional<LottoDraw> ingestNextDraw() {
+            lottoDrawStore.refresh();
+            int nextDrawNo = lottoDrawStore.latest().map(draw -> draw.getDrwNo() + 1).orElse(1);
+
+            Optional<LottoDraw> fetched = lottoDrawFeed.fetch(nextDrawNo);
+            if (fetched.isEmpty()) {
+                  log.info("{} 공급원에 {}회차 결과가 아직 없습니다.", lottoDrawFeed.getName(), nextDrawNo);
+                  return Optional.empty();
+            }
+
+            LottoDraw draw = fetched.get();
+            String error = draw.getDrwNo() != nextDrawNo ? "요청한 회차와 다릅니다: " + draw.getDrwNo() : validate(draw);
+            if (error != null) {
+                  log.warn("{} 공급원 {}회차 검증 실패: {}", lottoDrawFeed.getName(), nextDrawNo, error);
+                  return Optional.empty();
+            }
+
+            upsert(List.of(draw), new int[2]);
+            lottoDrawStore.refresh();
+            log.info("{} 공급원에서 {}회차 저장", lottoDrawFeed.getName(), nextDrawNo);
+            return fetched;
+      }
+
+      /**
+       * 추첨 결과 검증 (문제가 없으면 null)
+       */
+      static String validate(LottoDraw draw) {
+            if (draw.getDrwNo() == null || draw.getDrwNo() < 1) return "회차 번호가 올바르지 않습니다.";
+
+            int[] numbers = {draw.getDrwtNo1(), draw.getDrwtNo2(), draw.getDrwtNo3(),
+                        draw.getDrwtNo4(), draw.getDrwtNo5(), draw.getDrwtNo6()};
+            long mask = 0;
+            for (int number : numbers) {
+                  if (!isNumber(number)) return "번호 범위를 벗어났습니다: " + number;
+                  mask |= LottoTicket.bit(number);
+            }
+            if (Long.bitCount(mask) != LottoTicket.PICK_COUNT) return "중복된 번호가 있습니다.";
+            if (!isNumber(draw.getBnusNo())) return "보너스 번호 범위를 벗어났습니다: " + draw.getBnusNo();
+            if ((mask & LottoTicket.bit(draw.getBnusNo())) != 0) return "보너스 번호가 당첨 번호와 겹칩니다.";
+            if (draw.getFirstWinamnt() != null && draw.getFirstWinamnt() < 0) return "1등 당첨금이 음수입니다.";
+            return null;
+      }
+
+      private static boolean isNumber(int number) {
+            return number >= LottoTicket.MIN_NUMBER && number <= LottoTicket.MAX_NUMBER;
+      }
+
+      /**
+       * 한 트랜잭션으로 upsert (배치 안에서 같은 회차가 반복되면 마지막 값 사용)
+       *
+       * @param written [새로 저장한 수, 덮어쓴 수]에 누적
+       */
+      private void upsert(List<LottoDraw> draws, int[] written) {
+            if (draws.isEmpty()) return;
+
+            Map<Integer, LottoDraw> byDrawNo = new LinkedHashMap<>();
+            int minDrawNo = Integer.MAX_VALUE;
+            int maxDrawNo = Integer.MIN_VALUE;
+            for (LottoDraw draw : draws) {
+                  byDrawNo.put(draw.getDrwNo(), draw);
+                  minDrawNo = Math.min(minDrawNo, draw.getDrwNo());
+                  maxDrawNo = Math.max(maxDrawNo, draw.getDrwNo());
+            }
+            int from = minDrawNo;
+            int to = maxDrawNo;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                  Set<Integer> existing = new HashSet<>(
+                              jdbcTemplate.queryForList(EXISTING_SQL, Integer.class, from, to));
+                  List<LottoDraw> updates = new ArrayList<>();
+                  List<LottoDraw> inserts = new ArrayList<>();
+                  for (LottoDraw draw : byDrawNo.values()) {
+                        (existing.contains(draw.getDrwNo()) ? updates : inserts).add(draw);
+                  }
+                  if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_SQL, updates, batchSize, this::bind);
+                  if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts, batchSize, this::bind);
+                  written[0] += inserts.size();
+                  written[1] += updates.size();
+            });
+      }
+
+      // UPDATE·INSERT 공통 파라미터 순서 (회차 번호가 마지막)
+      private void bind(PreparedStatement ps, LottoDraw draw) throws SQLException {
+            if (draw.getDrwNoDate() != null) ps.setDate(1, Date.valueOf(draw.getDrwNoDate()));
+            else ps.setNull(1, Types.DATE);
+            ps.setInt(2, draw.getDrwtNo1());
+            ps.setInt(3, draw.getDrwtNo2());
+            ps.setInt(4, draw.getDrwtNo3());
+            ps.setInt(5, draw.getDrwtNo4());
+            ps.setInt(6, draw.getDrwtNo5());
+            ps.setInt(7, draw.getDrwtNo6());
+            ps.setInt(8, draw.getBnusNo());
+            ps.setObject(9, draw.getFirstWinamnt(), Types.BIGINT);
+            ps.setObject(10, draw.getFirstPrzwnerCo(), Types.BIGINT);
+            ps.setInt(11, draw.getDrwNo());
+      }
+}
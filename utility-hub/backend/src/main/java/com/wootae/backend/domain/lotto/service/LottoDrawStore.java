@@ -0,0 +1,286 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.repository.LottoDrawRepository;
+import com.wootae.backend.domain.lotto.strategy.DrawHistoryIndex;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * 전체 추첨 이력 메모리 저장소 (모든 로또 서비스가 공유)
+ *
+ * 회차는 추가만 되므로 회차 번호·당첨 번호 마스크·보너스·1등 당첨금을 회차 오름차순 primitive 배열로 보관하고,
+ * 새 회차는 마지막 회차 이후만 조회해 배열 뒤에 이어 붙인다.
+ * 조회는 불변 스냅샷에서 이진 탐색으로 처리하므로 요청마다 JPA 엔티티를 다시 읽지 않는다.
+ * 전략 컨텍스트용 LottoDraw는 스냅샷마다 한 번만 만든 분리 객체(영속성 컨텍스트와 무관)다.
+ */
+@Slf4j
+@Component
+public class LottoDrawStore {
+
+      private static final int INITIAL_CAPACITY = 64;
+      private static final long NO_VALUE = -1L;
+
+      private final LottoDrawRepository lottoDrawRepository;
+
+      private volatile Snapshot snapshot;
+
+      public LottoDrawStore(LottoDrawRepository lottoDrawRepository) {
+            this.lottoDrawRepository = lottoDrawRepository;
+      }
+
+      // 시작 시 리스너 순서: 저장소 적재(1) → 초기 적재(2) → 집계 검증(3) → 작업 복구(4)
+      @Order(1)
+      @EventListener(ApplicationReadyEvent.class)
+      public void load() {
+            refresh();
+      }
+
+      /**
+       * 외부에서 적재된 새 회차 반영 (주기 실행, 실패해도 기존 스냅샷 유지)
+       */
+      @Scheduled(fixedDelayString = "${lotto.draw-store.refresh-interval-ms:600000}",
+                  initialDelayString = "${lotto.draw-store.refresh-interval-ms:600000}")
+      public void scheduledRefresh() {
+            try {
+                  refresh();
+            } catch (Exception e) {
+                  log.error("추첨 이력 저장소 갱신 실패", e);
+            }
+      }
+
+      /**
+       * 마지막 회차 이후 회차만 조회해 추가
+       *
+       * @return 새로 추가한 회차 수
+       */
+      public synchronized int refresh() {
+            Snapshot current = snapshot;
+            int lastDrawNo = current != null ? current.lastDrawNo() : 0;
+            List<LottoDraw> newDraws = lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(lastDrawNo);
+            if (current != null && newDraws.isEmpty()) return 0;
+
+            snapshot = (current != null ? current : Snapshot.EMPTY).append(newDraws);
+            log.info("추첨 이력 저장소 갱신: {}회차 추가 (전체 {}회차, 최신 {}회)",
+                        newDraws.size(), snapshot.size, snapshot.lastDrawNo());
+            return newDraws.size();
+      }
+
+      /**
+       * 전체 다시 적재 (과거 회차가 수정·추가된 경우)
+       */
+      public synchronized int reload() {
+            snapshot = null;
+            return refresh();
+      }
+
+      public int size() {
+            return snapshot().size;
+      }
+
+      public Optional<LottoDraw> latest() {
+            Snapshot current = snapshot();
+            return current.size == 0 ? Optional.empty() : Optional.of(current.draws[current.size - 1]);
+      }
+
+      public Optional<LottoDraw> find(int drawNo) {
+            Snapshot current = snapshot();
+            int pos = current.indexOf(drawNo);
+            return pos >= 0 ? Optional.of(current.draws[pos]) : Optional.empty();
+      }
+
+      /**
+       * 전체 회차 (최신순, 읽기 전용)
+       */
+      public List<LottoDraw> draws() {
+            return snapshot().newestFirst;
+      }
+
+      /**
+       * fromDrawNo ~ toDrawNo 회차 (양끝 포함, 최신순, 읽기 전용)
+       */
+      public List<LottoDraw> range(int fromDrawNo, int toDrawNo) {
+            Snapshot current = snapshot();
+            int from = current.lowerBound(fromDrawNo);
+            int to = toDrawNo == Integer.MAX_VALUE ? current.size : current.lowerBound(toDrawNo + 1);
+            if (from >= to) return List.of();
+            return current.newestFirst.subList(current.size - to, current.size - from);
+      }
+
+      /**
+       * 회차의 당첨 번호 마스크 (primitive 컬럼에서 바로 생성)
+       */
+      public Optional<LottoMatchService.WinningMask> winningMask(int drawNo) {
+            Snapshot current = snapshot();
+            int pos = current.indexOf(drawNo);
+            return pos >= 0 ? Optional.of(current.winningMask(pos)) : Optional.empty();
+      }
+
+      /**
+       * lastDrawNo 이후 회차들의 당첨 번호 마스크 (회차 오름차순)
+       */
+      public List<LottoMatchService.WinningMask> winningMasksAfter(int lastDrawNo) {
+            Snapshot current = snapshot();
+            List<LottoMatchService.WinningMask> masks = new ArrayList<>();
+            for (int i = current.lowerBound(lastDrawNo + 1); i < current.size; i++) {
+                  masks.add(current.winningMask(i));
+            }
+            return masks;
+      }
+
+      /**
+       * 다음 추첨용 컨텍스트 (전체 이력, 통계는 스냅샷당 한 번 계산해 공유)
+       */
+      public LottoStrategyContext context() {
+            return snapshot().nextContext;
+      }
+
+      /**
+       * 대상 회차 직전까지의 이력으로 만든 컨텍스트
+       */
+      public LottoStrategyContext contextFor(int targetDrawNo) {
+            return snapshot().historyIndex.contextFor(targetDrawNo);
+      }
+
+      public DrawHistoryIndex historyIndex() {
+            return snapshot().historyIndex;
+      }
+
+      private Snapshot snapshot() {
+            Snapshot current = snapshot;
+            if (current == null) {
+                  refresh();
+                  current = snapshot;
+            }
+            return current;
+      }
+
+      /**
+       * 불변 스냅샷 - 배열은 다음 스냅샷과 공유하되 size 이후 칸만 새 스냅샷이 채운다. (기존 스냅샷이 읽는 구간은 변경 없음)
+       */
+      private static final class Snapshot {
+
+            static final Snapshot EMPTY = new Snapshot(0, new int[0], new long[0], new byte[0], new long[0],
+                        new LottoDraw[0]);
+
+            final int size;
+            final int[] drawNos;
+            final long[] numbers;
+            final byte[] bonus;
+            final long[] firstPrizes;
+            final LottoDraw[] draws;
+
+            final List<LottoDraw> newestFirst;
+            final DrawHistoryIndex historyIndex;
+            final LottoStrategyContext nextContext;
+
+            Snapshot(int size, int[] drawNos, long[] numbers, byte[] bonus, long[] firstPrizes, LottoDraw[] draws) {
+                  this.size = size;
+                  this.drawNos = drawNos;
+                  this.numbers = numbers;
+                  this.bonus = bonus;
+                  this.firstPrizes = firstPrizes;
+                  this.draws = draws;
+                  this.newestFirst = new NewestFirstView(draws, size);
+                  this.historyIndex = DrawHistoryIndex.of(newestFirst);
+                  this.nextContext = historyIndex.contextFor(Integer.MAX_VALUE);
+            }
+
+            int lastDrawNo() {
+                  return size == 0 ? 0 : drawNos[size - 1];
+            }
+
+            int indexOf(int drawNo) {
+                  return Arrays.binarySearch(drawNos, 0, size, drawNo);
+            }
+
+            // drawNo 이상인 첫 위치
+            int lowerBound(int drawNo) {
+                  int pos = indexOf(drawNo);
+                  return pos >= 0 ? pos : -pos - 1;
+            }
+
+            LottoMatchService.WinningMask winningMask(int pos) {
+                  return new LottoMatchService.WinningMask(drawNos[pos], numbers[pos], LottoTicket.bit(bonus[pos]),
+                              firstPrizes[pos] != NO_VALUE ? firstPrizes[pos] : LottoMatchService.DEFAULT_FIRST_PRIZE);
+            }
+
+            /**
+             * 오름차순 새 회차를 이어 붙인 스냅샷 (용량이 부족할 때만 배열 복사)
+             */
+            Snapshot append(List<LottoDraw> newDraws) {
+                  int newSize = size + newDraws.size();
+                  int capacity = drawNos.length;
+                  int[] nos = drawNos;
+                  long[] nums = numbers;
+                  byte[] bonusNos = bonus;
+                  long[] prizes = firstPrizes;
+                  LottoDraw[] objects = draws;
+                  if (newSize > capacity) {
+                        capacity = Math.max(newSize, Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1)));
+                        nos = Arrays.copyOf(nos, capacity);
+                        nums = Arrays.copyOf(nums, capacity);
+                        bonusNos = Arrays.copyOf(bonusNos, capacity);
+                        prizes = Arrays.copyOf(prizes, capacity);
+                        objects = Arrays.copyOf(objects, capacity);
+                  }
+
+                  int i = size;
+                  for (LottoDraw draw : newDraws) {
+                        nos[i] = draw.getDrwNo();
+                        nums[i] = LottoTicket.fromDraw(draw);
+                        bonusNos[i] = (byte) draw.getBnusNo();
+                        prizes[i] = draw.getFirstWinamnt() != null ? draw.getFirstWinamnt() : NO_VALUE;
+                        objects[i] = detach(draw);
+                        i++;
+                  }
+                  return new Snapshot(newSize, nos, nums, bonusNos, prizes, objects);
+            }
+
+            // 엔티티 참조를 남기지 않는 분리 객체
+            private static LottoDraw detach(LottoDraw draw) {
+                  return new LottoDraw(draw.getDrwNo(), draw.getDrwNoDate(),
+                              draw.getDrwtNo1(), draw.getDrwtNo2(), draw.getDrwtNo3(),
+                              draw.getDrwtNo4(), draw.getDrwtNo5(), draw.getDrwtNo6(), draw.getBnusNo(),
+                              draw.getFirstWinamnt(), draw.getFirstPrzwnerCo());
+            }
+      }
+
+      /**
+       * 오름차순 배열의 앞 size개를 최신순으로 보여주는 읽기 전용 뷰
+       */
+      private static final class NewestFirstView extends AbstractList<LottoDraw> implements RandomAccess {
+
+            private final LottoDraw[] ascending;
+            private final int size;
+
+            NewestFirstView(LottoDraw[] ascending, int size) {
+                  this.ascending = ascending;
+                  this.size = size;
+            }
+
+            @Override
+            public LottoDraw get(int index) {
+                  if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+                  return ascending[size - 1 - index];
+            }
+
+            @Override
+            public int size() {
+                  return size;
+            }
+      }
+}
@@ -1,38 +1,60 @@
 package com.wootae.backend.domain.lotto.service;
 
 import com.wootae.backend.domain.lotto.dto.LottoGenerateResponse;
+import com.wootae.backend.domain.lotto.dto.LottoPortfolioResponse;
 import com.wootae.backend.domain.lotto.entity.LottoDraw;
 import com.wootae.backend.domain.lotto.entity.LottoRule;
-import com.wootae.backend.domain.lotto.repository.LottoDrawRepository;
 import com.wootae.backend.domain.lotto.repository.LottoRuleRepository;
+import com.wootae.backend.domain.lotto.strategy.CoverageSolver;
+import com.wootae.backend.domain.lotto.strategy.DrawHistoryIndex;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import com.wootae.backend.domain.lotto.strategy.script.RuleScriptException;
 import com.wootae.backend.global.error.BusinessException;
 import com.wootae.backend.global.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class LottoGenerateService {
 
+      // 포트폴리오 번호 풀을 정하기 위해 전략으로 생성해 보는 티켓 수
+      private static final int POOL_SAMPLE_TICKETS = 2_000;
+
       private final LottoRuleRepository lottoRuleRepository;
-      private final LottoDrawRepository lottoDrawRepository;
+      private final LottoDrawStore lottoDrawStore;
       private final Map<String, LottoStrategy> strategyMap;
+      private final LottoRuleStrategyCache lottoRuleStrategyCache;
+      private final int streamMaxCount;
+      private final int portfolioMaxCount;
+      private final long portfolioTimeBudgetNanos;
 
       public LottoGenerateService(
                   LottoRuleRepository lottoRuleRepository,
-                  LottoDrawRepository lottoDrawRepository,
-                  List<LottoStrategy> strategies) {
+                  LottoDrawStore lottoDrawStore,
+                  List<LottoStrategy> strategies,
+                  LottoRuleStrategyCache lottoRuleStrategyCache,
+                  @Value("${lotto.generate.stream-max-count:100000}") int streamMaxCount,
+                  @Value("${lotto.generate.portfolio-max-count:5000}") int portfolioMaxCount,
+                  @Value("${lotto.generate.portfolio-time-budget-ms:300}") long portfolioTimeBudgetMs) {
             this.lottoRuleRepository = lottoRuleRepository;
-            this.lottoDrawRepository = lottoDrawRepository;
+            this.lottoDrawStore = lottoDrawStore;
             this.strategyMap = strategies.stream()
                         .collect(Collectors.toMap(LottoStrategy::getType, s -> s));
+            this.lottoRuleStrategyCache = lottoRuleStrategyCache;
+            this.streamMaxCount = streamMaxCount;
+            this.portfolioMaxCount = portfolioMaxCount;
+            this.portfolioTimeBudgetNanos = portfolioTimeBudgetMs * 1_000_000L;
       }
 
       public LottoGenerateResponse generate(Long ruleId, int count) {
@@ -40,11 +62,16 @@ public class LottoGenerateService {
                         .orElseThrow(() -> new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND));
 
             LottoStrategyContext context = buildContext();
-            LottoStrategy strategy = resolveStrategy(rule.getType());
+            LottoStrategy strategy = resolveStrategy(rule);
 
             List<List<Integer>> tickets = new ArrayList<>();
-            for (int i = 0; i < count; i++) {
-                  tickets.add(strategy.generate(context));
+            try {
+                  for (int i = 0; i < count; i++) {
+                        tickets.add(strategy.generate(context));
+                  }
+            } catch (RuleScriptException e) {
+                  // 이력 기반 조건을 이번 회차 이력으로는 만족시키지 못한 경우
+                  throw new BusinessException(ErrorCode.LOTTO_RULE_SCRIPT_INVALID);
             }
 
             return LottoGenerateResponse.builder()
@@ -53,6 +80,98 @@ public class LottoGenerateService {
                         .build();
       }
 
+      /**
+       * 대량 생성 스트림 준비 - 규칙·개수 검증과 첫 티켓 생성까지만 하고, 나머지는 응답을 쓰면서 생성
+       * 규칙이 없거나 한도를 넘거나 규칙으로 번호를 만들 수 없으면 응답을 쓰기 전에 예외가 난다.
+       */
+      public LottoTicketStream openStream(Long ruleId, int count, boolean distinct) {
+            if (count < 1) throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            if (count > streamMaxCount) throw new BusinessException(ErrorCode.LOTTO_GENERATE_LIMIT_EXCEEDED);
+
+            LottoRule rule = lottoRuleRepository.findById(ruleId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND));
+            LottoTicketStream stream = new LottoTicketStream(resolveStrategy(rule), buildContext(), count, distinct);
+            try {
+                  stream.prime();
+            } catch (RuleScriptException e) {
+                  // 응답 헤더가 나간 뒤에는 오류 응답을 보낼 수 없으므로 첫 티켓으로 미리 확인
+                  throw new BusinessException(ErrorCode.LOTTO_RULE_SCRIPT_INVALID);
+            }
+            return stream;
+      }
+
+      /**
+       * 포트폴리오(휠링) 생성 - 전략의 번호 풀에서 서로 겹치지 않게 match개 조합을 최대한 덮는 티켓 count장
+       * 같은 전략으로 count장을 따로 뽑으면 조합이 크게 겹치므로, 여러 장을 사는 경우 커버리지를 최적화한다.
+       *
+       * @param poolSize 전략이 자주 고르는 번호 상위 poolSize개를 풀로 사용 (6~45)
+       */
+      public LottoPortfolioResponse generatePortfolio(Long ruleId, int count, int match, int poolSize) {
+            if (count < 1 || match < CoverageSolver.MIN_MATCH || match > CoverageSolver.MAX_MATCH
+                        || poolSize < LottoTicket.PICK_COUNT || poolSize > LottoTicket.MAX_NUMBER) {
+                  throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            if (count > portfolioMaxCount || count > CoverageSolver.ticketCount(poolSize)) {
+                  throw new BusinessException(ErrorCode.LOTTO_GENERATE_LIMIT_EXCEEDED);
+            }
+
+            LottoRule rule = lottoRuleRepository.findById(ruleId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND));
+            LottoStrategy strategy = resolveStrategy(rule);
+            long pool;
+            try {
+                  pool = strategyPool(strategy, buildContext(), poolSize);
+            } catch (RuleScriptException e) {
+                  throw new BusinessException(ErrorCode.LOTTO_RULE_SCRIPT_INVALID);
+            }
+
+            CoverageSolver.Result result = CoverageSolver.solve(pool, count, match, new SplittableRandom(),
+                        portfolioTimeBudgetNanos);
+            List<List<Integer>> tickets = new ArrayList<>(count);
+            for (long ticket : result.tickets()) tickets.add(LottoTicket.toList(ticket));
+
+            return LottoPortfolioResponse.builder()
+                        .ruleId(ruleId)
+                        .strategyType(strategy.getType())
+                        .pool(LottoTicket.toList(pool))
+                        .match(match)
+                        .tickets(tickets)
+                        .coveredCombinations(result.covered())
+                        .totalCombinations(result.total())
+                        .coverageRate((double) result.covered() / result.total())
+                        .fullCoverage(result.fullCoverage())
+                        .build();
+      }
+
+      /**
+       * 전략의 번호 풀 - 표본 티켓에서 자주 나온 번호 poolSize개 (빈도가 같으면 작은 번호)
+       */
+      static long strategyPool(LottoStrategy strategy, LottoStrategyContext context, int poolSize) {
+            int[] frequency = new int[LottoTicket.MAX_NUMBER + 1];
+            for (int i = 0; i < POOL_SAMPLE_TICKETS; i++) {
+                  for (long m = strategy.generateMask(context); m != 0; m &= m - 1) {
+                        frequency[Long.numberOfTrailingZeros(m)]++;
+                  }
+            }
+
+            long pool = 0L;
+            for (int picked = 0; picked < poolSize; picked++) {
+                  int best = 0;
+                  for (int n = LottoTicket.MIN_NUMBER; n <= LottoTicket.MAX_NUMBER; n++) {
+                        if ((pool & LottoTicket.bit(n)) == 0 && (best == 0 || frequency[n] > frequency[best])) best = n;
+                  }
+                  pool |= LottoTicket.bit(best);
+            }
+            return pool;
+      }
+
+      /**
+       * 규칙의 전략 - 스크립트가 있으면 컴파일된 사용자 전략, 없으면 type의 기본 전략
+       */
+      public LottoStrategy resolveStrategy(LottoRule rule) {
+            return lottoRuleStrategyCache.strategyFor(rule).orElseGet(() -> resolveStrategy(rule.getType()));
+      }
+
       public LottoStrategy resolveStrategy(String type) {
             if (type == null) return strategyMap.get("RANDOM");
             return strategyMap.getOrDefault(type.toUpperCase(), strategyMap.get("RANDOM"));
@@ -66,24 +185,55 @@ public class LottoGenerateService {
             return strategyMap;
       }
 
-      public LottoStrategyContext buildContext() {
-            List<LottoDraw> recentDraws = lottoDrawRepository.findRecentDraws(20);
-            List<LottoDraw> allDraws = lottoDrawRepository.findAllByOrderByDrwNoDesc();
-            LottoDraw latestDraw = lottoDrawRepository.findLatestDraw().orElse(null);
+      /**
+       * 시뮬레이션 대상 전략 (타입순) - 쉼표로 구분한 타입 목록, 없으면 기본 전략 전체
+       * "RULE_{id}"는 해당 규칙의 스크립트 전략이며, 알 수 없는 타입과 스크립트 없는 규칙은 제외한다.
+       *
+       * @throws BusinessException 규칙 스크립트가 올바르지 않을 때
+       */
+      public Map<String, LottoStrategy> resolveStrategies(String strategyTypes) {
+            Map<String, LottoStrategy> resolved = new TreeMap<>();
+            if (strategyTypes == null || strategyTypes.isBlank()) {
+                  resolved.putAll(strategyMap);
+                  return resolved;
+            }
+            for (String type : strategyTypes.split(",")) {
+                  String trimmed = type.trim();
+                  LottoStrategy strategy = strategyMap.get(trimmed);
+                  Long ruleId = LottoRuleStrategyCache.ruleIdOf(trimmed);
+                  if (strategy == null && ruleId != null) {
+                        strategy = lottoRuleRepository.findById(ruleId)
+                                    .flatMap(lottoRuleStrategyCache::strategyFor)
+                                    .orElse(null);
+                  }
+                  if (strategy != null) resolved.put(trimmed, strategy);
+            }
+            return resolved;
+      }
 
-            return LottoStrategyContext.builder()
-                        .recentDraws(recentDraws)
-                        .allDraws(allDraws)
-                        .latestDraw(latestDraw)
-                        .build();
+      /**
+       * 다음 추첨용 컨텍스트 - 메모리 저장소의 스냅샷을 그대로 사용 (DB 조회 없음)
+       */
+      public LottoStrategyContext buildContext() {
+            return lottoDrawStore.context();
       }
 
+      /**
+       * 대상 회차 이전 이력으로 컨텍스트 생성 (allDrawsSorted는 최신순)
+       * 여러 회차를 반복 처리할 때는 {@link #buildContextForDraw(int, DrawHistoryIndex)} 사용
+       */
       public LottoStrategyContext buildContextForDraw(int targetDrawNo, List<LottoDraw> allDrawsSorted) {
-            List<LottoDraw> drawsBefore = allDrawsSorted.stream()
-                        .filter(d -> d.getDrwNo() < targetDrawNo)
-                        .collect(Collectors.toList());
+            // 최신순 정렬이므로 대상 회차 이전 회차는 연속 구간 - 이진 탐색 후 뷰로 사용
+            int lo = 0;
+            int hi = allDrawsSorted.size();
+            while (lo < hi) {
+                  int mid = (lo + hi) >>> 1;
+                  if (allDrawsSorted.get(mid).getDrwNo() < targetDrawNo) hi = mid;
+                  else lo = mid + 1;
+            }
+            List<LottoDraw> drawsBefore = allDrawsSorted.subList(lo, allDrawsSorted.size());
 
-            List<LottoDraw> recent20 = drawsBefore.stream().limit(20).collect(Collectors.toList());
+            List<LottoDraw> recent20 = drawsBefore.subList(0, Math.min(DrawHistoryIndex.RECENT_WINDOW, drawsBefore.size()));
             LottoDraw latest = drawsBefore.isEmpty() ? null : drawsBefore.get(0);
 
             return LottoStrategyContext.builder()
@@ -92,4 +242,8 @@ public class LottoGenerateService {
                         .latestDraw(latest)
                         .build();
       }
+
+      public LottoStrategyContext buildContextForDraw(int targetDrawNo, DrawHistoryIndex historyIndex) {
+            return historyIndex.contextFor(targetDrawNo);
+      }
 }
@@ -1,36 +1,74 @@
 package com.wootae.backend.domain.lotto.service;
 
 import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.entity.UserTicketHistory;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 @Service
 public class LottoMatchService {
 
+      // 1등 당첨금이 없는 회차에 쓰는 기본값
+      public static final long DEFAULT_FIRST_PRIZE = 2_000_000_000L;
+
+      /**
+       * 회차별 당첨 번호 마스크 (회차당 1번만 계산해서 재사용)
+       */
+      public record WinningMask(int drawNo, long numbers, long bonus, long firstPrize) {
+
+            public static WinningMask of(LottoDraw draw) {
+                  return new WinningMask(
+                              draw.getDrwNo(),
+                              LottoTicket.fromDraw(draw),
+                              LottoTicket.bit(draw.getBnusNo()),
+                              draw.getFirstWinamnt() != null ? draw.getFirstWinamnt() : DEFAULT_FIRST_PRIZE);
+            }
+      }
+
+      public WinningMask toWinningMask(LottoDraw draw) {
+            return WinningMask.of(draw);
+      }
+
       public int matchRank(List<Integer> ticket, LottoDraw draw) {
-            Set<Integer> winningNumbers = Set.of(
-                        draw.getDrwtNo1(), draw.getDrwtNo2(), draw.getDrwtNo3(),
-                        draw.getDrwtNo4(), draw.getDrwtNo5(), draw.getDrwtNo6());
-            int bonusNumber = draw.getBnusNo();
-
-            Set<Integer> ticketSet = new HashSet<>(ticket);
-            long matchCount = ticketSet.stream().filter(winningNumbers::contains).count();
-            boolean hasBonus = ticketSet.contains(bonusNumber);
-
-            if (matchCount == 6) return 1;
-            if (matchCount == 5 && hasBonus) return 2;
-            if (matchCount == 5) return 3;
-            if (matchCount == 4) return 4;
-            if (matchCount == 3) return 5;
-            return 0; // 미당첨
+            return matchRank(LottoTicket.fromList(ticket), WinningMask.of(draw));
+      }
+
+      /**
+       * 비트마스크 티켓 등수 판정 (0 = 미당첨, 1~5 = 등수)
+       */
+      public int matchRank(long ticketMask, WinningMask winning) {
+            int matchCount = Long.bitCount(ticketMask & winning.numbers());
+            return switch (matchCount) {
+                  case 6 -> 1;
+                  case 5 -> (ticketMask & winning.bonus()) != 0 ? 2 : 3;
+                  case 4 -> 4;
+                  case 3 -> 5;
+                  default -> 0; // 미당첨
+            };
+      }
+
+      /**
+       * 사용자 구매 티켓 당첨 확인 후 결과 반영
+       * 티켓 파싱 실패 시 결과를 갱신하지 않고 -1 반환
+       */
+      public int checkTicket(UserTicketHistory history, WinningMask winning) {
+            long ticketMask = LottoTicket.parse(history.getTicket());
+            if (!LottoTicket.isValid(ticketMask)) return -1;
+
+            int rank = matchRank(ticketMask, winning);
+            history.updateResult(rank, estimatePrize(rank, winning));
+            return rank;
       }
 
       public long estimatePrize(int rank, LottoDraw draw) {
+            return estimatePrize(rank, WinningMask.of(draw));
+      }
+
+      public long estimatePrize(int rank, WinningMask winning) {
             return switch (rank) {
-                  case 1 -> draw.getFirstWinamnt() != null ? draw.getFirstWinamnt() : 2_000_000_000L;
+                  case 1 -> winning.firstPrize();
                   case 2 -> 50_000_000L;
                   case 3 -> 1_500_000L;
                   case 4 -> 50_000L;
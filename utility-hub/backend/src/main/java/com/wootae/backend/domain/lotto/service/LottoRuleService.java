@@ -3,14 +3,18 @@ package com.wootae.backend.domain.lotto.service;
 import com.wootae.backend.domain.lotto.dto.*;
 import com.wootae.backend.domain.lotto.entity.LottoRule;
 import com.wootae.backend.domain.lotto.entity.LottoSimulationStats;
+import com.wootae.backend.domain.lotto.entity.LottoStatsPeriod;
+import com.wootae.backend.domain.lotto.entity.SimulationResult;
 import com.wootae.backend.domain.lotto.repository.LottoRuleRepository;
 import com.wootae.backend.domain.lotto.repository.LottoSimulationStatsRepository;
+import com.wootae.backend.domain.lotto.repository.SimulationResultRepository;
 import com.wootae.backend.global.error.BusinessException;
 import com.wootae.backend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -22,8 +26,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class LottoRuleService {
 
+      // 규칙 상세의 회차별 당첨 추이 회차 수
+      private static final int RECENT_WEEKS = 5;
+
       private final LottoRuleRepository lottoRuleRepository;
       private final LottoSimulationStatsRepository lottoSimulationStatsRepository;
+      private final SimulationResultRepository simulationResultRepository;
+      private final LottoRuleStrategyCache lottoRuleStrategyCache;
 
       public List<LottoRuleResponse> getAllRules(String type, String sort) {
             List<LottoRule> rules;
@@ -53,61 +62,44 @@ public class LottoRuleService {
       }
 
       public LottoRuleDetailResponse getRuleDetail(Long id) {
-            LottoRule rule = lottoRuleRepository.findById(id)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND));
-            LottoSimulationStats stats = lottoSimulationStatsRepository.findByRuleId(id).orElse(null);
-            return LottoRuleDetailResponse.from(rule, stats);
+            LottoRule rule = findRule(id);
+            String strategyType = LottoRuleStrategyCache.strategyTypeOf(rule);
+            LottoSimulationStats stats = findStats(strategyType, LottoStatsPeriod.ALL_TIME);
+            if (stats == null) return LottoRuleDetailResponse.from(rule, null, List.of());
+
+            return LottoRuleDetailResponse.from(rule, rankCounts(stats), recentWins(strategyType, stats.getToDrawNo()));
       }
 
+      /**
+       * 기간별 등수 분포 - 시뮬레이션 종료 시 미리 계산된 (전략, 기간) 집계 한 행
+       */
       public LottoPeriodStatsResponse getPeriodStats(Long ruleId, String period) {
-            if (!lottoRuleRepository.existsById(ruleId)) {
-                  throw new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND);
-            }
-
-            // Validate period
-            if (!List.of("RECENT_4_WEEKS", "RECENT_8_WEEKS", "ALL_TIME").contains(period)) {
-                  throw new BusinessException(ErrorCode.LOTTO_INVALID_PERIOD);
-            }
-
-            LottoSimulationStats stats = lottoSimulationStatsRepository.findByRuleId(ruleId).orElse(null);
-            Map<String, Long> statsMap = new LinkedHashMap<>();
-            statsMap.put("1st", 0L);
-            statsMap.put("2nd", 0L);
-            statsMap.put("3rd", 0L);
-            statsMap.put("4th", 0L);
-            statsMap.put("5th", 0L);
-
-            if (stats != null && stats.getRankDistribution() != null) {
-                  parseRankDistribution(stats.getRankDistribution(), statsMap);
-            }
+            LottoRule rule = findRule(ruleId);
+            LottoStatsPeriod statsPeriod = LottoStatsPeriod.from(period);
+            LottoSimulationStats stats = findStats(LottoRuleStrategyCache.strategyTypeOf(rule), statsPeriod);
 
             return LottoPeriodStatsResponse.builder()
                         .ruleId(ruleId)
-                        .period(period)
-                        .stats(statsMap)
+                        .period(statsPeriod.name())
+                        .fromDrawNo(stats != null ? stats.getFromDrawNo() : null)
+                        .toDrawNo(stats != null ? stats.getToDrawNo() : null)
+                        .stats(rankCounts(stats))
                         .build();
       }
 
       public LottoDistributionResponse getDistribution(Long ruleId) {
-            if (!lottoRuleRepository.existsById(ruleId)) {
-                  throw new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND);
-            }
-
-            LottoSimulationStats stats = lottoSimulationStatsRepository.findByRuleId(ruleId).orElse(null);
-            Map<String, Long> distribution = new LinkedHashMap<>();
-
-            if (stats != null && stats.getRankDistribution() != null) {
-                  parseRankDistribution(stats.getRankDistribution(), distribution);
-            }
+            LottoRule rule = findRule(ruleId);
+            LottoSimulationStats stats = findStats(LottoRuleStrategyCache.strategyTypeOf(rule), LottoStatsPeriod.ALL_TIME);
 
             return LottoDistributionResponse.builder()
                         .ruleId(ruleId)
-                        .distribution(distribution)
+                        .distribution(stats != null ? rankCounts(stats) : new LinkedHashMap<>())
                         .build();
       }
 
       @Transactional
       public LottoRuleResponse createRule(LottoRuleRequest request) {
+            lottoRuleStrategyCache.validate(request.getScript(), request.getParameters());
             LottoRule rule = LottoRule.builder()
                         .name(request.getName())
                         .type(request.getType())
@@ -123,6 +115,7 @@ public class LottoRuleService {
       public LottoRuleResponse updateRule(Long id, LottoRuleRequest request) {
             LottoRule rule = lottoRuleRepository.findById(id)
                         .orElseThrow(() -> new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND));
+            lottoRuleStrategyCache.validate(request.getScript(), request.getParameters());
 
             rule.update(request.getName(), request.getType(), request.getScript(), request.getParameters());
 
@@ -135,19 +128,41 @@ public class LottoRuleService {
                   throw new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND);
             }
             lottoRuleRepository.deleteById(id);
+            lottoRuleStrategyCache.evict(id);
       }
 
-      private void parseRankDistribution(String rankDistribution, Map<String, Long> target) {
-            try {
-                  String[] parts = rankDistribution.split(",");
-                  for (String part : parts) {
-                        String[] kv = part.trim().split(":");
-                        if (kv.length == 2) {
-                              target.put(kv[0].trim(), Long.parseLong(kv[1].trim()));
-                        }
-                  }
-            } catch (Exception e) {
-                  // Keep defaults
+      private LottoRule findRule(Long id) {
+            return lottoRuleRepository.findById(id)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.LOTTO_RULE_NOT_FOUND));
+      }
+
+      private LottoSimulationStats findStats(String strategyType, LottoStatsPeriod period) {
+            if (strategyType == null) return null;
+            return lottoSimulationStatsRepository.findByStrategyTypeAndPeriod(strategyType, period).orElse(null);
+      }
+
+      // "1st" ~ "5th" 순서, 집계가 없으면 0
+      private static Map<String, Long> rankCounts(LottoSimulationStats stats) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            counts.put("1st", stats != null ? stats.getRank1Count() : 0L);
+            counts.put("2nd", stats != null ? stats.getRank2Count() : 0L);
+            counts.put("3rd", stats != null ? stats.getRank3Count() : 0L);
+            counts.put("4th", stats != null ? stats.getRank4Count() : 0L);
+            counts.put("5th", stats != null ? stats.getRank5Count() : 0L);
+            return counts;
+      }
+
+      /**
+       * 기준 회차까지 최근 RECENT_WEEKS개 회차의 회차별 당첨 수 (시뮬레이션되지 않은 회차는 0)
+       */
+      private List<Integer> recentWins(String strategyType, int latestDrawNo) {
+            int fromDrawNo = Math.max(1, latestDrawNo - RECENT_WEEKS + 1);
+            int[] wins = new int[latestDrawNo - fromDrawNo + 1];
+            for (SimulationResult result : simulationResultRepository
+                        .findByStrategyTypeAndDrawNoBetweenOrderByDrawNoAsc(strategyType, fromDrawNo, latestDrawNo)) {
+                  wins[result.getDrawNo() - fromDrawNo] = result.getRank1Count() + result.getRank2Count()
+                              + result.getRank3Count() + result.getRank4Count() + result.getRank5Count();
             }
+            return Arrays.stream(wins).boxed().toList();
       }
 }
@@ -0,0 +1,135 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootae.backend.domain.lotto.entity.LottoRule;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
+import com.wootae.backend.domain.lotto.strategy.script.RuleScript;
+import com.wootae.backend.domain.lotto.strategy.script.RuleScriptException;
+import com.wootae.backend.domain.lotto.strategy.script.ScriptedLottoStrategy;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 규칙 스크립트 컴파일 캐시 (규칙 ID별)
+ *
+ * 스크립트가 있는 규칙은 {@link ScriptedLottoStrategy}로 한 번 컴파일해 두고,
+ * 이름·스크립트·파라미터가 바뀐 경우(버전 불일치)에만 다시 컴파일한다.
+ * 파라미터 JSON의 숫자·불리언 값은 스크립트 상수가 되고, candidates는 가중치 후보 수로 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LottoRuleStrategyCache {
+
+      public static final String TYPE_PREFIX = "RULE_";
+
+      private static final String CANDIDATES_PARAMETER = "candidates";
+
+      private final ObjectMapper objectMapper;
+      private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+      /**
+       * 스크립트가 있는 규칙이면 컴파일된 전략, 없으면 empty
+       *
+       * @throws BusinessException 스크립트·파라미터가 올바르지 않을 때
+       */
+      public Optional<LottoStrategy> strategyFor(LottoRule rule) {
+            if (!hasScript(rule.getScript())) return Optional.empty();
+
+            Version version = new Version(rule.getName(), rule.getScript(), rule.getParameters());
+            Entry entry = entries.get(rule.getId());
+            if (entry != null && entry.version().equals(version)) return Optional.of(entry.strategy());
+
+            ScriptedLottoStrategy strategy = compile(typeOf(rule.getId()), rule.getName(), rule.getScript(), rule.getParameters());
+            entries.put(rule.getId(), new Entry(version, strategy));
+            return Optional.of(strategy);
+      }
+
+      /**
+       * 저장 전 검증 (스크립트가 없으면 통과)
+       *
+       * @throws BusinessException 스크립트·파라미터가 올바르지 않을 때
+       */
+      public void validate(String script, String parameters) {
+            if (hasScript(script)) compile(TYPE_PREFIX + "NEW", "", script, parameters);
+      }
+
+      public void evict(Long ruleId) {
+            entries.remove(ruleId);
+      }
+
+      public static String typeOf(Long ruleId) {
+            return TYPE_PREFIX + ruleId;
+      }
+
+      /**
+       * 규칙이 생성·시뮬레이션에 쓰는 전략 타입 - 스크립트가 있으면 RULE_{id}, 없으면 규칙의 type
+       */
+      public static String strategyTypeOf(LottoRule rule) {
+            return hasScript(rule.getScript()) ? typeOf(rule.getId()) : rule.getType();
+      }
+
+      /**
+       * "RULE_{id}" 형식의 전략 타입이면 규칙 ID, 아니면 null
+       */
+      public static Long ruleIdOf(String type) {
+            if (type == null || !type.startsWith(TYPE_PREFIX)) return null;
+            try {
+                  return Long.valueOf(type.substring(TYPE_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                  return null;
+            }
+      }
+
+      private ScriptedLottoStrategy compile(String type, String name, String script, String parameters) {
+            try {
+                  Map<String, Long> constants = parseParameters(parameters);
+                  Long candidates = constants.get(CANDIDATES_PARAMETER);
+                  RuleScript compiled = RuleScript.compile(script, constants);
+                  return new ScriptedLottoStrategy(type, name, compiled,
+                              candidates != null ? candidates.intValue() : ScriptedLottoStrategy.DEFAULT_CANDIDATES);
+            } catch (RuleScriptException | JsonProcessingException e) {
+                  log.warn("규칙 스크립트 컴파일 실패 ({}): {}", type, e.getMessage());
+                  throw new BusinessException(ErrorCode.LOTTO_RULE_SCRIPT_INVALID);
+            }
+      }
+
+      // 최상위 숫자·불리언 값만 상수로 사용
+      private Map<String, Long> parseParameters(String parameters) throws JsonProcessingException {
+            Map<String, Long> constants = new HashMap<>();
+            if (parameters == null || parameters.isBlank()) return constants;
+
+            JsonNode root = objectMapper.readTree(parameters);
+            if (!root.isObject()) return constants;
+            Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+            while (fields.hasNext()) {
+                  Map.Entry<String, JsonNode> field = fields.next();
+                  JsonNode value = field.getValue();
+                  if (value.isIntegralNumber()) constants.put(field.getKey(), value.asLong());
+                  else if (value.isNumber()) constants.put(field.getKey(), Math.round(value.asDouble()));
+                  else if (value.isBoolean()) constants.put(field.getKey(), value.asBoolean() ? 1L : 0L);
+            }
+            return constants;
+      }
+
+      private static boolean hasScript(String script) {
+            return script != null && !script.isBlank();
+      }
+
+      private record Version(String name, String script, String parameters) {
+      }
+
+      private record Entry(Version version, ScriptedLottoStrategy strategy) {
+      }
+}
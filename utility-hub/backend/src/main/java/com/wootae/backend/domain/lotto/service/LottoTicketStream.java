@@ -0,0 +1,145 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.TicketSet;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 대량 번호 생성 스트림
+ *
+ * 요청 개수만큼 티켓을 하나씩 생성해 바로 출력 버퍼에 기록한다. (전체 목록을 메모리에 만들지 않음)
+ * distinct면 {@link TicketSet}으로 배치 안 중복을 건너뛰고, 조건이 좁은 전략이라 중복이
+ * {@link #MAX_CONSECUTIVE_DUPLICATES}번 연속되면 더 만들 조합이 없다고 보고 요청 개수보다 일찍 끝낸다.
+ * 한 스레드(응답 기록 스레드)에서만 사용한다.
+ */
+public final class LottoTicketStream {
+
+      static final int MAX_CONSECUTIVE_DUPLICATES = 1_000;
+      private static final int BUFFER_SIZE = 8 * 1024;
+      // 가장 긴 한 줄: "[45,45,45,45,45,45]\n"
+      private static final int MAX_LINE_LENGTH = 20;
+
+      @Getter
+      @RequiredArgsConstructor
+      public enum Format {
+            NDJSON("application/x-ndjson"),
+            CSV("text/csv");
+
+            private final String mediaType;
+
+            public static Format from(String value) {
+                  for (Format format : values()) {
+                        if (format.name().equalsIgnoreCase(value)) return format;
+                  }
+                  throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+      }
+
+      private final LottoStrategy strategy;
+      private final LottoStrategyContext context;
+      private final int count;
+      private final TicketSet seen;
+
+      private int produced;
+      private boolean exhausted;
+      // prime()으로 미리 만든 첫 티켓 (없으면 0)
+      private long primed;
+
+      LottoTicketStream(LottoStrategy strategy, LottoStrategyContext context, int count, boolean distinct) {
+            this.strategy = strategy;
+            this.context = context;
+            this.count = count;
+            this.seen = distinct ? new TicketSet(count) : null;
+      }
+
+      /**
+       * 첫 티켓을 미리 생성 - 생성 실패(RuleScriptException)가 응답을 쓰기 전에 드러나도록
+       */
+      void prime() {
+            primed = next();
+      }
+
+      /**
+       * 다음 티켓 마스크, 끝이면 0
+       */
+      public long next() {
+            if (primed != 0L) {
+                  long mask = primed;
+                  primed = 0L;
+                  return mask;
+            }
+            if (produced >= count || exhausted) return 0L;
+            for (int duplicates = 0; duplicates < MAX_CONSECUTIVE_DUPLICATES; duplicates++) {
+                  long mask = strategy.generateMask(context);
+                  if (seen == null || seen.add(mask)) {
+                        produced++;
+                        return mask;
+                  }
+            }
+            exhausted = true;
+            return 0L;
+      }
+
+      /**
+       * 남은 티켓을 모두 생성하며 기록 (NDJSON은 줄마다 번호 배열, CSV는 헤더 + 줄마다 번호 6개)
+       *
+       * @return 기록한 티켓 수
+       */
+      public int writeTo(OutputStream out, Format format) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int pos = 0;
+            if (format == Format.CSV) pos = put(buffer, pos, "n1,n2,n3,n4,n5,n6\n");
+
+            for (long mask = next(); mask != 0L; mask = next()) {
+                  if (pos + MAX_LINE_LENGTH > buffer.length) {
+                        out.write(buffer, 0, pos);
+                        pos = 0;
+                  }
+                  if (format == Format.NDJSON) buffer[pos++] = '[';
+                  boolean first = true;
+                  for (long m = mask; m != 0; m &= m - 1) {
+                        if (!first) buffer[pos++] = ',';
+                        first = false;
+                        int number = Long.numberOfTrailingZeros(m);
+                        if (number >= 10) buffer[pos++] = (byte) ('0' + number / 10);
+                        buffer[pos++] = (byte) ('0' + number % 10);
+                  }
+                  if (format == Format.NDJSON) buffer[pos++] = ']';
+                  buffer[pos++] = '\n';
+            }
+            out.write(buffer, 0, pos);
+            out.flush();
+            return produced;
+      }
+
+      private static int put(byte[] buffer, int pos, String ascii) {
+            for (int i = 0; i < ascii.length(); i++) buffer[pos++] = (byte) ascii.charAt(i);
+            return pos;
+      }
+
+      public String getStrategyType() {
+            return strategy.getType();
+      }
+
+      public int getRequested() {
+            return count;
+      }
+
+      public int getProduced() {
+            return produced;
+      }
+
+      /**
+       * 중복을 피할 조합이 부족해 요청 개수보다 일찍 끝났는지
+       */
+      public boolean isExhausted() {
+            return exhausted;
+      }
+}
@@ -0,0 +1,90 @@
+package com.wootae.backend.domain.lotto.service;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 작업 청크 단위 체크포인트
+ *
+ * 작업 목록(전략 순 × 회차 내림차순)을 chunkSize개씩 나눠, 청크의 결과가 모두 저장되면 완료로 표시한다.
+ * 완료 청크 BitSet은 SimulationJob에 Base64로 저장되고, 재개 시 완료 청크는 결과 조회 없이 건너뛴다.
+ */
+public class SimulationCheckpoint {
+
+      private final int chunkSize;
+      private final int drawCount;
+      private final Map<String, Integer> strategyIndex = new HashMap<>();
+      private final Map<Integer, Integer> drawIndex = new HashMap<>();
+      private final BitSet doneChunks;
+      private final AtomicIntegerArray remaining;
+
+      public SimulationCheckpoint(List<String> strategyTypes, List<Integer> drawNos, int chunkSize, String encodedDone) {
+            this.chunkSize = chunkSize;
+            this.drawCount = drawNos.size();
+            for (int i = 0; i < strategyTypes.size(); i++) strategyIndex.put(strategyTypes.get(i), i);
+            for (int i = 0; i < drawNos.size(); i++) drawIndex.put(drawNos.get(i), i);
+            this.doneChunks = decode(encodedDone);
+            this.remaining = new AtomicIntegerArray(chunkCount(strategyTypes.size() * drawCount));
+      }
+
+      public int chunkOf(String strategyType, int drawNo) {
+            return (strategyIndex.get(strategyType) * drawCount + drawIndex.get(drawNo)) / chunkSize;
+      }
+
+      public synchronized boolean isChunkDone(int chunk) {
+            return doneChunks.get(chunk);
+      }
+
+      /**
+       * 이번 실행에서 처리할 작업 등록 (실행 전 호출)
+       */
+      public void expect(String strategyType, int drawNo) {
+            remaining.incrementAndGet(chunkOf(strategyType, drawNo));
+      }
+
+      /**
+       * 처리할 작업이 남지 않은 청크를 완료로 표시 (이미 결과가 모두 있던 청크)
+       */
+      public synchronized void markIdleChunksDone() {
+            for (int chunk = 0; chunk < remaining.length(); chunk++) {
+                  if (remaining.get(chunk) == 0) doneChunks.set(chunk);
+            }
+      }
+
+      /**
+       * 결과 저장 완료 - 청크의 마지막 작업이면 완료로 표시
+       */
+      public void saved(String strategyType, int drawNo) {
+            int chunk = chunkOf(strategyType, drawNo);
+            if (remaining.decrementAndGet(chunk) == 0) {
+                  synchronized (this) {
+                        doneChunks.set(chunk);
+                  }
+            }
+      }
+
+      public synchronized int doneChunkCount() {
+            return doneChunks.cardinality();
+      }
+
+      public int chunkCount() {
+            return remaining.length();
+      }
+
+      public synchronized String encode() {
+            return Base64.getEncoder().encodeToString(doneChunks.toByteArray());
+      }
+
+      private int chunkCount(int taskCount) {
+            return (taskCount + chunkSize - 1) / chunkSize;
+      }
+
+      private static BitSet decode(String encoded) {
+            if (encoded == null || encoded.isEmpty()) return new BitSet();
+            return BitSet.valueOf(Base64.getDecoder().decode(encoded));
+      }
+}
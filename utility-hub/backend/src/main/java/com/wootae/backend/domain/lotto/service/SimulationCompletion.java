@@ -0,0 +1,47 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.repository.SimulationResultRepository.CompletedTask;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 완료된 (전략, 회차) 집합 - 전략별 BitSet(인덱스=회차 번호)
+ *
+ * 시뮬레이션 시작 시 한 번의 조회로 적재해, 작업마다 exists 쿼리를 보내지 않고 건너뛰기를 판단한다.
+ */
+public final class SimulationCompletion {
+
+      private final Map<String, BitSet> doneByStrategy = new HashMap<>();
+      private int count;
+
+      private SimulationCompletion() {
+      }
+
+      public static SimulationCompletion of(List<CompletedTask> completedTasks) {
+            SimulationCompletion completion = new SimulationCompletion();
+            for (CompletedTask task : completedTasks) {
+                  completion.markDone(task.getStrategyType(), task.getDrawNo());
+            }
+            return completion;
+      }
+
+      public boolean isDone(String strategyType, int drawNo) {
+            BitSet done = doneByStrategy.get(strategyType);
+            return done != null && done.get(drawNo);
+      }
+
+      public int count() {
+            return count;
+      }
+
+      private void markDone(String strategyType, int drawNo) {
+            BitSet done = doneByStrategy.computeIfAbsent(strategyType, type -> new BitSet());
+            if (!done.get(drawNo)) {
+                  done.set(drawNo);
+                  count++;
+            }
+      }
+}
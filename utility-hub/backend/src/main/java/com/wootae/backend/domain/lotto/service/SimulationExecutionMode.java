@@ -0,0 +1,10 @@
+package com.wootae.backend.domain.lotto.service;
+
+/**
+ * 시뮬레이션 작업 실행 방식 (lotto.simulation.executor)
+ */
+public enum SimulationExecutionMode {
+      FIXED_POOL,     // 고정 크기 스레드 풀, (전략, 회차) 작업 단위
+      FORK_JOIN,      // 작업 훔치기 풀, 작업 구간 + 티켓 구간을 재귀 분할
+      VIRTUAL_THREAD  // 작업마다 가상 스레드 - 결과 저장(I/O) 대기 중 캐리어 스레드를 점유하지 않음
+}
@@ -0,0 +1,184 @@
+package com.wootae.backend.domain.lotto.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * 시뮬레이션 작업 실행기
+ *
+ * 전체 작업 목록을 한 번에 실행하고(전략 경계에서 대기하지 않음), 실패한 작업은 로그를 남기고 계속 진행한 뒤
+ * 실패 건수를 돌려준다. (호출자가 작업 실패로 처리)
+ * 실행이 끝나거나 예외가 나도 풀은 항상 종료된다.
+ */
+@Slf4j
+public class SimulationExecutor {
+
+      // FORK_JOIN 모드에서 한 작업의 티켓을 나누는 단위
+      static final int TICKET_CHUNK = 25_000;
+
+      private final SimulationExecutionMode mode;
+      private final int parallelism;
+
+      public SimulationExecutor(SimulationExecutionMode mode, int parallelism) {
+            this.mode = mode != null ? mode : SimulationExecutionMode.FORK_JOIN;
+            this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+      }
+
+      public SimulationExecutionMode getMode() {
+            return mode;
+      }
+
+      public int getParallelism() {
+            return mode == SimulationExecutionMode.VIRTUAL_THREAD
+                        ? Runtime.getRuntime().availableProcessors() : parallelism;
+      }
+
+      /**
+       * 모든 작업 실행 후 반환 (호출 스레드는 완료까지 대기)
+       *
+       * @return 예외로 끝난 작업 수 (결과 저장 실패 포함 - 0이 아니면 저장되지 않은 결과가 있다)
+       */
+      public <T> int forEach(List<T> tasks, Consumer<T> action) throws InterruptedException {
+            if (tasks.isEmpty()) return 0;
+            AtomicInteger failures = new AtomicInteger();
+            Consumer<T> guarded = task -> {
+                  try {
+                        action.accept(task);
+                  } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                        log.error("시뮬레이션 작업 실패: {} - {}", task, e.getMessage(), e);
+                  }
+            };
+
+            switch (mode) {
+                  case FORK_JOIN -> {
+                        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                              pool.invoke(new ForEachTask<>(tasks, 0, tasks.size(), guarded));
+                        }
+                  }
+                  case VIRTUAL_THREAD -> failures.addAndGet(
+                              submitAll(Executors.newVirtualThreadPerTaskExecutor(), tasks, guarded));
+                  default -> failures.addAndGet(submitAll(Executors.newFixedThreadPool(parallelism), tasks, guarded));
+            }
+            return failures.get();
+      }
+
+      /**
+       * 티켓 total장의 등수별 집계 - TICKET_CHUNK 단위로 나누고 청크마다 난수 생성기를 split 해서 넘긴다.
+       * 분할 모양과 split 순서가 실행 방식과 무관하게 같으므로 같은 시드면 결과도 같다.
+       * FORK_JOIN 풀 안에서는 청크를 병렬로 집계한다.
+       */
+      public int[] countTickets(int total, SplittableGenerator random, TicketCounter counter) {
+            if (mode == SimulationExecutionMode.FORK_JOIN && ForkJoinTask.inForkJoinPool()) {
+                  return new CountTask(total, random, counter).invoke();
+            }
+            return countSequential(total, random, counter);
+      }
+
+      private static int[] countSequential(int tickets, SplittableGenerator random, TicketCounter counter) {
+            if (tickets <= TICKET_CHUNK) {
+                  return counter.count(tickets, random);
+            }
+            int half = tickets / 2;
+            int[] left = countSequential(half, random.split(), counter);
+            return sum(left, countSequential(tickets - half, random, counter));
+      }
+
+      private static int[] sum(int[] left, int[] right) {
+            for (int i = 0; i < left.length; i++) left[i] += right[i];
+            return left;
+      }
+
+      // guarded 밖으로 나온 실패(Error) 수
+      private <T> int submitAll(ExecutorService executor, List<T> tasks, Consumer<T> action)
+                  throws InterruptedException {
+            int failures = 0;
+            try (executor) {
+                  List<Future<?>> futures = new ArrayList<>(tasks.size());
+                  for (T task : tasks) {
+                        futures.add(executor.submit(() -> action.accept(task)));
+                  }
+                  for (Future<?> future : futures) {
+                        try {
+                              future.get();
+                        } catch (ExecutionException e) {
+                              failures++;
+                              log.error("시뮬레이션 작업 실패: {}", e.getCause().getMessage());
+                        }
+                  }
+            }
+            return failures;
+      }
+
+      private static final class ForEachTask<T> extends RecursiveAction {
+
+            private final List<T> tasks;
+            private final int from;
+            private final int to;
+            private final Consumer<T> action;
+
+            ForEachTask(List<T> tasks, int from, int to, Consumer<T> action) {
+                  this.tasks = tasks;
+                  this.from = from;
+                  this.to = to;
+                  this.action = action;
+            }
+
+            @Override
+            protected void compute() {
+                  if (to - from == 1) {
+                        action.accept(tasks.get(from));
+                        return;
+                  }
+                  int mid = (from + to) >>> 1;
+                  invokeAll(new ForEachTask<>(tasks, from, mid, action),
+                              new ForEachTask<>(tasks, mid, to, action));
+            }
+      }
+
+      @FunctionalInterface
+      public interface TicketCounter {
+            /**
+             * random으로 티켓 tickets장을 생성·채점해 등수별 개수 반환
+             */
+            int[] count(int tickets, SplittableGenerator random);
+      }
+
+      private static final class CountTask extends RecursiveTask<int[]> {
+
+            private final int tickets;
+            private final SplittableGenerator random;
+            private final TicketCounter counter;
+
+            CountTask(int tickets, SplittableGenerator random, TicketCounter counter) {
+                  this.tickets = tickets;
+                  this.random = random;
+                  this.counter = counter;
+            }
+
+            @Override
+            protected int[] compute() {
+                  if (tickets <= TICKET_CHUNK) {
+                        return counter.count(tickets, random);
+                  }
+                  int half = tickets / 2;
+                  CountTask left = new CountTask(half, random.split(), counter);
+                  left.fork();
+                  int[] right = new CountTask(tickets - half, random, counter).compute();
+                  return sum(left.join(), right);
+            }
+      }
+}
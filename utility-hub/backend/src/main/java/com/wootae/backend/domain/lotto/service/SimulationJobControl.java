@@ -0,0 +1,29 @@
+package com.wootae.backend.domain.lotto.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실행 중인 시뮬레이션 작업의 중단 요청 신호
+ *
+ * 작업 스레드는 작업(전략, 회차)마다 확인하고, 요청이 있으면 새 작업을 시작하지 않고
+ * 이미 계산한 결과만 저장한 뒤 요청된 상태(PAUSED/CANCELLED)로 종료한다.
+ */
+public class SimulationJobControl {
+
+      private final AtomicReference<String> stopStatus = new AtomicReference<>();
+
+      /**
+       * 중단 요청 - 먼저 들어온 요청만 반영
+       */
+      public boolean requestStop(String status) {
+            return stopStatus.compareAndSet(null, status);
+      }
+
+      public boolean isStopRequested() {
+            return stopStatus.get() != null;
+      }
+
+      public String getStopStatus() {
+            return stopStatus.get();
+      }
+}
@@ -0,0 +1,226 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.entity.SimulationJob;
+import com.wootae.backend.domain.lotto.repository.SimulationJobRepository;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시뮬레이션 작업 스케줄러
+ *
+ * 작업을 대기열에 넣고 최대 maxConcurrentJobs개까지 동시에 실행한다.
+ * 작업은 청크 단위 체크포인트를 DB에 남기므로 일시정지/서버 재시작 후에도 남은 작업부터 재개할 수 있다.
+ */
+@Slf4j
+@Service
+public class SimulationJobScheduler {
+
+      private static final String QUEUED = "QUEUED";
+      private static final String RUNNING = "RUNNING";
+      private static final String PAUSED = "PAUSED";
+      private static final String FAILED = "FAILED";
+      private static final String CANCELLED = "CANCELLED";
+
+      private final SimulationService simulationService;
+      private final SimulationJobRepository simulationJobRepository;
+      private final LottoDrawStore lottoDrawStore;
+      private final LottoGenerateService lottoGenerateService;
+      private final int maxConcurrentJobs;
+      private final int chunkSize;
+      private final ExecutorService jobPool;
+
+      // 대기/실행 중인 작업의 중단 신호 (재개하면 새 신호로 교체)
+      private final Map<Long, SimulationJobControl> controls = new ConcurrentHashMap<>();
+
+      public SimulationJobScheduler(
+                  SimulationService simulationService,
+                  SimulationJobRepository simulationJobRepository,
+                  LottoDrawStore lottoDrawStore,
+                  LottoGenerateService lottoGenerateService,
+                  @Value("${lotto.simulation.max-concurrent-jobs:1}") int maxConcurrentJobs,
+                  @Value("${lotto.simulation.checkpoint-chunk-size:100}") int chunkSize) {
+            this.simulationService = simulationService;
+            this.simulationJobRepository = simulationJobRepository;
+            this.lottoDrawStore = lottoDrawStore;
+            this.lottoGenerateService = lottoGenerateService;
+            this.maxConcurrentJobs = Math.max(1, maxConcurrentJobs);
+            this.chunkSize = Math.max(1, chunkSize);
+            this.jobPool = Executors.newFixedThreadPool(this.maxConcurrentJobs,
+                        Thread.ofPlatform().name("simulation-job-", 1).factory());
+      }
+
+      /**
+       * 작업 제출 - 대기열 순서대로 실행
+       *
+       * @param strategyTypes 대상 전략 (null이거나 비어 있으면 전체)
+       * @param seed          난수 시드 (null이면 작업 ID)
+       */
+      public SimulationJob submit(int ticketsPerDraw, List<String> strategyTypes, Long seed) {
+            if (ticketsPerDraw <= 0) throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+
+            String types = strategyTypes == null || strategyTypes.isEmpty() ? null
+                        : String.join(",", strategyTypes.stream().map(String::toUpperCase).toList());
+            // 해석된 전략 목록을 고정 저장 - 재개 시 규칙 삭제·전략 추가로 체크포인트 청크가 어긋나지 않도록
+            Set<String> resolved = lottoGenerateService.resolveStrategies(types).keySet();
+            int strategyCount = resolved.size();
+            if (strategyCount == 0) throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+
+            LottoDraw latest = lottoDrawStore.latest()
+                        .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE));
+            int drawCount = lottoDrawStore.range(1, latest.getDrwNo()).size();
+
+            SimulationJob job = simulationJobRepository.save(SimulationJob.queue(
+                        strategyCount * drawCount, ticketsPerDraw, String.join(",", resolved), latest.getDrwNo(), chunkSize, seed));
+            if (seed == null) {
+                  job.assignSeed(job.getId());
+                  job = simulationJobRepository.save(job);
+            }
+
+            log.info("시뮬레이션 #{} 대기열 추가: {}개 전략 × {}회차 × {}티켓", job.getId(),
+                        strategyCount, drawCount, ticketsPerDraw);
+            enqueue(job.getId());
+            return job;
+      }
+
+      /**
+       * 일시정지 - 실행 중이면 진행 중인 작업까지 저장 후 PAUSED, 대기 중이면 바로 PAUSED
+       */
+      public SimulationJob pause(long jobId) {
+            SimulationJob job = getJob(jobId);
+            SimulationJobControl control = controls.get(jobId);
+            switch (job.getStatus()) {
+                  case RUNNING -> {
+                        if (control != null) control.requestStop(PAUSED);
+                  }
+                  case QUEUED -> {
+                        if (control != null) control.requestStop(PAUSED);
+                        job.pause();
+                        job = simulationJobRepository.save(job);
+                  }
+                  default -> throw new BusinessException(ErrorCode.SIMULATION_JOB_INVALID_STATE);
+            }
+            return job;
+      }
+
+      /**
+       * 재개 - 일시정지/실패한 작업을 대기열에 다시 넣음 (완료 청크와 저장된 결과는 건너뜀)
+       */
+      public SimulationJob resume(long jobId) {
+            SimulationJob job = getJob(jobId);
+            boolean resumable = PAUSED.equals(job.getStatus()) || FAILED.equals(job.getStatus());
+            if (!resumable || job.getTicketsPerDraw() == null) {
+                  throw new BusinessException(ErrorCode.SIMULATION_JOB_INVALID_STATE);
+            }
+            // 제출 당시 전략 중 삭제된 것이 있으면 체크포인트를 이어갈 수 없음
+            if (job.getStrategyTypes() != null && lottoGenerateService.resolveStrategies(job.getStrategyTypes()).size()
+                        != job.getStrategyTypes().split(",").length) {
+                  throw new BusinessException(ErrorCode.SIMULATION_JOB_INVALID_STATE);
+            }
+            job.requeue();
+            job = simulationJobRepository.save(job);
+            enqueue(jobId);
+            return job;
+      }
+
+      /**
+       * 취소 - 실행 중이면 진행 중인 작업까지 저장 후 CANCELLED (재개 불가)
+       */
+      public SimulationJob cancel(long jobId) {
+            SimulationJob job = getJob(jobId);
+            if (job.isFinished()) throw new BusinessException(ErrorCode.SIMULATION_JOB_INVALID_STATE);
+
+            SimulationJobControl control = controls.get(jobId);
+            if (control != null) control.requestStop(CANCELLED);
+            if (!RUNNING.equals(job.getStatus())) {
+                  job.cancel();
+                  job = simulationJobRepository.save(job);
+            }
+            return job;
+      }
+
+      /**
+       * 대기/실행 중인 모든 작업 일시정지
+       */
+      public int pauseAll() {
+            List<SimulationJob> active = simulationJobRepository.findByStatusInOrderByIdAsc(List.of(QUEUED, RUNNING));
+            active.forEach(job -> pause(job.getId()));
+            return active.size();
+      }
+
+      public SimulationJob getJob(long jobId) {
+            return simulationJobRepository.findById(jobId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.SIMULATION_JOB_NOT_FOUND));
+      }
+
+      public List<SimulationJob> getJobs() {
+            return simulationJobRepository.findTop50ByOrderByIdDesc();
+      }
+
+      public int getMaxConcurrentJobs() {
+            return maxConcurrentJobs;
+      }
+
+      /**
+       * 서버 시작 시 복구 - 실행 중이던 작업은 PAUSED(재개 가능)로, 대기 중이던 작업은 다시 대기열로
+       */
+      @Order(4)
+      @EventListener(ApplicationReadyEvent.class)
+      public void recoverJobs() {
+            for (SimulationJob job : simulationJobRepository.findByStatusInOrderByIdAsc(List.of(QUEUED, RUNNING))) {
+                  if (RUNNING.equals(job.getStatus())) {
+                        job.pause();
+                        simulationJobRepository.save(job);
+                        log.info("중단된 시뮬레이션 #{}을 일시정지 상태로 복구", job.getId());
+                  } else if (job.getTicketsPerDraw() != null) {
+                        enqueue(job.getId());
+                  }
+            }
+      }
+
+      @PreDestroy
+      public void shutdown() throws InterruptedException {
+            controls.values().forEach(control -> control.requestStop(PAUSED));
+            jobPool.shutdown();
+            if (!jobPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                  log.warn("시뮬레이션 작업이 제시간에 종료되지 않았습니다.");
+            }
+      }
+
+      private void enqueue(long jobId) {
+            SimulationJobControl control = new SimulationJobControl();
+            controls.put(jobId, control);
+            jobPool.execute(() -> run(jobId, control));
+      }
+
+      private void run(long jobId, SimulationJobControl control) {
+            try {
+                  // 대기 중에 일시정지/취소되었거나 다시 제출된 작업은 건너뜀
+                  if (control.isStopRequested() || controls.get(jobId) != control) return;
+                  SimulationJob job = simulationJobRepository.findById(jobId).orElse(null);
+                  if (job == null || !QUEUED.equals(job.getStatus())) return;
+
+                  job.start();
+                  simulationService.runJob(simulationJobRepository.save(job), control, maxConcurrentJobs);
+            } catch (Exception e) {
+                  log.error("시뮬레이션 #{} 실행 실패", jobId, e);
+            } finally {
+                  controls.remove(jobId, control);
+            }
+      }
+}
@@ -0,0 +1,122 @@
+package com.wootae.backend.domain.lotto.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 시뮬레이션의 메모리 내 진행 상황
+ *
+ * 작업 스레드는 카운터만 갱신하고, SSE 스트림은 일정 주기로 {@link #snapshot()}을 읽는다.
+ * DB(SimulationJob)에는 저장 완료된 결과만 체크포인트 주기로 반영한다.
+ */
+public class SimulationProgress {
+
+      private volatile Long jobId;
+      private volatile String status = "IDLE";
+      private volatile int totalTasks;
+      private volatile int skippedTasks;
+      private volatile long startedAtNanos;
+      private volatile long finishedAtNanos;
+      private volatile String currentStrategy;
+      private volatile Integer currentDrawNo;
+
+      private final AtomicInteger completedTasks = new AtomicInteger();
+      private final AtomicInteger savedTasks = new AtomicInteger();
+      private final LongAdder tickets = new LongAdder();
+      private final Map<Long, Worker> workers = new ConcurrentHashMap<>();
+
+      private record Worker(String name, String strategyType, int drawNo, long startedAtNanos) {
+      }
+
+      /**
+       * 작업 스레드별 현재 처리 중인 (전략, 회차)
+       */
+      public record WorkerStatus(String worker, String strategyType, int drawNo, long elapsedMillis) {
+      }
+
+      /**
+       * 진행 상황 스냅샷 (SSE 전송 단위)
+       *
+       * @param completedTasks 계산이 끝난 작업 수 (건너뛴 작업 포함)
+       * @param savedTasks     DB에 저장된 작업 수 (건너뛴 작업 포함)
+       * @param etaSeconds     남은 예상 시간 (계산 불가면 -1)
+       */
+      public record Snapshot(Long jobId, String status, int totalTasks, int completedTasks, int savedTasks,
+                  double progressPercent, double ticketsPerSecond, long etaSeconds,
+                  String currentStrategy, Integer currentDrawNo, List<WorkerStatus> workers) {
+      }
+
+      public void start(long jobId, int totalTasks, int skippedTasks) {
+            this.jobId = jobId;
+            this.totalTasks = totalTasks;
+            this.skippedTasks = skippedTasks;
+            this.currentStrategy = null;
+            this.currentDrawNo = null;
+            completedTasks.set(skippedTasks);
+            savedTasks.set(skippedTasks);
+            tickets.reset();
+            workers.clear();
+            startedAtNanos = System.nanoTime();
+            finishedAtNanos = 0;
+            status = "RUNNING";
+      }
+
+      public void taskStarted(String strategyType, int drawNo) {
+            Thread thread = Thread.currentThread();
+            String name = thread.getName().isEmpty() ? "virtual-" + thread.threadId() : thread.getName();
+            workers.put(thread.threadId(), new Worker(name, strategyType, drawNo, System.nanoTime()));
+            currentStrategy = strategyType;
+            currentDrawNo = drawNo;
+      }
+
+      public void taskFinished(int ticketsPerDraw) {
+            workers.remove(Thread.currentThread().threadId());
+            tickets.add(ticketsPerDraw);
+            completedTasks.incrementAndGet();
+      }
+
+      /**
+       * 배치 저장 완료 - DB에 반영된 작업 수 반환
+       */
+      public int tasksSaved(int count) {
+            return savedTasks.addAndGet(count);
+      }
+
+      public int getSavedTasks() {
+            return savedTasks.get();
+      }
+
+      public void finish(String status) {
+            this.status = status;
+            this.finishedAtNanos = System.nanoTime();
+            workers.clear();
+      }
+
+      public Snapshot snapshot() {
+            long now = System.nanoTime();
+            long end = finishedAtNanos != 0 ? finishedAtNanos : now;
+            double elapsedSeconds = startedAtNanos == 0 ? 0 : (end - startedAtNanos) / 1e9;
+            int total = totalTasks;
+            int completed = completedTasks.get();
+
+            // 처리 속도는 이번 실행에서 계산한 작업만으로 추정 (건너뛴 작업 제외)
+            double ticketsPerSecond = elapsedSeconds > 0 ? tickets.sum() / elapsedSeconds : 0;
+            double tasksPerSecond = elapsedSeconds > 0 ? (completed - skippedTasks) / elapsedSeconds : 0;
+            long etaSeconds = "RUNNING".equals(status) && tasksPerSecond > 0
+                        ? Math.round((total - completed) / tasksPerSecond) : -1;
+
+            List<WorkerStatus> workerStatuses = workers.values().stream()
+                        .map(w -> new WorkerStatus(w.name(), w.strategyType(), w.drawNo(),
+                                    (now - w.startedAtNanos()) / 1_000_000))
+                        .sorted(Comparator.comparing(WorkerStatus::worker))
+                        .toList();
+
+            return new Snapshot(jobId, status, total, completed, savedTasks.get(),
+                        total == 0 ? 0 : (double) completed / total * 100,
+                        ticketsPerSecond, etaSeconds, currentStrategy, currentDrawNo, workerStatuses);
+      }
+}
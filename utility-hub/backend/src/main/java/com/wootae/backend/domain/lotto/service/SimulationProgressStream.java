@@ -0,0 +1,70 @@
+package com.wootae.backend.domain.lotto.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 시뮬레이션 진행 상황 SSE 스트림
+ *
+ * 구독자가 있을 때만 일정 주기로 실행 중인 작업별 메모리 내 스냅샷 목록을 전송한다. (DB 폴링 없음)
+ */
+@Slf4j
+@Component
+public class SimulationProgressStream {
+
+      private static final String EVENT_NAME = "progress";
+
+      private final SimulationService simulationService;
+      private final long timeoutMs;
+      private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+      public SimulationProgressStream(
+                  SimulationService simulationService,
+                  @Value("${lotto.simulation.progress-stream-timeout-ms:1800000}") long timeoutMs) {
+            this.simulationService = simulationService;
+            this.timeoutMs = timeoutMs;
+      }
+
+      /**
+       * 새 구독 - 현재 스냅샷을 바로 한 번 보내고 이후 주기적으로 전송
+       */
+      public SseEmitter subscribe() {
+            SseEmitter emitter = new SseEmitter(timeoutMs);
+            emitter.onCompletion(() -> emitters.remove(emitter));
+            emitter.onTimeout(() -> emitters.remove(emitter));
+            emitter.onError(e -> emitters.remove(emitter));
+            emitters.add(emitter);
+            send(emitter, simulationService.getProgress());
+            return emitter;
+      }
+
+      @Scheduled(fixedRateString = "${lotto.simulation.progress-interval-ms:1000}")
+      public void broadcast() {
+            if (emitters.isEmpty()) return;
+            List<SimulationProgress.Snapshot> snapshots = simulationService.getProgress();
+            for (SseEmitter emitter : emitters) {
+                  send(emitter, snapshots);
+            }
+      }
+
+      public int getSubscriberCount() {
+            return emitters.size();
+      }
+
+      private void send(SseEmitter emitter, List<SimulationProgress.Snapshot> snapshots) {
+            try {
+                  emitter.send(SseEmitter.event().name(EVENT_NAME).data(snapshots));
+            } catch (IOException | IllegalStateException e) {
+                  // 연결이 끊긴 구독자는 제거
+                  emitters.remove(emitter);
+                  log.debug("진행률 구독 종료: {}", e.getMessage());
+            }
+      }
+}
@@ -0,0 +1,261 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.LottoStatsPeriod;
+import com.wootae.backend.domain.lotto.entity.SimulationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 시뮬레이션 결과 일괄 저장기
+ *
+ * (전략, 회차)마다 개별 save 하던 것을 버퍼에 모아 batchSize 단위로
+ * 한 트랜잭션·JDBC 배치 insert로 저장한다. (IDENTITY 키라 JPA 배치가 동작하지 않음)
+ * MySQL은 DB_URL에 rewriteBatchedStatements=true를 주면 multi-row insert로 전송된다.
+ * 같은 트랜잭션에서 전략별 누적 집계(simulation_strategy_aggregates)도 증분 갱신한다.
+ * 기간 통계(lotto_simulation_stats)는 배치마다가 아니라 시뮬레이션이 끝날 때 한 번 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class SimulationResultWriter {
+
+      private static final String INSERT_SQL = "INSERT INTO simulation_results "
+                  + "(strategy_type, draw_no, total_tickets, rank1_count, rank2_count, rank3_count, "
+                  + "rank4_count, rank5_count, no_win_count, estimated_prize, created_at) "
+                  + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+      private static final String UPDATE_AGGREGATE_SQL = "UPDATE simulation_strategy_aggregates SET "
+                  + "total_draws = total_draws + ?, total_tickets = total_tickets + ?, "
+                  + "rank1_count = rank1_count + ?, rank2_count = rank2_count + ?, rank3_count = rank3_count + ?, "
+                  + "rank4_count = rank4_count + ?, rank5_count = rank5_count + ?, "
+                  + "total_prize = total_prize + ?, updated_at = ? WHERE strategy_type = ?";
+
+      private static final String INSERT_AGGREGATE_SQL = "INSERT INTO simulation_strategy_aggregates "
+                  + "(total_draws, total_tickets, rank1_count, rank2_count, rank3_count, rank4_count, rank5_count, "
+                  + "total_prize, updated_at, strategy_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+      private static final String REBUILD_AGGREGATES_SQL = "INSERT INTO simulation_strategy_aggregates "
+                  + "(strategy_type, total_draws, total_tickets, rank1_count, rank2_count, rank3_count, "
+                  + "rank4_count, rank5_count, total_prize, updated_at) "
+                  + "SELECT strategy_type, COUNT(*), SUM(total_tickets), SUM(rank1_count), SUM(rank2_count), "
+                  + "SUM(rank3_count), SUM(rank4_count), SUM(rank5_count), SUM(estimated_prize), CURRENT_TIMESTAMP "
+                  + "FROM simulation_results GROUP BY strategy_type";
+
+      private static final String LATEST_DRAW_SQL = "SELECT COALESCE(MAX(drw_no), 0) FROM lotto_draws";
+
+      // 최근 N회차 구간 합산 - simulation_results의 draw_no 인덱스로 구간만 읽는다
+      private static final String INSERT_WINDOW_STATS_SQL = "INSERT INTO lotto_simulation_stats "
+                  + "(strategy_type, period, from_draw_no, to_draw_no, total_draws, total_tickets, rank1_count, "
+                  + "rank2_count, rank3_count, rank4_count, rank5_count, total_prize, updated_at) "
+                  + "SELECT strategy_type, ?, ?, ?, COUNT(*), SUM(total_tickets), SUM(rank1_count), SUM(rank2_count), "
+                  + "SUM(rank3_count), SUM(rank4_count), SUM(rank5_count), SUM(estimated_prize), ? "
+                  + "FROM simulation_results WHERE draw_no BETWEEN ? AND ? GROUP BY strategy_type";
+
+      // 전체 기간은 이미 증분 갱신되는 전략별 누적 집계를 복사
+      private static final String INSERT_ALL_TIME_STATS_SQL = "INSERT INTO lotto_simulation_stats "
+                  + "(strategy_type, period, from_draw_no, to_draw_no, total_draws, total_tickets, rank1_count, "
+                  + "rank2_count, rank3_count, rank4_count, rank5_count, total_prize, updated_at) "
+                  + "SELECT strategy_type, ?, 1, ?, total_draws, total_tickets, rank1_count, rank2_count, "
+                  + "rank3_count, rank4_count, rank5_count, total_prize, ? FROM simulation_strategy_aggregates";
+
+      private final JdbcTemplate jdbcTemplate;
+      private final TransactionTemplate transactionTemplate;
+      private final int batchSize;
+
+      public SimulationResultWriter(
+                  JdbcTemplate jdbcTemplate,
+                  PlatformTransactionManager transactionManager,
+                  @Value("${lotto.simulation.write-batch-size:500}") int batchSize) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.batchSize = Math.max(1, batchSize);
+      }
+
+      /**
+       * 실행 단위 버퍼 생성
+       *
+       * @param onFlush 저장 완료된 배치를 받는 콜백 (작업 진행률 갱신용)
+       */
+      public Buffer open(Consumer<List<SimulationResult>> onFlush) {
+            return new Buffer(onFlush);
+      }
+
+      /**
+       * 결과 목록을 한 트랜잭션으로 배치 insert + 전략별 누적 집계 갱신
+       */
+      public void writeAll(List<SimulationResult> results) {
+            if (results.isEmpty()) return;
+            transactionTemplate.executeWithoutResult(status -> {
+                  jdbcTemplate.batchUpdate(INSERT_SQL, results, batchSize, (ps, r) -> {
+                        ps.setString(1, r.getStrategyType());
+                        ps.setInt(2, r.getDrawNo());
+                        ps.setInt(3, r.getTotalTickets());
+                        ps.setInt(4, r.getRank1Count());
+                        ps.setInt(5, r.getRank2Count());
+                        ps.setInt(6, r.getRank3Count());
+                        ps.setInt(7, r.getRank4Count());
+                        ps.setInt(8, r.getRank5Count());
+                        ps.setInt(9, r.getNoWinCount());
+                        ps.setLong(10, r.getEstimatedPrize());
+                        ps.setTimestamp(11, Timestamp.valueOf(r.getCreatedAt()));
+                  });
+                  accumulate(results);
+            });
+      }
+
+      /**
+       * 전략별 누적 집계 증분 갱신 - 행이 없으면 생성 (동시에 생성되면 다시 갱신)
+       */
+      private void accumulate(List<SimulationResult> results) {
+            Map<String, long[]> deltas = new TreeMap<>();
+            for (SimulationResult r : results) {
+                  long[] delta = deltas.computeIfAbsent(r.getStrategyType(), type -> new long[8]);
+                  delta[0]++;
+                  delta[1] += r.getTotalTickets();
+                  delta[2] += r.getRank1Count();
+                  delta[3] += r.getRank2Count();
+                  delta[4] += r.getRank3Count();
+                  delta[5] += r.getRank4Count();
+                  delta[6] += r.getRank5Count();
+                  delta[7] += r.getEstimatedPrize();
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            deltas.forEach((strategyType, delta) -> {
+                  Object[] args = aggregateArgs(strategyType, delta, now);
+                  if (jdbcTemplate.update(UPDATE_AGGREGATE_SQL, args) > 0) return;
+                  try {
+                        jdbcTemplate.update(INSERT_AGGREGATE_SQL, args);
+                  } catch (DuplicateKeyException e) {
+                        jdbcTemplate.update(UPDATE_AGGREGATE_SQL, args);
+                  }
+            });
+      }
+
+      private static Object[] aggregateArgs(String strategyType, long[] delta, Timestamp now) {
+            Object[] args = new Object[delta.length + 2];
+            for (int i = 0; i < delta.length; i++) args[i] = delta[i];
+            args[delta.length] = now;
+            args[delta.length + 1] = strategyType;
+            return args;
+      }
+
+      /**
+       * 누적 집계를 결과 테이블에서 다시 계산 (집계 도입 전 결과가 있거나 결과를 직접 삭제한 경우)
+       */
+      public void rebuildAggregates() {
+            transactionTemplate.executeWithoutResult(status -> {
+                  jdbcTemplate.update("DELETE FROM simulation_strategy_aggregates");
+                  jdbcTemplate.update(REBUILD_AGGREGATES_SQL);
+            });
+      }
+
+      /**
+       * 전략별 기간 통계(lotto_simulation_stats)를 최신 회차 기준으로 다시 계산 (시뮬레이션이 끝날 때 호출)
+       *
+       * @return 기준 회차 (추첨 데이터가 없으면 0)
+       */
+      public int refreshPeriodStats() {
+            Integer latest = transactionTemplate.execute(status -> {
+                  int latestDrawNo = Objects.requireNonNullElse(
+                              jdbcTemplate.queryForObject(LATEST_DRAW_SQL, Integer.class), 0);
+                  Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+                  jdbcTemplate.update("DELETE FROM lotto_simulation_stats");
+                  for (LottoStatsPeriod period : LottoStatsPeriod.values()) {
+                        if (period == LottoStatsPeriod.ALL_TIME) {
+                              jdbcTemplate.update(INSERT_ALL_TIME_STATS_SQL, period.name(), latestDrawNo, now);
+                        } else {
+                              int fromDrawNo = period.fromDrawNo(latestDrawNo);
+                              jdbcTemplate.update(INSERT_WINDOW_STATS_SQL, period.name(), fromDrawNo, latestDrawNo, now,
+                                          fromDrawNo, latestDrawNo);
+                        }
+                  }
+                  return latestDrawNo;
+            });
+            log.debug("기간 통계 갱신: 기준 {}회차", latest);
+            return latest != null ? latest : 0;
+      }
+
+      /**
+       * 서버 시작 시 집계 검증 - 집계된 결과 수가 실제 결과 수와 다르면 재구축, 기간 통계는 최신 회차 기준으로 갱신
+       */
+      @Order(3)
+      @EventListener(ApplicationReadyEvent.class)
+      public void verifyAggregates() {
+            Long aggregated = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(SUM(total_draws), 0) FROM simulation_strategy_aggregates", Long.class);
+            Long results = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM simulation_results", Long.class);
+            if (!Objects.equals(aggregated, results)) {
+                  log.info("전략별 집계 재구축: 집계 {}건, 결과 {}건", aggregated, results);
+                  rebuildAggregates();
+            }
+            refreshPeriodStats();
+      }
+
+      public int getBatchSize() {
+            return batchSize;
+      }
+
+      /**
+       * 스레드 안전한 결과 버퍼 - batchSize가 차면 저장, close 시 남은 결과 저장
+       */
+      public final class Buffer implements AutoCloseable {
+
+            private final Consumer<List<SimulationResult>> onFlush;
+            private List<SimulationResult> pending = new ArrayList<>(batchSize);
+
+            private Buffer(Consumer<List<SimulationResult>> onFlush) {
+                  this.onFlush = onFlush;
+            }
+
+            public void add(SimulationResult result) {
+                  List<SimulationResult> full = null;
+                  synchronized (this) {
+                        pending.add(result);
+                        if (pending.size() >= batchSize) {
+                              full = pending;
+                              pending = new ArrayList<>(batchSize);
+                        }
+                  }
+                  if (full != null) write(full);
+            }
+
+            public void flush() {
+                  List<SimulationResult> rest;
+                  synchronized (this) {
+                        if (pending.isEmpty()) return;
+                        rest = pending;
+                        pending = new ArrayList<>(batchSize);
+                  }
+                  write(rest);
+            }
+
+            @Override
+            public void close() {
+                  flush();
+            }
+
+            private void write(List<SimulationResult> batch) {
+                  writeAll(batch);
+                  log.debug("시뮬레이션 결과 {}건 저장", batch.size());
+                  onFlush.accept(batch);
+            }
+      }
+}
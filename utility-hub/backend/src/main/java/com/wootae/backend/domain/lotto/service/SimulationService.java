@@ -3,25 +3,30 @@ package com.wootae.backend.domain.lotto.service;
 import com.wootae.backend.domain.lotto.entity.LottoDraw;
 import com.wootae.backend.domain.lotto.entity.SimulationJob;
 import com.wootae.backend.domain.lotto.entity.SimulationResult;
-import com.wootae.backend.domain.lotto.repository.LottoDrawRepository;
+import com.wootae.backend.domain.lotto.entity.SimulationStrategyAggregate;
 import com.wootae.backend.domain.lotto.repository.SimulationJobRepository;
 import com.wootae.backend.domain.lotto.repository.SimulationResultRepository;
+import com.wootae.backend.domain.lotto.repository.SimulationStrategyAggregateRepository;
+import com.wootae.backend.domain.lotto.strategy.DrawHistoryIndex;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator.SplittableGenerator;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,112 +34,263 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SimulationService {
 
-      private final LottoDrawRepository lottoDrawRepository;
+      private final LottoDrawStore lottoDrawStore;
       private final SimulationResultRepository simulationResultRepository;
       private final SimulationJobRepository simulationJobRepository;
       private final LottoGenerateService lottoGenerateService;
       private final LottoMatchService lottoMatchService;
+      private final SimulationResultWriter simulationResultWriter;
+      private final ExactRankCalculator exactRankCalculator;
+      private final SimulationStrategyAggregateRepository simulationStrategyAggregateRepository;
 
-      private final AtomicBoolean running = new AtomicBoolean(false);
-      private final AtomicInteger completedTasks = new AtomicInteger(0);
-      private volatile SimulationJob currentJob;
+      @Value("${lotto.simulation.executor:FORK_JOIN}")
+      private SimulationExecutionMode executionMode;
 
-      @Async
-      public void startSimulation(int ticketsPerDraw) {
-            if (!running.compareAndSet(false, true)) {
-                  log.warn("시뮬레이션이 이미 실행 중입니다.");
-                  return;
-            }
+      // 0이면 CPU 코어 수
+      @Value("${lotto.simulation.parallelism:0}")
+      private int parallelism;
+
+      // 이력과 무관한 균등 추출 전략은 표본 추출 대신 정확 확률로 계산
+      @Value("${lotto.simulation.exact-mode:false}")
+      private boolean exactMode;
+
+      // SimulationJob 진행률을 DB에 저장하는 최소 간격 (실시간 진행률은 SSE로 제공)
+      @Value("${lotto.simulation.checkpoint-interval-ms:10000}")
+      private long checkpointIntervalMs;
 
+      // 실행 중인 작업별 진행 상황 (작업이 없으면 마지막으로 끝난 작업을 보여준다)
+      private final Map<Long, SimulationProgress> activeProgress = new ConcurrentHashMap<>();
+      private volatile SimulationProgress lastProgress = new SimulationProgress();
+
+      /**
+       * 시뮬레이션 작업 하나 실행 ({@link SimulationJobScheduler}의 작업 스레드에서 호출)
+       *
+       * 완료된 청크와 이미 결과가 있는 (전략, 회차)는 건너뛰고, 중단 요청이 오면 새 작업을 시작하지 않고
+       * 계산된 결과까지만 저장한 뒤 요청된 상태로 끝낸다. 같은 시드로 재개하면 남은 작업 결과도 처음부터 실행한 것과 같다.
+       *
+       * @param concurrentJobs 동시에 실행될 수 있는 작업 수 - 작업당 병렬도를 나눠 전체 스레드 수를 제한
+       */
+      public void runJob(SimulationJob job, SimulationJobControl control, int concurrentJobs) {
+            SimulationProgress progress = new SimulationProgress();
+            JobRun run = new JobRun(job, progress);
             try {
-                  List<LottoDraw> allDraws = lottoDrawRepository.findAllByOrderByDrwNoDesc();
+                  // 작업 제출 시점의 최신 회차까지 (이후 추가된 회차는 대상 아님)
+                  DrawHistoryIndex historyIndex = lottoDrawStore.historyIndex();
+                  List<LottoDraw> allDraws = job.getMaxDrawNo() == null ? historyIndex.drawsBefore(Integer.MAX_VALUE)
+                              : historyIndex.drawsBefore(job.getMaxDrawNo() + 1);
                   if (allDraws.isEmpty()) {
-                        log.warn("추첨 데이터가 없어 시뮬레이션을 실행할 수 없습니다.");
+                        run.fail("추첨 데이터가 없어 시뮬레이션을 실행할 수 없습니다.");
                         return;
                   }
 
-                  Map<String, LottoStrategy> strategies = lottoGenerateService.getStrategyMap();
-                  List<String> strategyTypes = strategies.keySet().stream().sorted().collect(Collectors.toList());
-
-                  // 이미 완료된 (전략, 회차) 건너뛰기 위한 체크
-                  int totalTasks = strategyTypes.size() * allDraws.size();
+                  Map<String, LottoStrategy> strategies = lottoGenerateService.resolveStrategies(job.getStrategyTypes());
+                  List<String> strategyTypes = List.copyOf(strategies.keySet());
+                  // 저장된 전략이 그대로 해석되어야 체크포인트 청크 위치가 유효
+                  String completedChunks = job.getCompletedChunks();
+                  if (job.getStrategyTypes() == null) {
+                        completedChunks = null;
+                  } else {
+                        List<String> missing = Arrays.stream(job.getStrategyTypes().split(","))
+                                    .filter(type -> !strategies.containsKey(type))
+                                    .toList();
+                        if (!missing.isEmpty()) {
+                              run.fail("대상 전략을 찾을 수 없어 재개할 수 없습니다: " + String.join(",", missing));
+                              return;
+                        }
+                  }
+                  int ticketsPerDraw = job.getTicketsPerDraw();
+                  long jobSeed = job.getSeed() != null ? job.getSeed() : job.getId();
+
+                  // 이미 완료된 (전략, 회차) 건너뛰기 위한 체크 - 한 번에 적재
+                  SimulationCompletion completion = SimulationCompletion.of(
+                              simulationResultRepository.findAllCompletedTasks());
+                  SimulationCheckpoint checkpoint = new SimulationCheckpoint(strategyTypes,
+                              allDraws.stream().map(LottoDraw::getDrwNo).toList(),
+                              job.getChunkSize(), completedChunks);
+                  run.checkpoint = checkpoint;
+
+                  // 완료 청크·완료 결과를 건너뛰고 남은 (전략, 회차) 전체를 한 번에 실행
+                  List<SimulationTask> tasks = new ArrayList<>();
                   int skipped = 0;
-
-                  SimulationJob job = SimulationJob.create(totalTasks);
-                  currentJob = simulationJobRepository.save(job);
-                  completedTasks.set(0);
-
-                  log.info("시뮬레이션 시작: {}개 전략 × {}회차 × {}티켓 = {}건",
-                              strategyTypes.size(), allDraws.size(), ticketsPerDraw, totalTasks);
-
-                  ExecutorService executor = Executors.newFixedThreadPool(
-                              Math.min(Runtime.getRuntime().availableProcessors(), 8));
-
                   for (String strategyType : strategyTypes) {
-                        if (!running.get()) break;
-
                         LottoStrategy strategy = strategies.get(strategyType);
-                        List<Future<?>> futures = new java.util.ArrayList<>();
-
                         for (LottoDraw targetDraw : allDraws) {
-                              if (!running.get()) break;
-
-                              // 이미 처리된 건 건너뛰기
-                              if (simulationResultRepository.existsByStrategyTypeAndDrawNo(
-                                          strategyType, targetDraw.getDrwNo())) {
+                              int drawNo = targetDraw.getDrwNo();
+                              if (checkpoint.isChunkDone(checkpoint.chunkOf(strategyType, drawNo))
+                                          || completion.isDone(strategyType, drawNo)) {
                                     skipped++;
-                                    completedTasks.incrementAndGet();
-                                    continue;
+                              } else {
+                                    tasks.add(new SimulationTask(strategy, targetDraw));
+                                    checkpoint.expect(strategyType, drawNo);
                               }
-
-                              final LottoDraw draw = targetDraw;
-                              futures.add(executor.submit(() ->
-                                          runSingleSimulation(strategy, draw, allDraws, ticketsPerDraw)));
                         }
-
-                        // 전략별 완료 대기
-                        for (Future<?> future : futures) {
+                  }
+                  checkpoint.markIdleChunksDone();
+
+                  SimulationExecutor executor = new SimulationExecutor(executionMode,
+                              Math.max(1, getParallelism() / Math.max(1, concurrentJobs)));
+                  log.info("시뮬레이션 #{} 시작: {}개 전략 × {}회차 × {}티켓, 남은 작업 {}건 (seed={}, {} 병렬도 {})",
+                              job.getId(), strategyTypes.size(), allDraws.size(), ticketsPerDraw, tasks.size(),
+                              jobSeed, executor.getMode(), executor.getParallelism());
+
+                  progress.start(job.getId(), strategyTypes.size() * allDraws.size(), skipped);
+                  activeProgress.put(job.getId(), progress);
+
+                  // 회차별 컨텍스트(통계 스냅샷 포함)는 모든 전략이 공유
+                  Map<Integer, LottoStrategyContext> contextCache = new ConcurrentHashMap<>();
+
+                  // 결과는 배치 단위로 저장하고, 저장된 진행률·청크는 체크포인트 주기로 DB에 반영
+                  int failures;
+                  try (SimulationResultWriter.Buffer results = simulationResultWriter.open(run::onResultsFlushed)) {
+                        failures = executor.forEach(tasks, task -> {
+                              if (control.isStopRequested()) return;
+                              String strategyType = task.strategy().getType();
+                              int drawNo = task.draw().getDrwNo();
+                              progress.taskStarted(strategyType, drawNo);
                               try {
-                                    future.get();
-                              } catch (Exception e) {
-                                    log.error("시뮬레이션 작업 실패: {} - {}", strategyType, e.getMessage());
+                                    if (isExact(task.strategy())) {
+                                          results.add(simulateDrawExact(task.strategy(), task.draw(), ticketsPerDraw));
+                                          return;
+                                    }
+                                    LottoStrategyContext context = contextCache.computeIfAbsent(drawNo,
+                                                no -> lottoGenerateService.buildContextForDraw(no, historyIndex));
+                                    results.add(simulateDraw(task.strategy(), task.draw(), context, ticketsPerDraw,
+                                                executor, taskRandom(jobSeed, strategyType, drawNo)));
+                              } finally {
+                                    progress.taskFinished(ticketsPerDraw);
                               }
-                        }
-
-                        updateJobProgress(strategyType);
+                        });
                   }
 
-                  executor.shutdown();
-                  completeJob(skipped);
-
+                  if (failures > 0) {
+                        // 실패한 (전략, 회차)는 체크포인트에 완료로 남지 않으므로 재개하면 다시 실행된다
+                        run.fail("시뮬레이션 작업 " + failures + "건 실패 (결과 저장 실패 포함) - 재개하면 다시 실행합니다.");
+                  } else if (control.isStopRequested()) {
+                        run.stop(control.getStopStatus());
+                  } else {
+                        run.complete(skipped);
+                  }
+                  refreshPeriodStats();
+
+            } catch (InterruptedException e) {
+                  // 작업 스레드 중단(서버 종료 등) - 실패가 아니므로 저장된 결과까지 일시정지로 남겨 재개 가능하게
+                  log.warn("시뮬레이션 #{}이 중단되어 일시정지 상태로 저장합니다.", job.getId());
+                  try {
+                        run.stop("PAUSED");
+                  } finally {
+                        Thread.currentThread().interrupt();
+                  }
             } catch (Exception e) {
-                  log.error("시뮬레이션 실패", e);
-                  failJob(e.getMessage());
+                  log.error("시뮬레이션 #{} 실패", job.getId(), e);
+                  run.fail(e.getMessage());
             } finally {
-                  running.set(false);
+                  activeProgress.remove(job.getId());
+                  lastProgress = progress;
             }
       }
 
-      private void runSingleSimulation(LottoStrategy strategy, LottoDraw targetDraw,
+      /**
+       * 단일 (전략, 회차) 시뮬레이션 계산 - DB 접근 없이 결과만 생성 (벤치마크에서도 사용)
+       */
+      public SimulationResult simulateDraw(LottoStrategy strategy, LottoDraw targetDraw,
                   List<LottoDraw> allDrawsSorted, int ticketsPerDraw) {
             LottoStrategyContext context = lottoGenerateService.buildContextForDraw(
                         targetDraw.getDrwNo(), allDrawsSorted);
+            return simulateDraw(strategy, targetDraw, context, ticketsPerDraw);
+      }
 
-            int[] rankCounts = new int[6]; // index 0=미당첨, 1~5=등수
-            long totalPrize = 0;
+      public SimulationResult simulateDraw(LottoStrategy strategy, LottoDraw targetDraw,
+                  LottoStrategyContext context, int ticketsPerDraw) {
+            LottoMatchService.WinningMask winning = lottoMatchService.toWinningMask(targetDraw);
+            int[] rankCounts = countRanks(strategy, context, winning, ticketsPerDraw);
+            return toResult(strategy, targetDraw, rankCounts, ticketsPerDraw, totalPrize(rankCounts, winning));
+      }
 
-            for (int i = 0; i < ticketsPerDraw; i++) {
-                  List<Integer> ticket = strategy.generate(context);
-                  int rank = lottoMatchService.matchRank(ticket, targetDraw);
-                  if (rank >= 1 && rank <= 5) {
-                        rankCounts[rank]++;
-                        totalPrize += lottoMatchService.estimatePrize(rank, targetDraw);
-                  } else {
-                        rankCounts[0]++;
+      private SimulationResult simulateDraw(LottoStrategy strategy, LottoDraw targetDraw,
+                  LottoStrategyContext context, int ticketsPerDraw,
+                  SimulationExecutor executor, SplittableGenerator random) {
+            LottoMatchService.WinningMask winning = lottoMatchService.toWinningMask(targetDraw);
+            int[] rankCounts = executor.countTickets(ticketsPerDraw, random,
+                        (tickets, chunkRandom) -> countRanks(strategy, context.withRandom(chunkRandom), winning, tickets));
+            return toResult(strategy, targetDraw, rankCounts, ticketsPerDraw, totalPrize(rankCounts, winning));
+      }
+
+      /**
+       * (작업 시드, 전략, 회차)로 결정되는 작업별 난수 생성기 - 스레드 간 공유·경합 없음
+       */
+      static SplittableGenerator taskRandom(long jobSeed, String strategyType, int drawNo) {
+            long seed = jobSeed * 0x9E3779B97F4A7C15L + strategyType.hashCode();
+            seed = seed * 0x9E3779B97F4A7C15L + drawNo;
+            return new SplittableRandom(seed);
+      }
+
+      /**
+       * 정확 확률 계산 - 티켓 ticketsPerDraw장의 등수별 기댓값으로 결과 생성
+       * 개수는 합계가 티켓 수가 되도록 최대 잉여 방식으로 반올림하고, 예상 당첨금은 반올림 전 기댓값으로 계산
+       */
+      public SimulationResult simulateDrawExact(LottoStrategy strategy, LottoDraw targetDraw, int ticketsPerDraw) {
+            LottoMatchService.WinningMask winning = lottoMatchService.toWinningMask(targetDraw);
+            double[] expected = exactRankCalculator.expectedCounts(strategy, winning, ticketsPerDraw);
+
+            double prize = 0;
+            for (int rank = 1; rank <= 5; rank++) {
+                  prize += expected[rank] * lottoMatchService.estimatePrize(rank, winning);
+            }
+
+            int[] rankCounts = roundPreservingTotal(expected, ticketsPerDraw);
+            return toResult(strategy, targetDraw, rankCounts, ticketsPerDraw, Math.round(prize));
+      }
+
+      private boolean isExact(LottoStrategy strategy) {
+            return exactMode && exactRankCalculator.supports(strategy);
+      }
+
+      static int[] roundPreservingTotal(double[] values, int total) {
+            int[] rounded = new int[values.length];
+            int assigned = 0;
+            for (int i = 0; i < values.length; i++) {
+                  rounded[i] = (int) Math.floor(values[i]);
+                  assigned += rounded[i];
+            }
+            // 나머지는 소수부가 큰 순서대로 1씩 배분
+            while (assigned < total) {
+                  int best = 0;
+                  double bestFraction = -1;
+                  for (int i = 0; i < values.length; i++) {
+                        double fraction = values[i] - rounded[i];
+                        if (fraction > bestFraction) {
+                              best = i;
+                              bestFraction = fraction;
+                        }
                   }
+                  rounded[best]++;
+                  assigned++;
+            }
+            return rounded;
+      }
+
+      private int[] countRanks(LottoStrategy strategy, LottoStrategyContext context,
+                  LottoMatchService.WinningMask winning, int tickets) {
+            int[] rankCounts = new int[6]; // index 0=미당첨, 1~5=등수
+
+            for (int i = 0; i < tickets; i++) {
+                  long ticket = strategy.generateMask(context);
+                  rankCounts[lottoMatchService.matchRank(ticket, winning)]++;
             }
+            return rankCounts;
+      }
+
+      private long totalPrize(int[] rankCounts, LottoMatchService.WinningMask winning) {
+            long totalPrize = 0;
+            for (int rank = 1; rank <= 5; rank++) {
+                  totalPrize += rankCounts[rank] * lottoMatchService.estimatePrize(rank, winning);
+            }
+            return totalPrize;
+      }
 
-            SimulationResult result = SimulationResult.builder()
+      private SimulationResult toResult(LottoStrategy strategy, LottoDraw targetDraw,
+                  int[] rankCounts, int ticketsPerDraw, long totalPrize) {
+            return SimulationResult.builder()
                         .strategyType(strategy.getType())
                         .drawNo(targetDraw.getDrwNo())
                         .totalTickets(ticketsPerDraw)
@@ -146,118 +302,200 @@ public class SimulationService {
                         .noWinCount(rankCounts[0])
                         .estimatedPrize(totalPrize)
                         .build();
-
-            saveResult(result);
-            completedTasks.incrementAndGet();
       }
 
-      @Transactional
-      public void saveResult(SimulationResult result) {
-            simulationResultRepository.save(result);
-      }
+      /**
+       * 실행 중인 작업 상태 - 결과 저장 콜백(작업 스레드)과 종료 처리가 같은 엔티티를 갱신하므로 동기화
+       */
+      private class JobRun {
+            private final SimulationJob job;
+            private final SimulationProgress progress;
+            private SimulationCheckpoint checkpoint;
+            private long lastCheckpointNanos = System.nanoTime();
+
+            JobRun(SimulationJob job, SimulationProgress progress) {
+                  this.job = job;
+                  this.progress = progress;
+            }
 
-      private void updateJobProgress(String strategyType) {
-            if (currentJob != null) {
-                  currentJob.updateProgress(strategyType, 0, completedTasks.get());
-                  simulationJobRepository.save(currentJob);
-                  log.info("전략 {} 완료 - 진행률: {}%", strategyType, String.format("%.1f", currentJob.getProgressPercent()));
+            void onResultsFlushed(List<SimulationResult> flushed) {
+                  for (SimulationResult result : flushed) {
+                        checkpoint.saved(result.getStrategyType(), result.getDrawNo());
+                  }
+                  progress.tasksSaved(flushed.size());
+                  save(false);
             }
-      }
 
-      private void completeJob(int skipped) {
-            if (currentJob != null) {
-                  currentJob.complete();
-                  simulationJobRepository.save(currentJob);
-                  log.info("시뮬레이션 완료! 총 {}건 처리, {}건 스킵",
-                              completedTasks.get() - skipped, skipped);
+            void complete(int skipped) {
+                  save(true);
+                  finish(SimulationJob::complete);
+                  log.info("시뮬레이션 #{} 완료! 총 {}건 처리, {}건 스킵",
+                              job.getId(), progress.getSavedTasks() - skipped, skipped);
             }
-      }
 
-      private void failJob(String errorMessage) {
-            if (currentJob != null) {
-                  currentJob.fail(errorMessage);
-                  simulationJobRepository.save(currentJob);
+            void stop(String status) {
+                  save(true);
+                  finish("CANCELLED".equals(status) ? SimulationJob::cancel : SimulationJob::pause);
+                  log.info("시뮬레이션 #{} 중단: {} ({}건 저장)", job.getId(), status, progress.getSavedTasks());
+            }
+
+            void fail(String errorMessage) {
+                  if (checkpoint != null) save(true);
+                  finish(j -> j.fail(errorMessage));
             }
-      }
 
-      public void stopSimulation() {
-            running.set(false);
-            if (currentJob != null) {
-                  currentJob.pause();
-                  simulationJobRepository.save(currentJob);
+            /**
+             * 저장된 진행률과 완료 청크를 SimulationJob에 반영 - force가 아니면 체크포인트 간격마다 한 번만 저장
+             */
+            synchronized void save(boolean force) {
+                  long now = System.nanoTime();
+                  if (!force && now - lastCheckpointNanos < checkpointIntervalMs * 1_000_000) return;
+
+                  lastCheckpointNanos = now;
+                  SimulationProgress.Snapshot snapshot = progress.snapshot();
+                  job.updateProgress(snapshot.currentStrategy(), snapshot.currentDrawNo(), progress.getSavedTasks());
+                  job.updateCheckpoint(checkpoint.encode());
+                  simulationJobRepository.save(job);
+                  log.info("시뮬레이션 #{} 체크포인트: {}% ({}건 저장, 청크 {}/{})", job.getId(),
+                              String.format("%.1f", job.getProgressPercent()), progress.getSavedTasks(),
+                              checkpoint.doneChunkCount(), checkpoint.chunkCount());
             }
-            log.info("시뮬레이션 중단 요청됨");
+
+            private synchronized void finish(Consumer<SimulationJob> transition) {
+                  transition.accept(job);
+                  simulationJobRepository.save(job);
+                  progress.finish(job.getStatus());
+            }
+      }
+
+      public boolean isRunning() {
+            return !activeProgress.isEmpty();
+      }
+
+      /**
+       * 메모리 내 실시간 진행 상황 (DB 조회 없음) - 실행 중인 작업이 없으면 마지막 작업
+       */
+      public List<SimulationProgress.Snapshot> getProgress() {
+            List<SimulationProgress.Snapshot> snapshots = activeProgress.values().stream()
+                        .map(SimulationProgress::snapshot)
+                        .sorted(Comparator.comparing(SimulationProgress.Snapshot::jobId))
+                        .toList();
+            return snapshots.isEmpty() ? List.of(lastProgress.snapshot()) : snapshots;
       }
 
       /**
        * 특정 회차만 시뮬레이션 (주간 자동 실행용)
-       * 모든 전략에 대해 해당 회차만 시뮬레이션 실행
+       * 모든 전략에 대해 해당 회차만 시뮬레이션 실행 (시드는 회차 번호)
        */
       public void runWeeklySimulation(int drawNo, int ticketsPerDraw) {
-            LottoDraw targetDraw = lottoDrawRepository.findById(drawNo).orElse(null);
+            LottoDraw targetDraw = lottoDrawStore.find(drawNo).orElse(null);
             if (targetDraw == null) {
                   log.warn("{}회차 추첨 데이터가 없어 주간 시뮬레이션을 실행할 수 없습니다.", drawNo);
                   return;
             }
 
-            List<LottoDraw> allDraws = lottoDrawRepository.findAllByOrderByDrwNoDesc();
             Map<String, LottoStrategy> strategies = lottoGenerateService.getStrategyMap();
+            LottoStrategyContext context = lottoDrawStore.contextFor(drawNo);
 
             log.info("주간 시뮬레이션 시작: {}회차, {}개 전략, {}티켓",
                         drawNo, strategies.size(), ticketsPerDraw);
 
-            int processed = 0;
+            Set<String> completedTypes = new HashSet<>(simulationResultRepository.findStrategyTypesByDrawNo(drawNo));
+            List<SimulationTask> tasks = new ArrayList<>();
             int skipped = 0;
 
             for (Map.Entry<String, LottoStrategy> entry : strategies.entrySet()) {
-                  String strategyType = entry.getKey();
-                  LottoStrategy strategy = entry.getValue();
-
-                  if (simulationResultRepository.existsByStrategyTypeAndDrawNo(strategyType, drawNo)) {
+                  if (completedTypes.contains(entry.getKey())) {
                         skipped++;
                         continue;
                   }
+                  tasks.add(new SimulationTask(entry.getValue(), targetDraw));
+            }
 
-                  runSingleSimulation(strategy, targetDraw, allDraws, ticketsPerDraw);
-                  processed++;
+            SimulationExecutor executor = newExecutor();
+            int failures;
+            try (SimulationResultWriter.Buffer results = simulationResultWriter.open(flushed -> { })) {
+                  failures = executor.forEach(tasks, task -> results.add(isExact(task.strategy())
+                              ? simulateDrawExact(task.strategy(), targetDraw, ticketsPerDraw)
+                              : simulateDraw(task.strategy(), targetDraw, context, ticketsPerDraw,
+                                          executor, taskRandom(drawNo, task.strategy().getType(), drawNo))));
+            } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  log.warn("{}회차 주간 시뮬레이션이 중단되었습니다.", drawNo);
+                  return;
             }
 
-            log.info("주간 시뮬레이션 완료: {}회차 - {}건 처리, {}건 스킵", drawNo, processed, skipped);
+            if (failures > 0) {
+                  // 저장되지 않은 전략은 다음 실행 때 완료 목록에 없어 다시 시뮬레이션된다
+                  log.warn("주간 시뮬레이션 {}회차: {}건 실패 (결과 저장 실패 포함)", drawNo, failures);
+            }
+            log.info("주간 시뮬레이션 완료: {}회차 - {}건 처리, {}건 스킵", drawNo, tasks.size() - failures, skipped);
+            refreshPeriodStats();
       }
 
-      public boolean isRunning() {
-            return running.get();
+      /**
+       * 규칙별 기간 통계 갱신 - 실패해도 저장된 결과·작업 상태에는 영향 없음 (다음 종료 또는 서버 시작 시 다시 계산)
+       */
+      private void refreshPeriodStats() {
+            try {
+                  simulationResultWriter.refreshPeriodStats();
+            } catch (RuntimeException e) {
+                  log.warn("기간 통계 갱신 실패", e);
+            }
+      }
+
+      public SimulationExecutionMode getExecutionMode() {
+            return newExecutor().getMode();
+      }
+
+      public boolean isExactMode() {
+            return exactMode;
+      }
+
+      public int getParallelism() {
+            return newExecutor().getParallelism();
+      }
+
+      private SimulationExecutor newExecutor() {
+            return new SimulationExecutor(executionMode, parallelism);
       }
 
       public SimulationJob getLatestJob() {
             return simulationJobRepository.findLatestJob().orElse(null);
       }
 
+      /**
+       * 전략별 요약 - 누적 집계 한 행으로 계산 (결과 행 수와 무관)
+       */
       @Transactional(readOnly = true)
       public Map<String, Object> getSummary(String strategyType) {
-            List<SimulationResult> results = simulationResultRepository
-                        .findByStrategyTypeOrderByDrawNoAsc(strategyType);
-            if (results.isEmpty()) return Map.of("strategyType", strategyType, "status", "NO_DATA");
-
-            long totalTickets = results.stream().mapToLong(SimulationResult::getTotalTickets).sum();
-            long totalR1 = results.stream().mapToLong(SimulationResult::getRank1Count).sum();
-            long totalR2 = results.stream().mapToLong(SimulationResult::getRank2Count).sum();
-            long totalR3 = results.stream().mapToLong(SimulationResult::getRank3Count).sum();
-            long totalR4 = results.stream().mapToLong(SimulationResult::getRank4Count).sum();
-            long totalR5 = results.stream().mapToLong(SimulationResult::getRank5Count).sum();
-            long totalPrize = results.stream().mapToLong(SimulationResult::getEstimatedPrize).sum();
-            long totalWins = totalR1 + totalR2 + totalR3 + totalR4 + totalR5;
+            return simulationStrategyAggregateRepository.findById(strategyType)
+                        .map(this::toSummary)
+                        .orElseGet(() -> Map.of("strategyType", strategyType, "status", "NO_DATA"));
+      }
+
+      @Transactional(readOnly = true)
+      public List<Map<String, Object>> getAllSummaries() {
+            return simulationStrategyAggregateRepository.findAllByOrderByStrategyTypeAsc().stream()
+                        .map(this::toSummary)
+                        .collect(Collectors.toList());
+      }
+
+      private Map<String, Object> toSummary(SimulationStrategyAggregate aggregate) {
+            long totalTickets = aggregate.getTotalTickets();
+            long totalWins = aggregate.getTotalWins();
+            long totalPrize = aggregate.getTotalPrize();
             long totalCost = totalTickets * 1000L; // 1장당 1,000원
 
             Map<String, Object> summary = new java.util.LinkedHashMap<>();
-            summary.put("strategyType", strategyType);
-            summary.put("totalDraws", results.size());
+            summary.put("strategyType", aggregate.getStrategyType());
+            summary.put("totalDraws", aggregate.getTotalDraws());
             summary.put("totalTickets", totalTickets);
-            summary.put("rank1", totalR1);
-            summary.put("rank2", totalR2);
-            summary.put("rank3", totalR3);
-            summary.put("rank4", totalR4);
-            summary.put("rank5", totalR5);
+            summary.put("rank1", aggregate.getRank1Count());
+            summary.put("rank2", aggregate.getRank2Count());
+            summary.put("rank3", aggregate.getRank3Count());
+            summary.put("rank4", aggregate.getRank4Count());
+            summary.put("rank5", aggregate.getRank5Count());
             summary.put("totalWins", totalWins);
             summary.put("winRate", totalTickets > 0 ? (double) totalWins / totalTickets * 100 : 0);
             summary.put("totalPrize", totalPrize);
@@ -266,9 +504,6 @@ public class SimulationService {
             return summary;
       }
 
-      @Transactional(readOnly = true)
-      public List<Map<String, Object>> getAllSummaries() {
-            List<String> types = simulationResultRepository.findDistinctStrategyTypes();
-            return types.stream().map(this::getSummary).collect(Collectors.toList());
+      private record SimulationTask(LottoStrategy strategy, LottoDraw draw) {
       }
 }
@@ -15,24 +15,40 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class UserLottoService {
 
+      public static final int MAX_PAGE_SIZE = 100;
+
       private final UserTicketHistoryRepository userTicketHistoryRepository;
+      private final UserStatsCache userStatsCache;
+
+      /**
+       * 구매 기록 키셋 페이지 (최신순)
+       *
+       * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+       */
+      public UserHistoryResponse getUserHistory(Long userId, Long cursor, int size) {
+            int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+            // 한 건 더 읽어 다음 페이지 여부 판단
+            List<UserTicketHistory> histories = userTicketHistoryRepository.findHistoryPage(
+                        userId, cursor != null ? cursor : Long.MAX_VALUE, pageSize + 1);
 
-      public UserHistoryResponse getUserHistory(Long userId) {
-            List<UserTicketHistory> histories = userTicketHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
-            return UserHistoryResponse.from(histories);
+            boolean hasNext = histories.size() > pageSize;
+            List<UserTicketHistory> page = hasNext ? histories.subList(0, pageSize) : histories;
+            return UserHistoryResponse.from(page, hasNext ? page.get(pageSize - 1).getId() : null);
       }
 
+      /**
+       * 사용자 통계 - 집계 쿼리 한 번, 결과는 짧은 TTL로 캐시
+       */
       public UserStatsResponse getUserStats(Long userId) {
-            Long totalTickets = userTicketHistoryRepository.countByUserId(userId);
-            Long totalWins = userTicketHistoryRepository.countWinsByUserId(userId);
-            Integer bestRank = userTicketHistoryRepository.findBestRankByUserId(userId);
-            Long totalPrize = userTicketHistoryRepository.sumPrizeByUserId(userId);
-
-            return UserStatsResponse.builder()
-                        .totalTickets(totalTickets)
-                        .totalWins(totalWins)
-                        .bestRank(bestRank)
-                        .totalPrize(totalPrize)
-                        .build();
+            return userStatsCache.get(userId, () -> {
+                  UserTicketHistoryRepository.UserStatsView stats =
+                              userTicketHistoryRepository.aggregateStatsByUserId(userId);
+                  return UserStatsResponse.builder()
+                              .totalTickets(stats.getTotalTickets())
+                              .totalWins(stats.getTotalWins())
+                              .bestRank(stats.getBestRank())
+                              .totalPrize(stats.getTotalPrize())
+                              .build();
+            });
       }
 }
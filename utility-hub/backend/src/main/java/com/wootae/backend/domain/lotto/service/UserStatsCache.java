@@ -0,0 +1,64 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.dto.UserStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 통계 단기 캐시 (사용자별, TTL)
+ *
+ * 프로필 화면을 반복 조회해도 집계 쿼리는 TTL마다 한 번만 실행한다.
+ * 정산으로 당첨 결과가 바뀌면 전체를 무효화하고, 적재 중에 무효화되면 적재한 값은 남기지 않는다.
+ * 항목이 maxSize를 넘으면 만료된 항목을 먼저 정리하고, 그래도 넘으면 전체를 비운다.
+ */
+@Component
+public class UserStatsCache {
+
+      private final long ttlNanos;
+      private final int maxSize;
+      private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+      private final AtomicLong version = new AtomicLong();
+
+      public UserStatsCache(
+                  @Value("${lotto.user-stats.cache-ttl-ms:30000}") long ttlMs,
+                  @Value("${lotto.user-stats.cache-max-size:10000}") int maxSize) {
+            this.ttlNanos = ttlMs * 1_000_000L;
+            this.maxSize = Math.max(1, maxSize);
+      }
+
+      public UserStatsResponse get(Long userId, Supplier<UserStatsResponse> loader) {
+            long now = System.nanoTime();
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt() - now > 0) return entry.value();
+
+            long loadVersion = version.get();
+            UserStatsResponse loaded = loader.get();
+            if (ttlNanos > 0 && version.get() == loadVersion) {
+                  if (entries.size() >= maxSize) evict(now);
+                  entries.put(userId, new Entry(loaded, now + ttlNanos));
+            }
+            return loaded;
+      }
+
+      public void invalidateAll() {
+            version.incrementAndGet();
+            entries.clear();
+      }
+
+      public int size() {
+            return entries.size();
+      }
+
+      private void evict(long now) {
+            entries.values().removeIf(e -> e.expiresAt() - now <= 0);
+            if (entries.size() >= maxSize) entries.clear();
+      }
+
+      private record Entry(UserStatsResponse value, long expiresAt) {
+      }
+}
@@ -0,0 +1,159 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자 구매 티켓 일괄 정산
+ *
+ * 회차가 적재되면 해당 회차(draw_id)의 미정산 티켓(rank_result IS NULL)을 id 키셋 페이지로 훑으며
+ * 티켓 문자열을 마스크로 파싱·채점(병렬)하고, 페이지마다 한 트랜잭션의 JDBC 배치 update로 결과를 쓴다.
+ * 엔티티를 읽지 않으므로 티켓 수가 늘어도 메모리는 페이지 크기만큼만 쓴다.
+ * 파싱할 수 없는 티켓은 {@link LottoMatchService#checkTicket}과 같이 결과를 갱신하지 않는다.
+ */
+@Slf4j
+@Service
+public class UserTicketSettlementService {
+
+      private static final String PENDING_SQL = "SELECT id, ticket FROM user_ticket_history "
+                  + "WHERE draw_id = ? AND rank_result IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+      // 동시에 다른 정산이 먼저 쓴 행은 덮어쓰지 않음
+      private static final String UPDATE_SQL = "UPDATE user_ticket_history SET rank_result = ?, prize = ? "
+                  + "WHERE id = ? AND rank_result IS NULL";
+
+      // 이보다 작은 페이지는 호출 스레드에서 채점
+      private static final int PARALLEL_THRESHOLD = 2_048;
+
+      private final JdbcTemplate jdbcTemplate;
+      private final TransactionTemplate transactionTemplate;
+      private final LottoDrawStore lottoDrawStore;
+      private final LottoMatchService lottoMatchService;
+      private final UserStatsCache userStatsCache;
+      private final int pageSize;
+
+      public UserTicketSettlementService(
+                  JdbcTemplate jdbcTemplate,
+                  PlatformTransactionManager transactionManager,
+                  LottoDrawStore lottoDrawStore,
+                  LottoMatchService lottoMatchService,
+                  UserStatsCache userStatsCache,
+                  @Value("${lotto.settlement.page-size:5000}") int pageSize) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.lottoDrawStore = lottoDrawStore;
+            this.lottoMatchService = lottoMatchService;
+            this.userStatsCache = userStatsCache;
+            this.pageSize = Math.max(1, pageSize);
+      }
+
+      /**
+       * @param settled    결과를 기록한 티켓 수
+       * @param winners    그중 당첨(1~5등) 티켓 수
+       * @param totalPrize 기록한 당첨금 합계
+       * @param invalid    파싱할 수 없어 건너뛴 티켓 수
+       */
+      public record SettlementResult(int drawNo, int settled, int winners, long totalPrize, int invalid) {
+      }
+
+      /**
+       * 회차의 미정산 티켓 전체 정산
+       */
+      public SettlementResult settle(int drawNo) {
+            LottoMatchService.WinningMask winning = lottoDrawStore.winningMask(drawNo)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+            long startTime = System.currentTimeMillis();
+
+            Page page = new Page(pageSize);
+            long lastId = 0L;
+            int settled = 0;
+            int winners = 0;
+            long totalPrize = 0L;
+            int invalid = 0;
+            do {
+                  page.clear();
+                  jdbcTemplate.query(PENDING_SQL,
+                              (RowCallbackHandler) rs -> page.add(rs.getLong(1), rs.getString(2)),
+                              drawNo, lastId, pageSize);
+                  if (page.size == 0) break;
+                  lastId = page.ids[page.size - 1];
+
+                  score(page, winning);
+                  List<Object[]> updates = new ArrayList<>(page.size);
+                  for (int i = 0; i < page.size; i++) {
+                        int rank = page.ranks[i];
+                        if (rank < 0) {
+                              invalid++;
+                              continue;
+                        }
+                        long prize = lottoMatchService.estimatePrize(rank, winning);
+                        updates.add(new Object[]{rank, prize, page.ids[i]});
+                        if (rank > 0) {
+                              winners++;
+                              totalPrize += prize;
+                        }
+                  }
+                  if (!updates.isEmpty()) {
+                        transactionTemplate.executeWithoutResult(status ->
+                                    jdbcTemplate.batchUpdate(UPDATE_SQL, updates));
+                        userStatsCache.invalidateAll();
+                  }
+                  settled += updates.size();
+            } while (page.size == pageSize);
+
+            SettlementResult result = new SettlementResult(drawNo, settled, winners, totalPrize, invalid);
+            log.info("사용자 티켓 정산 완료: {} ({}ms)", result, System.currentTimeMillis() - startTime);
+            return result;
+      }
+
+      // 파싱·채점 (등수, 파싱 실패는 -1)
+      private void score(Page page, LottoMatchService.WinningMask winning) {
+            IntStream indexes = IntStream.range(0, page.size);
+            if (page.size >= PARALLEL_THRESHOLD) indexes = indexes.parallel();
+            indexes.forEach(i -> {
+                  long mask = LottoTicket.parse(page.tickets[i]);
+                  page.ranks[i] = LottoTicket.isValid(mask) ? lottoMatchService.matchRank(mask, winning) : -1;
+            });
+      }
+
+      /**
+       * 한 페이지의 id·티켓·등수 (페이지마다 재사용)
+       */
+      private static final class Page {
+
+            final long[] ids;
+            final String[] tickets;
+            final int[] ranks;
+            int size;
+
+            Page(int capacity) {
+                  this.ids = new long[capacity];
+                  this.tickets = new String[capacity];
+                  this.ranks = new int[capacity];
+            }
+
+            void add(long id, String ticket) {
+                  ids[size] = id;
+                  tickets[size] = ticket;
+                  size++;
+            }
+
+            void clear() {
+                  Arrays.fill(tickets, 0, size, null);
+                  size = 0;
+            }
+      }
+}
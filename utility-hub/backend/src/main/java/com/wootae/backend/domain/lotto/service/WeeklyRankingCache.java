@@ -0,0 +1,74 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.WeeklyStrategyRanking;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 현재 주간 랭킹 read-through 캐시
+ *
+ * 랭킹은 주 1회 계산 시에만 바뀌므로 현재 랭킹·Top 3·요약을 한 번 적재해 재사용하고,
+ * 랭킹 저장 트랜잭션이 커밋되면 버전을 올려 무효화한다.
+ * 적재 중에 무효화되면 적재한 값은 캐시에 남기지 않는다. (이전 버전 값이 새 버전으로 저장되지 않음)
+ */
+public class WeeklyRankingCache {
+
+      private final AtomicLong version = new AtomicLong();
+      private final AtomicReference<Entry> current = new AtomicReference<>();
+      private final LongAdder hits = new LongAdder();
+      private final LongAdder misses = new LongAdder();
+      private final LongAdder invalidations = new LongAdder();
+
+      public CurrentRankings get(Supplier<CurrentRankings> loader) {
+            long loadVersion = version.get();
+            Entry entry = current.get();
+            if (entry != null && entry.version() == loadVersion) {
+                  hits.increment();
+                  return entry.value();
+            }
+
+            misses.increment();
+            CurrentRankings loaded = loader.get();
+            if (version.get() == loadVersion) {
+                  current.compareAndSet(entry, new Entry(loadVersion, loaded));
+            }
+            return loaded;
+      }
+
+      public void invalidate() {
+            version.incrementAndGet();
+            invalidations.increment();
+      }
+
+      public Map<String, Object> stats() {
+            long hitCount = hits.sum();
+            long missCount = misses.sum();
+            long total = hitCount + missCount;
+            Entry entry = current.get();
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("version", version.get());
+            stats.put("cachedDrawNo", entry != null && entry.version() == version.get() ? entry.value().drawNo() : null);
+            stats.put("hits", hitCount);
+            stats.put("misses", missCount);
+            stats.put("hitRate", total > 0 ? (double) hitCount / total * 100 : 0);
+            stats.put("invalidations", invalidations.sum());
+            return stats;
+      }
+
+      /**
+       * 현재 랭킹 스냅샷 (랭킹이 없으면 drawNo null, 빈 목록)
+       */
+      public record CurrentRankings(Integer drawNo, List<WeeklyStrategyRanking> rankings,
+                  List<String> top3StrategyTypes, Map<String, Object> summary) {
+      }
+
+      private record Entry(long version, CurrentRankings value) {
+      }
+}
@@ -4,11 +4,12 @@ import com.wootae.backend.domain.lotto.entity.SimulationResult;
 import com.wootae.backend.domain.lotto.entity.WeeklyStrategyRanking;
 import com.wootae.backend.domain.lotto.repository.SimulationResultRepository;
 import com.wootae.backend.domain.lotto.repository.WeeklyStrategyRankingRepository;
-import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -21,6 +22,7 @@ public class WeeklyRankingService {
       private final SimulationResultRepository simulationResultRepository;
       private final WeeklyStrategyRankingRepository weeklyRankingRepository;
       private final LottoGenerateService lottoGenerateService;
+      private final WeeklyRankingCache rankingCache = new WeeklyRankingCache();
 
       // 점수 가중치
       private static final double RANK1_POINTS = 1000.0;
@@ -43,32 +45,83 @@ public class WeeklyRankingService {
                   return weeklyRankingRepository.findByDrawNoOrderByRankPositionAsc(drawNo);
             }
 
-            Map<String, LottoStrategy> strategies = lottoGenerateService.getStrategyMap();
-            List<WeeklyStrategyRanking> rankings = new ArrayList<>();
+            List<WeeklyStrategyRanking> rankings = calculateRankings(drawNo, drawNo).getOrDefault(drawNo, List.of());
+            log.info("{}회차 주간 랭킹 계산 완료: {}개 전략", drawNo, rankings.size());
+            return rankings;
+      }
 
-            // 1. 각 전략의 주간 점수 계산
-            for (String strategyType : strategies.keySet()) {
-                  Optional<SimulationResult> resultOpt =
-                              simulationResultRepository.findByStrategyTypeAndDrawNo(strategyType, drawNo);
+      /**
+       * 회차 구간 일괄 랭킹 계산 (초기 데이터 구축용)
+       * 이미 랭킹이 있는 회차는 건너뛰고, 이후 회차의 가중 평균과 이전 순위 계산에만 사용
+       *
+       * @return 새로 랭킹을 계산한 회차 수
+       */
+      @Transactional
+      public int backfillRankings(int fromDrawNo, int toDrawNo) {
+            Map<Integer, List<WeeklyStrategyRanking>> calculated = calculateRankings(fromDrawNo, toDrawNo);
+            log.info("랭킹 백필 완료: {}회차 ~ {}회차 중 {}개 회차 계산", fromDrawNo, toDrawNo, calculated.size());
+            return calculated.size();
+      }
 
-                  if (resultOpt.isEmpty()) continue;
+      /**
+       * 구간 랭킹 계산 - 구간의 시뮬레이션 결과와 직전 3주를 포함한 기존 랭킹을 쿼리 2번으로 적재한 뒤,
+       * 회차 오름차순으로 계산하며 계산된 랭킹을 다음 회차의 4주 창에 바로 반영한다.
+       */
+      private Map<Integer, List<WeeklyStrategyRanking>> calculateRankings(int fromDrawNo, int toDrawNo) {
+            Set<String> strategyTypes = lottoGenerateService.getStrategyMap().keySet();
+
+            // 1. 구간 시뮬레이션 결과 (회차별)
+            Map<Integer, List<SimulationResult>> resultsByDraw = simulationResultRepository
+                        .findByDrawNoBetween(fromDrawNo, toDrawNo).stream()
+                        .filter(result -> strategyTypes.contains(result.getStrategyType()))
+                        .collect(Collectors.groupingBy(SimulationResult::getDrawNo, TreeMap::new, Collectors.toList()));
+
+            // 2. 4주 창에 필요한 기존 랭킹 (회차 → 전략 → 랭킹)
+            Map<Integer, Map<String, WeeklyStrategyRanking>> history = new HashMap<>();
+            weeklyRankingRepository.findByDrawNoBetween(fromDrawNo - (WEEKLY_WEIGHTS.length - 1), toDrawNo)
+                        .forEach(ranking -> history.computeIfAbsent(ranking.getDrawNo(), no -> new HashMap<>())
+                                    .put(ranking.getStrategyType(), ranking));
+
+            Map<Integer, List<WeeklyStrategyRanking>> calculated = new TreeMap<>();
+            for (Map.Entry<Integer, List<SimulationResult>> entry : resultsByDraw.entrySet()) {
+                  int drawNo = entry.getKey();
+                  if (history.containsKey(drawNo)) continue;
+
+                  List<WeeklyStrategyRanking> rankings = rankDraw(drawNo, entry.getValue(), history);
+                  Map<String, WeeklyStrategyRanking> byStrategy = new HashMap<>();
+                  rankings.forEach(ranking -> byStrategy.put(ranking.getStrategyType(), ranking));
+                  history.put(drawNo, byStrategy);
+                  calculated.put(drawNo, rankings);
+            }
 
-                  SimulationResult result = resultOpt.get();
-                  double weeklyScore = calculateWeeklyScore(result);
+            // 3. 저장
+            if (!calculated.isEmpty()) {
+                  weeklyRankingRepository.saveAll(calculated.values().stream().flatMap(List::stream).toList());
+                  invalidateAfterCommit();
+            }
+            return calculated;
+      }
 
-                  // 2. 4주 가중 평균 계산
-                  double weightedScore = calculateWeightedScore(strategyType, drawNo, weeklyScore);
+      /**
+       * 한 회차의 전략별 랭킹 - 가중 점수 기준으로 순위 매기기 (높을수록 좋음)
+       */
+      private List<WeeklyStrategyRanking> rankDraw(int drawNo, List<SimulationResult> results,
+                  Map<Integer, Map<String, WeeklyStrategyRanking>> history) {
+            Map<String, WeeklyStrategyRanking> previous = history.getOrDefault(drawNo - 1, Map.of());
+            List<WeeklyStrategyRanking> rankings = new ArrayList<>(results.size());
 
-                  // 3. 이전 순위 조회
-                  Integer previousRank = findPreviousRank(strategyType, drawNo);
+            for (SimulationResult result : results) {
+                  String strategyType = result.getStrategyType();
+                  double weeklyScore = calculateWeeklyScore(result);
+                  WeeklyStrategyRanking previousRanking = previous.get(strategyType);
 
-                  WeeklyStrategyRanking ranking = WeeklyStrategyRanking.builder()
+                  rankings.add(WeeklyStrategyRanking.builder()
                               .drawNo(drawNo)
                               .strategyType(strategyType)
                               .weeklyScore(weeklyScore)
-                              .weightedScore(weightedScore)
+                              .weightedScore(calculateWeightedScore(strategyType, drawNo, weeklyScore, history))
                               .rankPosition(0) // 임시 - 아래에서 설정
-                              .previousRank(previousRank)
+                              .previousRank(previousRanking != null ? previousRanking.getRankPosition() : null)
                               .rankChange(0)
                               .rank1Count(result.getRank1Count())
                               .rank2Count(result.getRank2Count())
@@ -80,24 +133,15 @@ public class WeeklyRankingService {
                                           + result.getRank5Count())
                               .totalTickets(result.getTotalTickets())
                               .estimatedPrize(result.getEstimatedPrize())
-                              .build();
-
-                  rankings.add(ranking);
+                              .build());
             }
 
-            // 4. 가중 점수 기준으로 순위 매기기 (높을수록 좋음)
-            rankings.sort(Comparator.comparingDouble(WeeklyStrategyRanking::getWeightedScore).reversed());
-
+            rankings.sort(Comparator.comparingDouble(WeeklyStrategyRanking::getWeightedScore).reversed()
+                        .thenComparing(WeeklyStrategyRanking::getStrategyType));
             for (int i = 0; i < rankings.size(); i++) {
-                  int rank = i + 1;
                   WeeklyStrategyRanking r = rankings.get(i);
-                  r.updateRank(rank, r.getPreviousRank());
+                  r.updateRank(i + 1, r.getPreviousRank());
             }
-
-            // 5. 저장
-            weeklyRankingRepository.saveAll(rankings);
-            log.info("{}회차 주간 랭킹 계산 완료: {}개 전략", drawNo, rankings.size());
-
             return rankings;
       }
 
@@ -113,51 +157,40 @@ public class WeeklyRankingService {
       }
 
       /**
-       * 4주 가중 평균 점수 계산 (40/30/20/10%)
+       * 4주 가중 평균 점수 계산 (40/30/20/10%) - 직전 3개 회차 중 랭킹이 있는 주만 반영
        */
-      private double calculateWeightedScore(String strategyType, int currentDrawNo, double currentWeekScore) {
-            // 이전 3주의 점수 조회
-            List<WeeklyStrategyRanking> recentRankings = weeklyRankingRepository
-                        .findRecentRankings(strategyType, currentDrawNo - 1);
-
+      private double calculateWeightedScore(String strategyType, int currentDrawNo, double currentWeekScore,
+                  Map<Integer, Map<String, WeeklyStrategyRanking>> history) {
             double weightedSum = currentWeekScore * WEEKLY_WEIGHTS[0];
             double weightSum = WEEKLY_WEIGHTS[0];
 
-            for (int i = 0; i < Math.min(recentRankings.size(), 3); i++) {
-                  weightedSum += recentRankings.get(i).getWeeklyScore() * WEEKLY_WEIGHTS[i + 1];
-                  weightSum += WEEKLY_WEIGHTS[i + 1];
+            for (int week = 1; week < WEEKLY_WEIGHTS.length; week++) {
+                  WeeklyStrategyRanking past = history.getOrDefault(currentDrawNo - week, Map.of()).get(strategyType);
+                  if (past == null) continue;
+                  weightedSum += past.getWeeklyScore() * WEEKLY_WEIGHTS[week];
+                  weightSum += WEEKLY_WEIGHTS[week];
             }
 
             // 데이터가 4주 미만이면 있는 만큼으로 정규화
-            return weightSum > 0 ? weightedSum / weightSum * 1.0 : currentWeekScore;
-      }
-
-      /**
-       * 이전 회차 순위 조회
-       */
-      private Integer findPreviousRank(String strategyType, int currentDrawNo) {
-            return weeklyRankingRepository
-                        .findRankByStrategyTypeAndDrawNo(strategyType, currentDrawNo - 1)
-                        .orElse(null);
+            return weightedSum / weightSum;
       }
 
       /**
        * 현재(최신) 주간 랭킹 조회
        */
-      @Transactional(readOnly = true)
       public List<WeeklyStrategyRanking> getCurrentRankings() {
-            Optional<Integer> latestDrawNo = weeklyRankingRepository.findLatestRankedDrawNo();
-            if (latestDrawNo.isEmpty()) return List.of();
-            return weeklyRankingRepository.findByDrawNoOrderByRankPositionAsc(latestDrawNo.get());
+            return currentRankings().rankings();
       }
 
       /**
-       * 특정 회차의 Top N 랭킹 조회
+       * 특정 회차의 Top N 랭킹 조회 (현재 회차면 캐시에서)
        */
       @Transactional(readOnly = true)
       public List<WeeklyStrategyRanking> getTopRankings(int drawNo, int limit) {
-            List<WeeklyStrategyRanking> all = weeklyRankingRepository
-                        .findTopRankings(drawNo);
+            WeeklyRankingCache.CurrentRankings current = currentRankings();
+            List<WeeklyStrategyRanking> all = Integer.valueOf(drawNo).equals(current.drawNo())
+                        ? current.rankings()
+                        : weeklyRankingRepository.findTopRankings(drawNo);
             return all.stream().limit(limit).collect(Collectors.toList());
       }
 
@@ -180,19 +213,13 @@ public class WeeklyRankingService {
       /**
        * 현재 Top 3 전략 타입 반환 (프리미엄 잠금용)
        */
-      @Transactional(readOnly = true)
       public List<String> getTop3StrategyTypes() {
-            List<WeeklyStrategyRanking> current = getCurrentRankings();
-            return current.stream()
-                        .limit(3)
-                        .map(WeeklyStrategyRanking::getStrategyType)
-                        .collect(Collectors.toList());
+            return currentRankings().top3StrategyTypes();
       }
 
       /**
        * 특정 전략이 현재 Top 3인지 확인
        */
-      @Transactional(readOnly = true)
       public boolean isTop3Strategy(String strategyType) {
             return getTop3StrategyTypes().contains(strategyType.toUpperCase());
       }
@@ -200,9 +227,53 @@ public class WeeklyRankingService {
       /**
        * 랭킹 요약 정보 (API 응답용)
        */
-      @Transactional(readOnly = true)
       public Map<String, Object> getRankingSummary() {
-            List<WeeklyStrategyRanking> rankings = getCurrentRankings();
+            return currentRankings().summary();
+      }
+
+      /**
+       * 현재 랭킹 캐시 적중/무효화 통계
+       */
+      public Map<String, Object> getCacheStats() {
+            return rankingCache.stats();
+      }
+
+      /**
+       * 현재 랭킹 스냅샷 - 캐시에 없으면 최신 회차 랭킹을 적재해 Top 3와 요약까지 한 번에 계산
+       */
+      private WeeklyRankingCache.CurrentRankings currentRankings() {
+            return rankingCache.get(() -> {
+                  Optional<Integer> latestDrawNo = weeklyRankingRepository.findLatestRankedDrawNo();
+                  List<WeeklyStrategyRanking> rankings = latestDrawNo
+                              .map(weeklyRankingRepository::findByDrawNoOrderByRankPositionAsc)
+                              .map(List::copyOf)
+                              .orElse(List.of());
+                  List<String> top3 = rankings.stream()
+                              .limit(3)
+                              .map(WeeklyStrategyRanking::getStrategyType)
+                              .toList();
+                  return new WeeklyRankingCache.CurrentRankings(latestDrawNo.orElse(null), rankings, top3,
+                              buildSummary(rankings));
+            });
+      }
+
+      /**
+       * 랭킹 저장 트랜잭션이 커밋된 뒤 캐시 무효화 (롤백되면 유지)
+       */
+      private void invalidateAfterCommit() {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                  rankingCache.invalidate();
+                  return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                  @Override
+                  public void afterCommit() {
+                        rankingCache.invalidate();
+                  }
+            });
+      }
+
+      private Map<String, Object> buildSummary(List<WeeklyStrategyRanking> rankings) {
             if (rankings.isEmpty()) return Map.of("status", "NO_DATA");
 
             int drawNo = rankings.get(0).getDrawNo();
@@ -234,7 +305,7 @@ public class WeeklyRankingService {
                               "change", biggestDrop.getRankChange()));
             }
 
-            return summary;
+            return Collections.unmodifiableMap(summary);
       }
 
       private Map<String, Object> toRankingMap(WeeklyStrategyRanking r) {
@@ -1,77 +1,71 @@
 package com.wootae.backend.domain.lotto.strategy;
 
-import com.wootae.backend.domain.lotto.entity.LottoDraw;
-
-import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+/**
+ * 전략 공통 베이스
+ *
+ * 구현체는 {@link #generateMask(LottoStrategyContext)}만 구현하고,
+ * 리스트 형태의 {@link #generate(LottoStrategyContext)}는 마스크에서 변환한다.
+ * 난수는 빈(bean)에 두지 않고 {@link #random(LottoStrategyContext)}로 호출마다 받는다.
+ */
 public abstract class AbstractLottoStrategy implements LottoStrategy {
 
-      protected static final int MIN_NUMBER = 1;
-      protected static final int MAX_NUMBER = 45;
-      protected static final int PICK_COUNT = 6;
-      protected final Random random = new Random();
+      protected static final int MIN_NUMBER = LottoTicket.MIN_NUMBER;
+      protected static final int MAX_NUMBER = LottoTicket.MAX_NUMBER;
+      protected static final int PICK_COUNT = LottoTicket.PICK_COUNT;
 
-      protected List<Integer> generateRandom() {
-            List<Integer> numbers = IntStream.rangeClosed(MIN_NUMBER, MAX_NUMBER)
-                        .boxed().collect(Collectors.toList());
-            Collections.shuffle(numbers, random);
-            return numbers.subList(0, PICK_COUNT).stream().sorted().collect(Collectors.toList());
+      @Override
+      public List<Integer> generate(LottoStrategyContext context) {
+            return LottoTicket.toList(generateMask(context));
       }
 
-      protected boolean hasConsecutive(List<Integer> ticket) {
-            for (int i = 0; i < ticket.size() - 1; i++) {
-                  if (ticket.get(i + 1) - ticket.get(i) == 1) return true;
-            }
-            return false;
-      }
+      @Override
+      public abstract long generateMask(LottoStrategyContext context);
 
-      protected boolean hasMinGap(List<Integer> ticket, int minGap) {
-            for (int i = 0; i < ticket.size() - 1; i++) {
-                  if (ticket.get(i + 1) - ticket.get(i) < minGap) return false;
-            }
-            return true;
+      /**
+       * 컨텍스트에 주입된 난수 생성기 (시뮬레이션 작업별 시드), 없으면 스레드 로컬 난수
+       */
+      protected RandomGenerator random(LottoStrategyContext context) {
+            RandomGenerator random = context.getRandom();
+            return random != null ? random : ThreadLocalRandom.current();
       }
 
-      protected List<Integer> extractNumbers(LottoDraw draw) {
-            return List.of(
-                        draw.getDrwtNo1(), draw.getDrwtNo2(), draw.getDrwtNo3(),
-                        draw.getDrwtNo4(), draw.getDrwtNo5(), draw.getDrwtNo6());
+      protected long generateRandom(RandomGenerator random) {
+            return fillRemaining(random, 0L);
       }
 
-      protected Map<Integer, Integer> buildFrequencyMap(List<LottoDraw> draws) {
-            Map<Integer, Integer> freqMap = new HashMap<>();
-            for (LottoDraw draw : draws) {
-                  for (int num : extractNumbers(draw)) {
-                        freqMap.merge(num, 1, Integer::sum);
-                  }
-            }
-            return freqMap;
+      /**
+       * 아직 고르지 않은 번호 중에서 6개가 될 때까지 채움 (재시도 없음)
+       */
+      protected long fillRemaining(RandomGenerator random, long selected) {
+            return addRandomFrom(random, selected, LottoTicket.ALL_NUMBERS & ~selected,
+                        PICK_COUNT - Long.bitCount(selected));
       }
 
-      protected List<Integer> getTopNumbers(Map<Integer, Integer> freqMap, int topN) {
-            return freqMap.entrySet().stream()
-                        .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed())
-                        .limit(topN)
-                        .map(Map.Entry::getKey)
-                        .collect(Collectors.toList());
+      /**
+       * pool(중복 없는 번호 배열)에서 서로 다른 번호 count개를 골라 selected에 추가
+       */
+      protected long addRandomFrom(RandomGenerator random, long selected, int[] pool, int count) {
+            return addRandomFrom(random, selected, LottoTicket.of(pool), count);
       }
 
-      protected List<Integer> pickFromPool(List<Integer> pool) {
-            List<Integer> shuffled = new ArrayList<>(pool);
-            Collections.shuffle(shuffled, random);
-            return shuffled.subList(0, Math.min(PICK_COUNT, shuffled.size()))
-                        .stream().sorted().collect(Collectors.toList());
-      }
-
-      protected List<Integer> toSortedList(Set<Integer> selected) {
-            return new ArrayList<>(new TreeSet<>(selected));
+      /**
+       * 번호 풀 마스크에서 서로 다른 번호 count개를 골라 selected에 추가 (재시도 없음)
+       */
+      protected long addRandomFrom(RandomGenerator random, long selected, long pool, int count) {
+            long remaining = pool;
+            for (int i = 0; i < count && remaining != 0; i++) {
+                  int number = LottoTicket.nthNumber(remaining, random.nextInt(Long.bitCount(remaining)));
+                  remaining &= ~LottoTicket.bit(number);
+                  selected |= LottoTicket.bit(number);
+            }
+            return selected;
       }
 
-      protected void fillRemaining(Set<Integer> selected) {
-            while (selected.size() < PICK_COUNT) {
-                  selected.add(random.nextInt(MAX_NUMBER) + 1);
-            }
+      protected long pickFromPool(RandomGenerator random, long pool) {
+            return addRandomFrom(random, 0L, pool, PICK_COUNT);
       }
 }
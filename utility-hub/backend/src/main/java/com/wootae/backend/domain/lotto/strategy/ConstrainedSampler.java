@@ -0,0 +1,152 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 조건을 만족하는 조합만 균등하게 뽑는 샘플러 (재시도 없음)
+ *
+ * 번호를 오름차순으로 고르며 상태가 바뀌는 {@link Constraint}에 대해
+ * "번호 n 이상에서 k개를 더 골라 조건을 만족하는 경우의 수" 표를 한 번 계산(DP)해 두고,
+ * 뽑을 때는 다음 번호를 경우의 수에 비례해 한 번에 고른다. 티켓 하나 = 난수 6회 + 최대 45단계.
+ */
+public final class ConstrainedSampler {
+
+      private static final int POSITIONS = LottoTicket.MAX_NUMBER + 2; // 번호 1~45 + 끝(46)
+
+      /**
+       * 오름차순으로 번호를 하나씩 추가할 때의 상태 기계 (상태는 0 ~ stateCount()-1)
+       */
+      public interface Constraint {
+            int stateCount();
+
+            int initialState();
+
+            /**
+             * state에서 number를 추가한 뒤의 상태, 추가할 수 없으면 -1
+             */
+            int next(int state, int number);
+
+            boolean accepts(int state);
+      }
+
+      private final Constraint constraint;
+      private final int stateCount;
+      // ways[(k * POSITIONS + n) * stateCount + s] = 상태 s에서 번호 n~45 중 k개를 더 골라 조건을 만족하는 경우의 수
+      private final int[] ways;
+
+      private ConstrainedSampler(Constraint constraint) {
+            this.constraint = constraint;
+            this.stateCount = constraint.stateCount();
+            this.ways = new int[(LottoTicket.PICK_COUNT + 1) * POSITIONS * stateCount];
+
+            for (int n = 1; n < POSITIONS; n++) {
+                  for (int s = 0; s < stateCount; s++) {
+                        if (constraint.accepts(s)) ways[index(0, n, s)] = 1;
+                  }
+            }
+            for (int k = 1; k <= LottoTicket.PICK_COUNT; k++) {
+                  for (int n = LottoTicket.MAX_NUMBER; n >= 1; n--) {
+                        for (int s = 0; s < stateCount; s++) {
+                              ways[index(k, n, s)] = ways[index(k, n + 1, s)] + included(k, n, s);
+                        }
+                  }
+            }
+      }
+
+      public static ConstrainedSampler of(Constraint constraint) {
+            return new ConstrainedSampler(constraint);
+      }
+
+      /**
+       * 조건을 만족하는 조합 중 하나를 균등하게 추출
+       */
+      public long sample(RandomGenerator random) {
+            long ticket = 0L;
+            int state = constraint.initialState();
+            int number = 1;
+            for (int k = LottoTicket.PICK_COUNT; k > 0; k--) {
+                  // 다음으로 고를 번호 m의 확률 = (m을 고른 뒤의 경우의 수) / (남은 전체 경우의 수)
+                  int r = random.nextInt(ways[index(k, number, state)]);
+                  int count;
+                  while ((count = included(k, number, state)) <= r) {
+                        r -= count;
+                        number++;
+                  }
+                  ticket |= LottoTicket.bit(number);
+                  state = constraint.next(state, number);
+                  number++;
+            }
+            return ticket;
+      }
+
+      /**
+       * 조건을 만족하는 전체 조합 수
+       */
+      public long supportSize() {
+            return ways[index(LottoTicket.PICK_COUNT, 1, constraint.initialState())];
+      }
+
+      public boolean test(long ticket) {
+            int state = constraint.initialState();
+            for (long m = ticket; m != 0; m &= m - 1) {
+                  state = constraint.next(state, Long.numberOfTrailingZeros(m));
+                  if (state < 0) return false;
+            }
+            return constraint.accepts(state);
+      }
+
+      private int included(int k, int number, int state) {
+            int next = constraint.next(state, number);
+            return next < 0 ? 0 : ways[index(k - 1, number + 1, next)];
+      }
+
+      private int index(int k, int number, int state) {
+            return (k * POSITIONS + number) * stateCount + state;
+      }
+
+      // ===== 기본 조건 =====
+
+      /**
+       * 6개 합계가 min~max 구간 (상태 = 누적 합계)
+       */
+      public static Constraint sumBetween(int min, int max) {
+            return new Constraint() {
+                  public int stateCount() { return max + 1; }
+                  public int initialState() { return 0; }
+                  public int next(int sum, int number) { return sum + number > max ? -1 : sum + number; }
+                  public boolean accepts(int sum) { return sum >= min; }
+            };
+      }
+
+      /**
+       * 인접 번호 간 간격이 모두 minGap 이상 (상태 = 직전 번호, 0 = 없음)
+       */
+      public static Constraint minGap(int minGap) {
+            return new Constraint() {
+                  public int stateCount() { return LottoTicket.MAX_NUMBER + 1; }
+                  public int initialState() { return 0; }
+                  public int next(int last, int number) { return last == 0 || number - last >= minGap ? number : -1; }
+                  public boolean accepts(int last) { return true; }
+            };
+      }
+
+      /**
+       * 끝자리(0~9) 종류가 minDistinct 이상 (상태 = 끝자리 집합 10비트 + 중복 횟수)
+       */
+      public static Constraint distinctLastDigitsAtLeast(int minDistinct) {
+            int maxDuplicates = LottoTicket.PICK_COUNT - minDistinct;
+            return new Constraint() {
+                  public int stateCount() { return (maxDuplicates + 1) << 10; }
+                  public int initialState() { return 0; }
+
+                  public int next(int state, int number) {
+                        int digit = 1 << (number % 10);
+                        if ((state & digit) == 0) return state | digit;
+                        int duplicates = (state >>> 10) + 1;
+                        return duplicates > maxDuplicates ? -1 : (duplicates << 10) | (state & 0x3FF);
+                  }
+
+                  public boolean accepts(int state) { return true; }
+            };
+      }
+}
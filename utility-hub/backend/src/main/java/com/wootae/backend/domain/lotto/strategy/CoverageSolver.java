@@ -0,0 +1,349 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * 번호 풀 커버리지 최적화 (휠링, covering design 근사)
+ *
+ * 풀의 번호 t개 조합(t-부분집합)을 최대한 많이 덮도록 서로 다른 티켓 N장을 고른다.
+ * 전부 덮으면 "당첨 번호 중 t개 이상이 풀 안에 있으면 적어도 한 장은 t개 이상 일치"가 보장된다.
+ *
+ * 1. 탐욕 구성 - 덜 덮인 부분집합 하나에서 시작해, 새로 덮는 부분집합이 가장 많은 번호를 6개까지 추가
+ *    (모두 덮인 뒤에는 두 번째, 세 번째 덮기를 목표로 고르게 분산)
+ * 2. 지역 탐색 - 시간 예산 안에서 티켓을 하나씩 빼고 다시 구성해 덮는 수가 늘면 교체
+ *
+ * 티켓은 풀 안 인덱스(0 ~ v-1)의 비트마스크, 부분집합은 인덱스 colex 순위로 번호를 매겨
+ * 덮인 횟수를 int 배열 하나로 센다.
+ */
+public final class CoverageSolver {
+
+      public static final int MIN_MATCH = 2;
+      public static final int MAX_MATCH = LottoTicket.PICK_COUNT - 1;
+
+      private static final int PICK = LottoTicket.PICK_COUNT;
+
+      // 지역 탐색에서 티켓 하나를 다시 구성해 보는 횟수 (동점은 무작위로 고르므로 매번 다름)
+      private static final int REBUILD_TRIES = 3;
+
+      // 지역 탐색을 멈추는 연속 무개선 바퀴 수
+      private static final int MAX_STALE_SWEEPS = 50;
+
+      // COMBINATIONS[n][k] = {0..n-1}에서 k개를 고르는 모든 위치 조합 (n, k ≤ 6)
+      private static final int[][][][] COMBINATIONS = new int[PICK + 1][PICK + 1][][];
+
+      static {
+            for (int n = 0; n <= PICK; n++) {
+                  for (int k = 0; k <= n; k++) {
+                        int[][] combos = new int[LottoTicket.binomial(n, k)][k];
+                        int index = 0;
+                        for (int bits = 0; bits < (1 << n); bits++) {
+                              if (Integer.bitCount(bits) != k) continue;
+                              int[] combo = combos[index++];
+                              for (int b = bits, j = 0; b != 0; b &= b - 1) combo[j++] = Integer.numberOfTrailingZeros(b);
+                        }
+                        COMBINATIONS[n][k] = combos;
+                  }
+            }
+      }
+
+      /**
+       * @param tickets 티켓 마스크 (생성 순서)
+       * @param covered 한 번 이상 덮인 t-부분집합 수
+       * @param total   풀의 전체 t-부분집합 수 C(v,t)
+       */
+      public record Result(long[] tickets, long pool, int match, int covered, int total) {
+
+            public boolean fullCoverage() {
+                  return covered == total;
+            }
+      }
+
+      private final int[] numbers;
+      private final int size;
+      private final int match;
+      private final int[] counts;
+      private final int[][] ticketSubsets;
+      private final RandomGenerator random;
+      private final int[] elements = new int[PICK];
+
+      private int uncovered;
+      private int level = 1;
+      private int belowLevel;
+      private int cursor;
+
+      private CoverageSolver(long pool, int match, RandomGenerator random) {
+            this.numbers = LottoTicket.toArray(pool);
+            this.size = numbers.length;
+            this.match = match;
+            this.counts = new int[LottoTicket.binomial(size, match)];
+            this.ticketSubsets = COMBINATIONS[PICK][match];
+            this.random = random;
+            this.uncovered = counts.length;
+            this.belowLevel = counts.length;
+      }
+
+      /**
+       * 풀 크기가 poolSize일 때 만들 수 있는 서로 다른 티켓 수 C(poolSize, 6)
+       */
+      public static int ticketCount(int poolSize) {
+            return LottoTicket.binomial(poolSize, PICK);
+      }
+
+      /**
+       * @param pool            번호 풀 마스크 (6개 이상)
+       * @param count           티켓 수 (풀에서 만들 수 있는 조합 수 이하)
+       * @param match           덮을 부분집합 크기 t (2~5)
+       * @param timeBudgetNanos 지역 탐색 시간 예산 (0이면 탐욕 구성만)
+       */
+      public static Result solve(long pool, int count, int match, RandomGenerator random, long timeBudgetNanos) {
+            int size = Long.bitCount(pool & LottoTicket.ALL_NUMBERS);
+            if (pool != (pool & LottoTicket.ALL_NUMBERS) || size < PICK) {
+                  throw new IllegalArgumentException("풀은 1~45 중 6개 이상이어야 합니다.");
+            }
+            if (match < MIN_MATCH || match > MAX_MATCH) {
+                  throw new IllegalArgumentException("match는 " + MIN_MATCH + "~" + MAX_MATCH + "여야 합니다.");
+            }
+            if (count < 1 || count > LottoTicket.binomial(size, PICK)) {
+                  throw new IllegalArgumentException("티켓 수는 1~" + LottoTicket.binomial(size, PICK) + "여야 합니다.");
+            }
+
+            long deadline = System.nanoTime() + timeBudgetNanos;
+            CoverageSolver solver = new CoverageSolver(pool, match, random);
+            long[] tickets = solver.construct(count);
+            if (timeBudgetNanos > 0) solver.improve(tickets, deadline);
+
+            long[] result = new long[count];
+            for (int i = 0; i < count; i++) result[i] = solver.toTicket(tickets[i]);
+            return new Result(result, pool, match, solver.counts.length - solver.uncovered, solver.counts.length);
+      }
+
+      // ===== 탐욕 구성 =====
+
+      private long[] construct(int count) {
+            long[] tickets = new long[count];
+            Set<Long> used = new HashSet<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                  long ticket = build(false);
+                  for (int retry = 0; retry < REBUILD_TRIES && used.contains(ticket); retry++) ticket = build(false);
+                  while (used.contains(ticket)) ticket = randomTicket();
+                  used.add(ticket);
+                  add(ticket);
+                  tickets[i] = ticket;
+            }
+            return tickets;
+      }
+
+      /**
+       * 덜 덮인 부분집합에서 시작해 새로 덮는 수가 가장 큰 번호를 차례로 추가한 티켓 (풀 인덱스 마스크)
+       *
+       * @param randomSeed 시작 부분집합을 무작위 위치부터 찾을지 (지역 탐색용)
+       */
+      private long build(boolean randomSeed) {
+            int seed = nextSeed(randomSeed);
+            if (seed < 0) {
+                  raiseLevel();
+                  seed = nextSeed(randomSeed);
+            }
+
+            int filled = unrank(seed, match, elements);
+            long ticket = 0L;
+            for (int i = 0; i < filled; i++) ticket |= 1L << elements[i];
+
+            while (filled < PICK) {
+                  int best = -1;
+                  int bestGain = -1;
+                  int ties = 0;
+                  for (int candidate = 0; candidate < size; candidate++) {
+                        if ((ticket & (1L << candidate)) != 0) continue;
+                        int gain = gainWith(filled, candidate);
+                        if (gain > bestGain) {
+                              best = candidate;
+                              bestGain = gain;
+                              ties = 1;
+                        } else if (gain == bestGain && random.nextInt(++ties) == 0) {
+                              best = candidate;
+                        }
+                  }
+                  insertSorted(filled++, best);
+                  ticket |= 1L << best;
+            }
+            return ticket;
+      }
+
+      /**
+       * elements[0..filled)에 candidate를 더했을 때 새로 생기는 (candidate 포함) 부분집합 중 목표 횟수 미만인 수
+       */
+      private int gainWith(int filled, int candidate) {
+            int gain = 0;
+            for (int[] combo : COMBINATIONS[filled][match - 1]) {
+                  int index = 0;
+                  int position = 0;
+                  boolean placed = false;
+                  for (int j : combo) {
+                        int element = elements[j];
+                        if (!placed && candidate < element) {
+                              index += LottoTicket.binomial(candidate, ++position);
+                              placed = true;
+                        }
+                        index += LottoTicket.binomial(element, ++position);
+                  }
+                  if (!placed) index += LottoTicket.binomial(candidate, ++position);
+                  if (counts[index] < level) gain++;
+            }
+            return gain;
+      }
+
+      private void insertSorted(int filled, int value) {
+            int i = filled;
+            while (i > 0 && elements[i - 1] > value) {
+                  elements[i] = elements[i - 1];
+                  i--;
+            }
+            elements[i] = value;
+      }
+
+      /**
+       * 목표 횟수(level) 미만으로 덮인 부분집합 하나, 없으면 -1
+       */
+      private int nextSeed(boolean randomStart) {
+            if (belowLevel == 0) return -1;
+            int start = randomStart ? random.nextInt(counts.length) : cursor;
+            for (int i = 0; i < counts.length; i++) {
+                  int index = start + i < counts.length ? start + i : start + i - counts.length;
+                  if (counts[index] < level) {
+                        if (!randomStart) cursor = index;
+                        return index;
+                  }
+            }
+            return -1;
+      }
+
+      // 모든 부분집합을 level번 이상 덮었으면 다음 목표로
+      private void raiseLevel() {
+            level++;
+            belowLevel = 0;
+            for (int count : counts) {
+                  if (count < level) belowLevel++;
+            }
+            cursor = 0;
+      }
+
+      private long randomTicket() {
+            long ticket = 0L;
+            while (Long.bitCount(ticket) < PICK) ticket |= 1L << random.nextInt(size);
+            return ticket;
+      }
+
+      // ===== 지역 탐색 =====
+
+      /**
+       * 티켓을 하나씩 빼고 다시 구성해 덮인 부분집합이 줄지 않으면 교체
+       * 같은 수를 덮는 교체(평지 이동)도 받아 국소 최적을 벗어나고, 여러 바퀴 동안 늘지 않거나 시간이 다 되면 종료
+       */
+      private void improve(long[] tickets, long deadline) {
+            if (level > 1) return;
+
+            Set<Long> used = new HashSet<>(tickets.length * 2);
+            for (long ticket : tickets) used.add(ticket);
+            int staleSweeps = 0;
+            while (uncovered > 0 && staleSweeps < MAX_STALE_SWEEPS) {
+                  int sweepStart = uncovered;
+                  for (int n = tickets.length; n > 0; n--) {
+                        if (System.nanoTime() - deadline > 0) return;
+                        int i = random.nextInt(tickets.length);
+                        long original = tickets[i];
+                        int before = uncovered;
+                        remove(original);
+                        if (uncovered == 0) {
+                              // 빼도 잃는 게 없고 더 덮을 것도 없음
+                              add(original);
+                              return;
+                        }
+
+                        long best = original;
+                        int bestGain = uncovered - before;
+                        for (int tryCount = 0; tryCount < REBUILD_TRIES; tryCount++) {
+                              long candidate = build(true);
+                              int gain = newlyCovered(candidate);
+                              if (gain >= bestGain && candidate != best && !used.contains(candidate)) {
+                                    best = candidate;
+                                    bestGain = gain;
+                              }
+                        }
+                        add(best);
+                        if (best != original) {
+                              used.remove(original);
+                              used.add(best);
+                              tickets[i] = best;
+                        }
+                  }
+                  staleSweeps = uncovered < sweepStart ? 0 : staleSweeps + 1;
+            }
+      }
+
+      // ===== 덮인 횟수 =====
+
+      private void add(long ticket) {
+            forEachSubset(ticket, +1);
+      }
+
+      private void remove(long ticket) {
+            forEachSubset(ticket, -1);
+      }
+
+      private void forEachSubset(long ticket, int delta) {
+            int[] sorted = toElements(ticket);
+            for (int[] combo : ticketSubsets) {
+                  int index = subsetIndex(sorted, combo);
+                  int before = counts[index];
+                  int after = before + delta;
+                  counts[index] = after;
+                  if (before == 0) uncovered--;
+                  if (after == 0) uncovered++;
+                  if (before == level - 1 && after == level) belowLevel--;
+                  if (before == level && after == level - 1) belowLevel++;
+            }
+      }
+
+      private int newlyCovered(long ticket) {
+            int[] sorted = toElements(ticket);
+            int gain = 0;
+            for (int[] combo : ticketSubsets) {
+                  if (counts[subsetIndex(sorted, combo)] == 0) gain++;
+            }
+            return gain;
+      }
+
+      private static int subsetIndex(int[] sorted, int[] combo) {
+            int index = 0;
+            for (int j = 0; j < combo.length; j++) index += LottoTicket.binomial(sorted[combo[j]], j + 1);
+            return index;
+      }
+
+      private static int[] toElements(long ticket) {
+            int[] sorted = new int[PICK];
+            int i = 0;
+            for (long m = ticket; m != 0; m &= m - 1) sorted[i++] = Long.numberOfTrailingZeros(m);
+            return sorted;
+      }
+
+      // colex 순위 → 오름차순 원소 (k개)
+      private static int unrank(int rank, int k, int[] out) {
+            int remaining = rank;
+            for (int i = k; i >= 1; i--) {
+                  int x = i - 1;
+                  while (LottoTicket.binomial(x + 1, i) <= remaining) x++;
+                  out[i - 1] = x;
+                  remaining -= LottoTicket.binomial(x, i);
+            }
+            return k;
+      }
+
+      private long toTicket(long local) {
+            long ticket = 0L;
+            for (long m = local; m != 0; m &= m - 1) ticket |= LottoTicket.bit(numbers[Long.numberOfTrailingZeros(m)]);
+            return ticket;
+      }
+}
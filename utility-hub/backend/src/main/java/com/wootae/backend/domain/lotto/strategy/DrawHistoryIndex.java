@@ -0,0 +1,126 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 전체 회차 이력 인덱스 (불변)
+ *
+ * 회차별 번호 누적 출현 수(prefix sum)를 배열로 보관해,
+ * 임의 대상 회차의 컨텍스트를 전체 목록 재필터링 없이 subList 뷰로 만든다.
+ * 구간 빈도는 누적 합의 차이로 계산한다.
+ */
+public final class DrawHistoryIndex {
+
+      public static final int RECENT_WINDOW = 20;
+
+      private static final int SLOTS = LottoTicket.MAX_NUMBER + 1;
+
+      private final List<LottoDraw> drawsNewestFirst;
+      private final int[] drawNosAscending;
+      // prefixCounts[i * SLOTS + n] = 오래된 순 i개 회차에서 번호 n의 출현 수
+      private final int[] prefixCounts;
+
+      private DrawHistoryIndex(List<LottoDraw> drawsNewestFirst) {
+            int size = drawsNewestFirst.size();
+            this.drawsNewestFirst = drawsNewestFirst;
+            this.drawNosAscending = new int[size];
+            this.prefixCounts = new int[(size + 1) * SLOTS];
+
+            for (int i = 0; i < size; i++) {
+                  LottoDraw draw = drawsNewestFirst.get(size - 1 - i);
+                  drawNosAscending[i] = draw.getDrwNo();
+                  System.arraycopy(prefixCounts, i * SLOTS, prefixCounts, (i + 1) * SLOTS, SLOTS);
+                  int base = (i + 1) * SLOTS;
+                  prefixCounts[base + draw.getDrwtNo1()]++;
+                  prefixCounts[base + draw.getDrwtNo2()]++;
+                  prefixCounts[base + draw.getDrwtNo3()]++;
+                  prefixCounts[base + draw.getDrwtNo4()]++;
+                  prefixCounts[base + draw.getDrwtNo5()]++;
+                  prefixCounts[base + draw.getDrwtNo6()]++;
+            }
+      }
+
+      /**
+       * @param draws 전체 회차 (최신순이 아니면 복사 후 정렬)
+       */
+      public static DrawHistoryIndex of(List<LottoDraw> draws) {
+            return new DrawHistoryIndex(isNewestFirst(draws) ? draws : sortNewestFirst(draws));
+      }
+
+      public int size() {
+            return drawsNewestFirst.size();
+      }
+
+      /**
+       * targetDrawNo 이전 회차 수
+       */
+      public int countBefore(int targetDrawNo) {
+            int pos = Arrays.binarySearch(drawNosAscending, targetDrawNo);
+            return pos >= 0 ? pos : -pos - 1;
+      }
+
+      /**
+       * targetDrawNo 이전 전체 회차 (최신순, 원본 목록의 뷰)
+       */
+      public List<LottoDraw> drawsBefore(int targetDrawNo) {
+            int size = size();
+            return drawsNewestFirst.subList(size - countBefore(targetDrawNo), size);
+      }
+
+      /**
+       * targetDrawNo 이전 전체 회차에서 번호 number의 출현 수
+       */
+      public int frequencyBefore(int targetDrawNo, int number) {
+            return prefixCounts[countBefore(targetDrawNo) * SLOTS + number];
+      }
+
+      /**
+       * targetDrawNo 직전 window개 회차의 번호별 출현 수 (길이 46, 인덱스=번호)
+       */
+      public int[] frequenciesBefore(int targetDrawNo, int window) {
+            int end = countBefore(targetDrawNo);
+            int start = Math.max(0, end - window);
+            int[] freq = new int[SLOTS];
+            for (int n = LottoTicket.MIN_NUMBER; n <= LottoTicket.MAX_NUMBER; n++) {
+                  freq[n] = prefixCounts[end * SLOTS + n] - prefixCounts[start * SLOTS + n];
+            }
+            return freq;
+      }
+
+      /**
+       * 대상 회차 직전까지의 이력으로 전략 컨텍스트 생성 (통계는 누적 합으로 주입)
+       */
+      public LottoStrategyContext contextFor(int targetDrawNo) {
+            int before = countBefore(targetDrawNo);
+            int size = size();
+            List<LottoDraw> allDraws = drawsNewestFirst.subList(size - before, size);
+            List<LottoDraw> recentDraws = allDraws.subList(0, Math.min(RECENT_WINDOW, before));
+
+            return LottoStrategyContext.builder()
+                        .recentDraws(recentDraws)
+                        .allDraws(allDraws)
+                        .latestDraw(allDraws.isEmpty() ? null : allDraws.get(0))
+                        .statistics(DrawStatistics.of(allDraws,
+                                    frequenciesBefore(targetDrawNo, RECENT_WINDOW),
+                                    frequenciesBefore(targetDrawNo, before)))
+                        .build();
+      }
+
+      private static boolean isNewestFirst(List<LottoDraw> draws) {
+            for (int i = 1; i < draws.size(); i++) {
+                  if (draws.get(i - 1).getDrwNo() <= draws.get(i).getDrwNo()) return false;
+            }
+            return true;
+      }
+
+      private static List<LottoDraw> sortNewestFirst(List<LottoDraw> draws) {
+            List<LottoDraw> sorted = new ArrayList<>(draws);
+            sorted.sort(Comparator.comparing(LottoDraw::getDrwNo).reversed());
+            return sorted;
+      }
+}
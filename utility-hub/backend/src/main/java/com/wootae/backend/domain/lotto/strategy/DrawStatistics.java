@@ -0,0 +1,190 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 대상 회차 기준 추첨 통계 스냅샷 (불변)
+ *
+ * 컨텍스트당 한 번만 계산되어 모든 전략·티켓이 공유한다.
+ * 번호 풀은 비트마스크({@link LottoTicket})로 제공한다.
+ */
+public final class DrawStatistics {
+
+      public static final int POOL_SIZE = 15;
+
+      private static final int SLOTS = LottoTicket.MAX_NUMBER + 1;
+
+      private final int[] recentFrequency;
+      private final int[] allFrequency;
+      private final int[] gapSinceLastSeen;
+      private final long hotPool;
+      private final long coldPool;
+      private final long frequentPool;
+      private final List<LottoDraw> allDraws;
+
+      // 번호쌍 동시 출현 수 (46×46) - 사용하는 곳에서만 계산
+      private volatile int[] pairCounts;
+
+      private DrawStatistics(List<LottoDraw> allDraws, int[] recentFrequency, int[] allFrequency) {
+            this.allDraws = allDraws;
+            this.recentFrequency = recentFrequency;
+            this.allFrequency = allFrequency;
+            this.gapSinceLastSeen = computeGaps(allDraws);
+            this.hotPool = topNumbers(recentFrequency, POOL_SIZE);
+            this.coldPool = coldNumbers(recentFrequency, POOL_SIZE);
+            this.frequentPool = topNumbers(allFrequency, POOL_SIZE);
+      }
+
+      /**
+       * @param recentDraws 최근 회차 (최신순)
+       * @param allDraws    대상 회차 이전 전체 회차 (최신순)
+       */
+      public static DrawStatistics of(List<LottoDraw> recentDraws, List<LottoDraw> allDraws) {
+            return new DrawStatistics(allDraws, countFrequency(recentDraws), countFrequency(allDraws));
+      }
+
+      /**
+       * 이미 집계된 빈도(길이 46, 인덱스=번호)로 생성 - {@link DrawHistoryIndex}에서 사용
+       */
+      static DrawStatistics of(List<LottoDraw> allDraws, int[] recentFrequency, int[] allFrequency) {
+            return new DrawStatistics(allDraws, recentFrequency, allFrequency);
+      }
+
+      public int recentFrequency(int number) {
+            return recentFrequency[number];
+      }
+
+      public int allFrequency(int number) {
+            return allFrequency[number];
+      }
+
+      /**
+       * 마지막 출현 이후 경과 회차 수 (직전 회차 출현 = 0, 미출현 = 전체 회차 수)
+       */
+      public int gapSinceLastSeen(int number) {
+            return gapSinceLastSeen[number];
+      }
+
+      /**
+       * 최근 회차 출현 빈도 상위 번호 (한 번이라도 출현한 번호만)
+       */
+      public long hotPool() {
+            return hotPool;
+      }
+
+      /**
+       * 최근 회차 출현 빈도 하위 번호 (미출현 번호 포함)
+       */
+      public long coldPool() {
+            return coldPool;
+      }
+
+      /**
+       * 전체 회차 출현 빈도 상위 번호
+       */
+      public long frequentPool() {
+            return frequentPool;
+      }
+
+      public int pairCount(int a, int b) {
+            int[] pairs = pairCounts;
+            if (pairs == null) {
+                  pairs = computePairs(allDraws);
+                  pairCounts = pairs;
+            }
+            return pairs[a * SLOTS + b];
+      }
+
+      public int[] recentFrequencies() {
+            return Arrays.copyOf(recentFrequency, SLOTS);
+      }
+
+      public int[] allFrequencies() {
+            return Arrays.copyOf(allFrequency, SLOTS);
+      }
+
+      static int[] countFrequency(List<LottoDraw> draws) {
+            int[] freq = new int[SLOTS];
+            for (LottoDraw draw : draws) {
+                  freq[draw.getDrwtNo1()]++;
+                  freq[draw.getDrwtNo2()]++;
+                  freq[draw.getDrwtNo3()]++;
+                  freq[draw.getDrwtNo4()]++;
+                  freq[draw.getDrwtNo5()]++;
+                  freq[draw.getDrwtNo6()]++;
+            }
+            return freq;
+      }
+
+      private static int[] computeGaps(List<LottoDraw> drawsNewestFirst) {
+            int[] gaps = new int[SLOTS];
+            Arrays.fill(gaps, drawsNewestFirst.size());
+            long unseen = LottoTicket.ALL_NUMBERS;
+            for (int i = 0; i < drawsNewestFirst.size() && unseen != 0; i++) {
+                  long drawn = LottoTicket.fromDraw(drawsNewestFirst.get(i)) & unseen;
+                  for (long m = drawn; m != 0; m &= m - 1) {
+                        gaps[Long.numberOfTrailingZeros(m)] = i;
+                  }
+                  unseen &= ~drawn;
+            }
+            return gaps;
+      }
+
+      private static int[] computePairs(List<LottoDraw> draws) {
+            int[] pairs = new int[SLOTS * SLOTS];
+            int[] numbers = new int[LottoTicket.PICK_COUNT];
+            for (LottoDraw draw : draws) {
+                  long mask = LottoTicket.fromDraw(draw);
+                  int k = 0;
+                  for (long m = mask; m != 0; m &= m - 1) {
+                        numbers[k++] = Long.numberOfTrailingZeros(m);
+                  }
+                  for (int i = 0; i < k; i++) {
+                        for (int j = i + 1; j < k; j++) {
+                              pairs[numbers[i] * SLOTS + numbers[j]]++;
+                              pairs[numbers[j] * SLOTS + numbers[i]]++;
+                        }
+                  }
+            }
+            return pairs;
+      }
+
+      /**
+       * 빈도 상위 topN (출현 번호만, 동률은 번호 오름차순)
+       */
+      static long topNumbers(int[] freq, int topN) {
+            long pool = 0L;
+            for (int picked = 0; picked < topN; picked++) {
+                  int best = -1;
+                  for (int n = LottoTicket.MIN_NUMBER; n <= LottoTicket.MAX_NUMBER; n++) {
+                        if (freq[n] > 0 && (pool & LottoTicket.bit(n)) == 0
+                                    && (best < 0 || freq[n] > freq[best])) {
+                              best = n;
+                        }
+                  }
+                  if (best < 0) break;
+                  pool |= LottoTicket.bit(best);
+            }
+            return pool;
+      }
+
+      /**
+       * 빈도 하위 bottomN (미출현 포함, 동률은 번호 오름차순)
+       */
+      static long coldNumbers(int[] freq, int bottomN) {
+            long pool = 0L;
+            for (int picked = 0; picked < bottomN; picked++) {
+                  int best = -1;
+                  for (int n = LottoTicket.MIN_NUMBER; n <= LottoTicket.MAX_NUMBER; n++) {
+                        if ((pool & LottoTicket.bit(n)) == 0 && (best < 0 || freq[n] < freq[best])) {
+                              best = n;
+                        }
+                  }
+                  pool |= LottoTicket.bit(best);
+            }
+            return pool;
+      }
+}
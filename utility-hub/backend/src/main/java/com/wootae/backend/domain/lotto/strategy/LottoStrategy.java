@@ -1,6 +1,7 @@
 package com.wootae.backend.domain.lotto.strategy;
 
 import java.util.List;
+import java.util.function.LongPredicate;
 
 public interface LottoStrategy {
 
@@ -13,4 +14,20 @@ public interface LottoStrategy {
       String getCategory();
 
       List<Integer> generate(LottoStrategyContext context);
+
+      /**
+       * 티켓을 비트마스크({@link LottoTicket})로 생성 (시뮬레이션 등 대량 생성용)
+       * 구현체는 티켓당 객체 할당 없이 생성해야 한다.
+       */
+      default long generateMask(LottoStrategyContext context) {
+            return LottoTicket.fromList(generate(context));
+      }
+
+      /**
+       * 이력과 무관하게 "조건을 만족하는 조합 중 균등 추출"하는 전략이면 그 조건, 아니면 null
+       * 정확 확률 모드에서는 표본 추출 대신 조합 열거로 등수 분포를 계산한다.
+       */
+      default LongPredicate uniformSupport() {
+            return null;
+      }
 }
@@ -1,11 +1,13 @@
 package com.wootae.backend.domain.lotto.strategy;
 
 import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 @Getter
 @Builder
@@ -19,7 +21,38 @@ public class LottoStrategyContext {
 
       private final LottoDraw latestDraw;
 
+      // 미리 계산된 통계가 있으면 빌더로 주입, 없으면 최초 접근 시 계산
+      @Getter(AccessLevel.NONE)
+      private volatile DrawStatistics statistics;
+
+      // 작업별 난수 생성기 (없으면 전략이 스레드 로컬 난수 사용)
+      private final RandomGenerator random;
+
+      /**
+       * 같은 이력·통계를 공유하고 난수 생성기만 바꾼 컨텍스트 (병렬 작업·청크별로 사용)
+       */
+      public LottoStrategyContext withRandom(RandomGenerator random) {
+            return new LottoStrategyContext(recentDraws, allDraws, latestDraw, getStatistics(), random);
+      }
+
       public boolean hasDrawData() {
             return latestDraw != null || !recentDraws.isEmpty();
       }
+
+      /**
+       * 이 컨텍스트의 통계 스냅샷 (최초 1회 계산 후 모든 전략·티켓이 공유)
+       */
+      public DrawStatistics getStatistics() {
+            DrawStatistics snapshot = statistics;
+            if (snapshot == null) {
+                  synchronized (this) {
+                        snapshot = statistics;
+                        if (snapshot == null) {
+                              snapshot = DrawStatistics.of(recentDraws, allDraws);
+                              statistics = snapshot;
+                        }
+                  }
+            }
+            return snapshot;
+      }
 }
@@ -0,0 +1,232 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 로또 티켓의 원시(primitive) 표현
+ *
+ * 번호 n(1~45)을 n번째 비트로 갖는 64비트 마스크로 티켓을 표현한다.
+ * 정렬·중복 제거가 자동으로 보장되고, 박싱/리스트 생성 없이 시뮬레이션 루프를 돌릴 수 있다.
+ */
+public final class LottoTicket {
+
+      public static final int MIN_NUMBER = 1;
+      public static final int MAX_NUMBER = 45;
+      public static final int PICK_COUNT = 6;
+
+      // 1~45번 비트가 모두 켜진 마스크
+      public static final long ALL_NUMBERS = range(MIN_NUMBER, MAX_NUMBER);
+
+      // 전체 조합 수 C(45,6)
+      public static final int COMBINATION_COUNT = 8_145_060;
+
+      // BINOMIAL[n][k] = C(n,k) (n=0~45, k=0~6)
+      private static final int[][] BINOMIAL = new int[MAX_NUMBER + 1][PICK_COUNT + 1];
+
+      static {
+            for (int n = 0; n <= MAX_NUMBER; n++) {
+                  BINOMIAL[n][0] = 1;
+                  for (int k = 1; k <= Math.min(n, PICK_COUNT); k++) {
+                        BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+                  }
+            }
+      }
+
+      private LottoTicket() {
+      }
+
+      /**
+       * C(n,k) (n=0~45, k=0~6, k > n이면 0)
+       */
+      static int binomial(int n, int k) {
+            return BINOMIAL[n][k];
+      }
+
+      public static long bit(int number) {
+            return 1L << number;
+      }
+
+      /**
+       * from~to(포함) 구간의 번호 마스크
+       */
+      public static long range(int from, int to) {
+            int lo = Math.max(from, MIN_NUMBER);
+            int hi = Math.min(to, MAX_NUMBER);
+            if (lo > hi) return 0L;
+            return (-1L >>> (63 - hi)) & (-1L << lo);
+      }
+
+      public static long of(int... numbers) {
+            long mask = 0L;
+            for (int n : numbers) mask |= bit(n);
+            return mask;
+      }
+
+      /**
+       * 외부 입력 번호 목록 -> 마스크, 1~45 밖의 번호가 있으면 0 (isValid 실패)
+       * bit(n)은 시프트 거리가 64로 나뉘어 65·-63 등이 유효한 번호 비트로 바뀌므로 여기서 범위를 먼저 확인한다.
+       */
+      public static long fromList(Collection<Integer> numbers) {
+            long mask = 0L;
+            for (int n : numbers) {
+                  if (n < MIN_NUMBER || n > MAX_NUMBER) return 0L;
+                  mask |= bit(n);
+            }
+            return mask;
+      }
+
+      public static long fromDraw(LottoDraw draw) {
+            return of(draw.getDrwtNo1(), draw.getDrwtNo2(), draw.getDrwtNo3(),
+                        draw.getDrwtNo4(), draw.getDrwtNo5(), draw.getDrwtNo6());
+      }
+
+      /**
+       * JSON 배열 문자열("[1,2,3,4,5,6]")을 마스크로 변환 (Jackson 없이 숫자만 스캔)
+       * 범위를 벗어나거나 중복된 번호가 있으면 0 반환
+       */
+      public static long parse(String ticket) {
+            if (ticket == null) return 0L;
+            long mask = 0L;
+            int current = -1;
+            for (int i = 0, len = ticket.length(); i <= len; i++) {
+                  char c = i < len ? ticket.charAt(i) : ',';
+                  if (c >= '0' && c <= '9') {
+                        current = (current < 0 ? 0 : current * 10) + (c - '0');
+                        if (current > MAX_NUMBER) return 0L;
+                  } else if (current >= 0) {
+                        if (current < MIN_NUMBER || (mask & bit(current)) != 0) return 0L;
+                        mask |= bit(current);
+                        current = -1;
+                  }
+            }
+            return mask;
+      }
+
+      public static boolean contains(long mask, int number) {
+            return (mask & bit(number)) != 0;
+      }
+
+      public static int size(long mask) {
+            return Long.bitCount(mask);
+      }
+
+      public static int countIn(long mask, long other) {
+            return Long.bitCount(mask & other);
+      }
+
+      /**
+       * 유효한 티켓인지 (1~45 범위의 서로 다른 번호 6개)
+       */
+      public static boolean isValid(long mask) {
+            return (mask & ~ALL_NUMBERS) == 0 && Long.bitCount(mask) == PICK_COUNT;
+      }
+
+      /**
+       * 마스크에서 index번째(0부터, 오름차순) 번호
+       * Long.expand는 BMI2 지원 CPU에서 PDEP 한 번으로 처리된다.
+       */
+      public static int nthNumber(long mask, int index) {
+            return Long.numberOfTrailingZeros(Long.expand(1L << index, mask));
+      }
+
+      public static int sum(long mask) {
+            int sum = 0;
+            for (long m = mask; m != 0; m &= m - 1) {
+                  sum += Long.numberOfTrailingZeros(m);
+            }
+            return sum;
+      }
+
+      public static boolean hasConsecutive(long mask) {
+            return (mask & (mask >>> 1)) != 0;
+      }
+
+      /**
+       * 인접 번호 간 간격이 모두 minGap 이상인지
+       */
+      public static boolean hasMinGap(long mask, int minGap) {
+            for (int gap = 1; gap < minGap; gap++) {
+                  if ((mask & (mask >>> gap)) != 0) return false;
+            }
+            return true;
+      }
+
+      /**
+       * 끝자리(0~9) 종류 수
+       */
+      public static int distinctLastDigits(long mask) {
+            int digits = 0;
+            for (long m = mask; m != 0; m &= m - 1) {
+                  digits |= 1 << (Long.numberOfTrailingZeros(m) % 10);
+            }
+            return Integer.bitCount(digits);
+      }
+
+      public static List<Integer> toList(long mask) {
+            List<Integer> numbers = new ArrayList<>(Long.bitCount(mask));
+            for (long m = mask; m != 0; m &= m - 1) {
+                  numbers.add(Long.numberOfTrailingZeros(m));
+            }
+            return numbers;
+      }
+
+      public static int[] toArray(long mask) {
+            int[] numbers = new int[Long.bitCount(mask)];
+            int i = 0;
+            for (long m = mask; m != 0; m &= m - 1) {
+                  numbers[i++] = Long.numberOfTrailingZeros(m);
+            }
+            return numbers;
+      }
+
+      /**
+       * 조합 순위(colex) - 0 ~ COMBINATION_COUNT-1
+       * 오름차순 번호 c1<...<c6에 대해 Σ C(ci-1, i)
+       */
+      public static int colexRank(long mask) {
+            int rank = 0;
+            int i = 1;
+            for (long m = mask; m != 0; m &= m - 1) {
+                  rank += BINOMIAL[Long.numberOfTrailingZeros(m) - 1][i++];
+            }
+            return rank;
+      }
+
+      /**
+       * colexRank의 역변환
+       */
+      public static long fromColexRank(int rank) {
+            long mask = 0L;
+            int remaining = rank;
+            int n = MAX_NUMBER;
+            for (int i = PICK_COUNT; i >= 1; i--) {
+                  while (BINOMIAL[n - 1][i] > remaining) n--;
+                  remaining -= BINOMIAL[n - 1][i];
+                  mask |= bit(n);
+                  n--;
+            }
+            return mask;
+      }
+
+      /**
+       * 전체 조합을 colex 오름차순으로 순회 (Gosper's hack), action이 false를 반환하면 중단
+       *
+       * @return 끝까지 순회했으면 true
+       */
+      public static boolean forEachCombination(LongPredicate action) {
+            // 0~44번 비트 중 6개가 켜진 값을 순회하고 한 칸 올려 티켓 마스크로 (번호 = 비트 + 1)
+            long limit = 1L << MAX_NUMBER;
+            for (long bits = (1L << PICK_COUNT) - 1; bits < limit; ) {
+                  if (!action.test(bits << 1)) return false;
+                  long lowest = bits & -bits;
+                  long ripple = bits + lowest;
+                  bits = (((ripple ^ bits) >>> 2) / lowest) | ripple;
+            }
+            return true;
+      }
+}
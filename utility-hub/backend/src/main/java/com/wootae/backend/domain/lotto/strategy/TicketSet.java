@@ -0,0 +1,74 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+/**
+ * 티켓 마스크({@link LottoTicket}) 전용 원시 해시 집합
+ *
+ * 선형 탐사(open addressing) long 배열 하나로 구현해 티켓당 박싱·노드 할당이 없다.
+ * 유효한 티켓은 0이 될 수 없으므로 0을 빈 칸 표시로 쓴다. (삭제는 지원하지 않음)
+ */
+public final class TicketSet {
+
+      private static final int MIN_CAPACITY = 16;
+      private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+      private long[] table;
+      private int size;
+      private int threshold;
+
+      public TicketSet(int expectedSize) {
+            allocate(tableSizeFor(expectedSize));
+      }
+
+      /**
+       * @return 새로 추가했으면 true, 이미 있었으면 false
+       */
+      public boolean add(long mask) {
+            if (mask == 0L) throw new IllegalArgumentException("빈 티켓은 추가할 수 없습니다.");
+            long[] t = table;
+            int slot = indexOf(t, mask);
+            if (t[slot] == mask) return false;
+            t[slot] = mask;
+            if (++size > threshold) rehash();
+            return true;
+      }
+
+      public boolean contains(long mask) {
+            if (mask == 0L) return false;
+            long[] t = table;
+            return t[indexOf(t, mask)] == mask;
+      }
+
+      public int size() {
+            return size;
+      }
+
+      // mask가 있는 칸, 없으면 들어갈 빈 칸
+      private static int indexOf(long[] t, long mask) {
+            int bits = t.length - 1;
+            int slot = (int) ((mask * GOLDEN_RATIO) >>> 32) & bits;
+            while (t[slot] != 0L && t[slot] != mask) {
+                  slot = (slot + 1) & bits;
+            }
+            return slot;
+      }
+
+      private void rehash() {
+            long[] old = table;
+            allocate(old.length << 1);
+            for (long mask : old) {
+                  if (mask != 0L) table[indexOf(table, mask)] = mask;
+            }
+      }
+
+      private void allocate(int capacity) {
+            table = new long[capacity];
+            threshold = capacity >> 1;
+      }
+
+      // 적재율 50% 이하가 되는 2의 거듭제곱
+      private static int tableSizeFor(int expectedSize) {
+            int capacity = MIN_CAPACITY;
+            while (capacity >> 1 < expectedSize && capacity < (1 << 30)) capacity <<= 1;
+            return capacity;
+      }
+}
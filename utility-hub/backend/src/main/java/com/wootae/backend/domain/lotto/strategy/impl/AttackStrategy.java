@@ -2,11 +2,10 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.TreeSet;
+import java.util.random.RandomGenerator;
 
 @Component
 public class AttackStrategy extends AbstractLottoStrategy {
@@ -16,12 +15,9 @@ public class AttackStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
-            while (selected.size() < 3) {
-                  selected.add(random.nextInt(16) + 30);
-            }
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            long selected = addRandomFrom(random, 0L, LottoTicket.range(30, 45), 3);
+            return fillRemaining(random, selected);
       }
 }
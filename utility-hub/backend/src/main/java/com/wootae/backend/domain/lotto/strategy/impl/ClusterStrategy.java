@@ -2,9 +2,10 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component
 public class ClusterStrategy extends AbstractLottoStrategy {
@@ -14,26 +15,28 @@ public class ClusterStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
             int clusterCount = random.nextInt(2) + 2;
             int numbersPerCluster = PICK_COUNT / clusterCount;
 
-            List<Integer> clusterStarts = new ArrayList<>();
-            while (clusterStarts.size() < clusterCount) {
-                  int start = random.nextInt(MAX_NUMBER - 3) + 1;
-                  boolean tooClose = clusterStarts.stream().anyMatch(s -> Math.abs(s - start) < 8);
-                  if (!tooClose) clusterStarts.add(start);
+            // 클러스터 시작점도 비트마스크로 관리 (서로 8 미만으로 붙지 않도록 후보에서 주변을 제거)
+            long clusterStarts = 0L;
+            long candidates = LottoTicket.range(MIN_NUMBER, MAX_NUMBER - 3);
+            for (int i = 0; i < clusterCount; i++) {
+                  int start = LottoTicket.nthNumber(candidates, random.nextInt(Long.bitCount(candidates)));
+                  clusterStarts |= LottoTicket.bit(start);
+                  candidates &= ~LottoTicket.range(start - 7, start + 7);
             }
-            Collections.sort(clusterStarts);
 
-            for (int start : clusterStarts) {
-                  for (int j = 0; j < numbersPerCluster && selected.size() < PICK_COUNT; j++) {
+            long selected = 0L;
+            for (long m = clusterStarts; m != 0; m &= m - 1) {
+                  int start = Long.numberOfTrailingZeros(m);
+                  for (int j = 0; j < numbersPerCluster && Long.bitCount(selected) < PICK_COUNT; j++) {
                         int num = start + random.nextInt(4);
-                        if (num >= MIN_NUMBER && num <= MAX_NUMBER) selected.add(num);
+                        if (num >= MIN_NUMBER && num <= MAX_NUMBER) selected |= LottoTicket.bit(num);
                   }
             }
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+            return fillRemaining(random, selected);
       }
 }
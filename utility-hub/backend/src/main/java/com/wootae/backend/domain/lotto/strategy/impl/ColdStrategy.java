@@ -4,7 +4,7 @@ import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component
 public class ColdStrategy extends AbstractLottoStrategy {
@@ -14,12 +14,9 @@ public class ColdStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "DATA_BASED"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            if (context.getRecentDraws().isEmpty()) return generateRandom();
-            Map<Integer, Integer> freqMap = buildFrequencyMap(context.getRecentDraws());
-            List<Integer> coldNumbers = new ArrayList<>();
-            for (int i = MIN_NUMBER; i <= MAX_NUMBER; i++) coldNumbers.add(i);
-            coldNumbers.sort(Comparator.comparingInt(n -> freqMap.getOrDefault(n, 0)));
-            return pickFromPool(coldNumbers.subList(0, Math.min(15, coldNumbers.size())));
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            if (context.getRecentDraws().isEmpty()) return generateRandom(random);
+            return pickFromPool(random, context.getStatistics().coldPool());
       }
 }
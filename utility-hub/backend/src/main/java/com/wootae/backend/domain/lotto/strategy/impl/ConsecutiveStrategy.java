@@ -2,11 +2,10 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.TreeSet;
+import java.util.random.RandomGenerator;
 
 @Component
 public class ConsecutiveStrategy extends AbstractLottoStrategy {
@@ -16,12 +15,10 @@ public class ConsecutiveStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
             int start = random.nextInt(MAX_NUMBER - 1) + 1;
-            selected.add(start);
-            selected.add(start + 1);
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+            long selected = LottoTicket.bit(start) | LottoTicket.bit(start + 1);
+            return fillRemaining(random, selected);
       }
 }
@@ -2,11 +2,10 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.TreeSet;
+import java.util.random.RandomGenerator;
 
 @Component
 public class DoubleStrategy extends AbstractLottoStrategy {
@@ -18,10 +17,9 @@ public class DoubleStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
-            selected.add(DOUBLES[random.nextInt(DOUBLES.length)]);
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            long selected = LottoTicket.bit(DOUBLES[random.nextInt(DOUBLES.length)]);
+            return fillRemaining(random, selected);
       }
 }
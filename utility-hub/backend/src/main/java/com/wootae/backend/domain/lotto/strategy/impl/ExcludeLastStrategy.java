@@ -2,11 +2,10 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.random.RandomGenerator;
 
 @Component
 public class ExcludeLastStrategy extends AbstractLottoStrategy {
@@ -16,13 +15,10 @@ public class ExcludeLastStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "DATA_BASED"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            if (context.getLatestDraw() == null) return generateRandom();
-            Set<Integer> excludeSet = new HashSet<>(extractNumbers(context.getLatestDraw()));
-            List<Integer> pool = IntStream.rangeClosed(MIN_NUMBER, MAX_NUMBER)
-                        .filter(n -> !excludeSet.contains(n))
-                        .boxed().collect(Collectors.toList());
-            Collections.shuffle(pool, random);
-            return pool.subList(0, PICK_COUNT).stream().sorted().collect(Collectors.toList());
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            if (context.getLatestDraw() == null) return generateRandom(random);
+            long excluded = LottoTicket.fromDraw(context.getLatestDraw());
+            return pickFromPool(random, LottoTicket.ALL_NUMBERS & ~excluded);
       }
 }
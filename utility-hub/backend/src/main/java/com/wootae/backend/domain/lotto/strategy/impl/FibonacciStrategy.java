@@ -2,34 +2,35 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component
 public class FibonacciStrategy extends AbstractLottoStrategy {
       private static final int[] FIBONACCI = {1, 2, 3, 5, 8, 13, 21, 34};
 
+      // 피보나치 수와 그 이웃(±1)으로 구성된 후보 풀
+      private static final int[] FIB_POOL = buildFibPool();
+
       public String getType() { return "FIBONACCI"; }
       public String getName() { return "피보나치"; }
       public String getDescription() { return "피보나치 수 근처 번호 우선 선택"; }
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
-            var fibPool = new TreeSet<Integer>();
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            long selected = addRandomFrom(random, 0L, FIB_POOL, 4);
+            return fillRemaining(random, selected);
+      }
+
+      private static int[] buildFibPool() {
+            long pool = 0L;
             for (int f : FIBONACCI) {
-                  if (f >= MIN_NUMBER && f <= MAX_NUMBER) fibPool.add(f);
-                  if (f - 1 >= MIN_NUMBER) fibPool.add(f - 1);
-                  if (f + 1 <= MAX_NUMBER) fibPool.add(f + 1);
-            }
-            List<Integer> fibList = new ArrayList<>(fibPool);
-            Collections.shuffle(fibList, random);
-            for (int i = 0; i < 4 && i < fibList.size(); i++) {
-                  selected.add(fibList.get(i));
+                  pool |= LottoTicket.range(f - 1, f + 1);
             }
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+            return LottoTicket.toArray(pool);
       }
 }
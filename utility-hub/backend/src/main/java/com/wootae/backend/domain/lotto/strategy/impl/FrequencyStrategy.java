@@ -4,8 +4,7 @@ import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
+import java.util.random.RandomGenerator;
 
 @Component
 public class FrequencyStrategy extends AbstractLottoStrategy {
@@ -15,10 +14,9 @@ public class FrequencyStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "DATA_BASED"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            if (context.getAllDraws().isEmpty()) return generateRandom();
-            Map<Integer, Integer> freqMap = buildFrequencyMap(context.getAllDraws());
-            List<Integer> topNumbers = getTopNumbers(freqMap, 15);
-            return pickFromPool(topNumbers);
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            if (context.getAllDraws().isEmpty()) return generateRandom(random);
+            return pickFromPool(random, context.getStatistics().frequentPool());
       }
 }
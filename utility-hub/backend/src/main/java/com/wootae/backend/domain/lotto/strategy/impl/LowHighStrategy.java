@@ -2,28 +2,30 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.TreeSet;
+import java.util.function.LongPredicate;
+import java.util.random.RandomGenerator;
 
 @Component
 public class LowHighStrategy extends AbstractLottoStrategy {
+      private static final long LOW_NUMBERS = LottoTicket.range(1, 22);
+
       public String getType() { return "LOW_HIGH"; }
       public String getName() { return "저고 균형"; }
       public String getDescription() { return "저번호(1~22) 3개 + 고번호(23~45) 3개"; }
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
-            while (selected.stream().filter(n -> n <= 22).count() < 3) {
-                  selected.add(random.nextInt(22) + 1);
-            }
-            while (selected.size() < PICK_COUNT) {
-                  selected.add(random.nextInt(23) + 23);
-            }
-            return new ArrayList<>(selected);
+      public LongPredicate uniformSupport() {
+            return ticket -> Long.bitCount(ticket & LOW_NUMBERS) == 3;
+      }
+
+      @Override
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            long selected = addRandomFrom(random, 0L, LOW_NUMBERS, 3);
+            return addRandomFrom(random, selected, LottoTicket.ALL_NUMBERS & ~LOW_NUMBERS, 3);
       }
 }
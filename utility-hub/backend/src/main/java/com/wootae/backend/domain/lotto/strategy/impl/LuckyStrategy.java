@@ -4,7 +4,7 @@ import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component
 public class LuckyStrategy extends AbstractLottoStrategy {
@@ -16,16 +16,10 @@ public class LuckyStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
-            List<Integer> luckyList = new ArrayList<>();
-            for (int n : LUCKY) luckyList.add(n);
-            Collections.shuffle(luckyList, random);
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
             int count = random.nextInt(2) + 3;
-            for (int i = 0; i < count && i < luckyList.size(); i++) {
-                  selected.add(luckyList.get(i));
-            }
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+            long selected = addRandomFrom(random, 0L, LUCKY, count);
+            return fillRemaining(random, selected);
       }
 }
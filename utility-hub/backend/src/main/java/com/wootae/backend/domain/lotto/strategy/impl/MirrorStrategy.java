@@ -2,9 +2,10 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component
 public class MirrorStrategy extends AbstractLottoStrategy {
@@ -14,21 +15,18 @@ public class MirrorStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "DATA_BASED"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            if (context.getLatestDraw() == null) return generateRandom();
-            List<Integer> lastNumbers = extractNumbers(context.getLatestDraw());
-            var mirrorPool = new TreeSet<Integer>();
-            for (int num : lastNumbers) {
-                  int mirror = 46 - num;
-                  if (mirror >= MIN_NUMBER && mirror <= MAX_NUMBER) mirrorPool.add(mirror);
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            if (context.getLatestDraw() == null) return generateRandom(random);
+            long lastNumbers = LottoTicket.fromDraw(context.getLatestDraw());
+            long mirrorPool = 0L;
+            for (long m = lastNumbers; m != 0; m &= m - 1) {
+                  int mirror = 46 - Long.numberOfTrailingZeros(m);
+                  if (mirror >= MIN_NUMBER && mirror <= MAX_NUMBER) mirrorPool |= LottoTicket.bit(mirror);
             }
 
-            var selected = new TreeSet<Integer>();
-            var mirrorList = new ArrayList<>(mirrorPool);
-            Collections.shuffle(mirrorList, random);
-            int count = Math.min(random.nextInt(2) + 3, mirrorList.size());
-            for (int i = 0; i < count; i++) selected.add(mirrorList.get(i));
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+            int count = Math.min(random.nextInt(2) + 3, Long.bitCount(mirrorPool));
+            long selected = addRandomFrom(random, 0L, mirrorPool, count);
+            return fillRemaining(random, selected);
       }
 }
@@ -4,7 +4,7 @@ import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component
 public class PrimeStrategy extends AbstractLottoStrategy {
@@ -16,15 +16,9 @@ public class PrimeStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
-            List<Integer> primeList = new ArrayList<>();
-            for (int p : PRIMES) primeList.add(p);
-            Collections.shuffle(primeList, random);
-            for (int i = 0; i < 4 && i < primeList.size(); i++) {
-                  selected.add(primeList.get(i));
-            }
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            long selected = addRandomFrom(random, 0L, PRIMES, 4);
+            return fillRemaining(random, selected);
       }
 }
@@ -4,7 +4,8 @@ import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.random.RandomGenerator;
 
 @Component
 public class RandomStrategy extends AbstractLottoStrategy {
@@ -14,7 +15,13 @@ public class RandomStrategy extends AbstractLottoStrategy {
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            return generateRandom();
+      public LongPredicate uniformSupport() {
+            return ticket -> true;
+      }
+
+      @Override
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            return generateRandom(random);
       }
 }
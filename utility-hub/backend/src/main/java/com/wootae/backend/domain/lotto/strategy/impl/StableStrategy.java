@@ -2,29 +2,29 @@ package com.wootae.backend.domain.lotto.strategy.impl;
 
 import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.TreeSet;
+import java.util.random.RandomGenerator;
 
 @Component
 public class StableStrategy extends AbstractLottoStrategy {
+      private static final int[] RANGE_STARTS = {1, 10, 20, 30, 40};
+
       public String getType() { return "STABLE"; }
       public String getName() { return "안정형"; }
       public String getDescription() { return "5개 구간에서 균등 분배"; }
       public String getCategory() { return "ALGORITHM"; }
 
       @Override
-      public List<Integer> generate(LottoStrategyContext context) {
-            var selected = new TreeSet<Integer>();
-            int[] ranges = {1, 10, 20, 30, 40};
-            for (int start : ranges) {
-                  if (selected.size() >= PICK_COUNT) break;
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            long selected = 0L;
+            for (int start : RANGE_STARTS) {
+                  if (Long.bitCount(selected) >= PICK_COUNT) break;
                   int end = Math.min(start + 9, MAX_NUMBER);
-                  selected.add(random.nextInt(end - start + 1) + start);
+                  selected |= LottoTicket.bit(random.nextInt(end - start + 1) + start);
             }
-            fillRemaining(selected);
-            return new ArrayList<>(selected);
+            return fillRemaining(random, selected);
       }
 }
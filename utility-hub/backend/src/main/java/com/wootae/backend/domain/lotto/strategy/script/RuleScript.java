@@ -0,0 +1,76 @@
+package com.wootae.backend.domain.lotto.strategy.script;
+
+import java.util.Map;
+
+/**
+ * 컴파일된 규칙 스크립트 (불변, 스레드 안전)
+ *
+ * 스크립트는 한 번 파싱해 클로저 트리로 컴파일하고, 티켓 평가는 할당 없이 long 연산만 한다.
+ * 반복문·변수 대입·외부 호출이 없는 식 언어라 평가 시간은 식 크기에 비례한다.
+ *
+ * <pre>
+ * # 합계 100~175, 홀수 2~4개, 연번 최대 1쌍
+ * require sum in 100..175
+ * require odd in 2..4 and consecutive &lt;= 1
+ * weight hot * 2 + decade(3)
+ * </pre>
+ *
+ * 문법은 {@link RuleScriptParser} 참고.
+ */
+public final class RuleScript {
+
+      /**
+       * 컴파일된 식 (불리언은 1/0)
+       */
+      @FunctionalInterface
+      interface Expr {
+            long eval(long ticket, RuleScriptEnv env);
+      }
+
+      private final Expr[] requires;
+      private final Expr weight;
+      private final boolean usesHistory;
+
+      RuleScript(Expr[] requires, Expr weight, boolean usesHistory) {
+            this.requires = requires;
+            this.weight = weight;
+            this.usesHistory = usesHistory;
+      }
+
+      /**
+       * @param parameters 스크립트에서 이름으로 참조하는 상수 (규칙의 parameters JSON)
+       * @throws RuleScriptException 문법·타입 오류
+       */
+      public static RuleScript compile(String source, Map<String, Long> parameters) {
+            return new RuleScriptParser(source, parameters).parse();
+      }
+
+      /**
+       * 모든 require 조건을 만족하는지
+       */
+      public boolean accepts(long ticket, RuleScriptEnv env) {
+            for (Expr require : requires) {
+                  if (require.eval(ticket, env) == 0) return false;
+            }
+            return true;
+      }
+
+      /**
+       * weight 식의 값 (음수는 0, weight 문이 없으면 1)
+       */
+      public long weight(long ticket, RuleScriptEnv env) {
+            return weight == null ? 1L : Math.max(0L, weight.eval(ticket, env));
+      }
+
+      public boolean hasWeight() {
+            return weight != null;
+      }
+
+      /**
+       * 이력 기반 값(hot, cold, frequent, repeat, hotness)을 참조하는지
+       * 참조하지 않으면 {@link RuleScriptEnv#EMPTY}로 평가해도 된다.
+       */
+      public boolean usesHistory() {
+            return usesHistory;
+      }
+}
@@ -0,0 +1,31 @@
+package com.wootae.backend.domain.lotto.strategy.script;
+
+import com.wootae.backend.domain.lotto.strategy.DrawStatistics;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+
+/**
+ * 스크립트의 이력 기반 값(hot, cold, frequent, repeat, hotness)이 참조하는 스냅샷
+ * 이력을 쓰지 않는 스크립트는 {@link #EMPTY}로 평가한다.
+ *
+ * @param latest 직전 회차 당첨 번호 마스크 (없으면 0)
+ */
+public record RuleScriptEnv(long hot, long cold, long frequent, long latest, DrawStatistics statistics) {
+
+      public static final RuleScriptEnv EMPTY = new RuleScriptEnv(0L, 0L, 0L, 0L, null);
+
+      public static RuleScriptEnv of(LottoStrategyContext context) {
+            DrawStatistics statistics = context.getStatistics();
+            long latest = context.getLatestDraw() != null ? LottoTicket.fromDraw(context.getLatestDraw()) : 0L;
+            return new RuleScriptEnv(statistics.hotPool(), statistics.coldPool(), statistics.frequentPool(),
+                        latest, statistics);
+      }
+
+      int recentFrequencySum(long ticket) {
+            int total = 0;
+            for (long m = ticket; m != 0; m &= m - 1) {
+                  total += statistics.recentFrequency(Long.numberOfTrailingZeros(m));
+            }
+            return total;
+      }
+}
@@ -0,0 +1,25 @@
+package com.wootae.backend.domain.lotto.strategy.script;
+
+/**
+ * 규칙 스크립트 컴파일·실행 오류 (메시지에 위치 포함)
+ */
+public class RuleScriptException extends IllegalArgumentException {
+
+      public RuleScriptException(String message) {
+            super(message);
+      }
+
+      static RuleScriptException at(String source, int position, String message) {
+            int line = 1;
+            int column = 1;
+            for (int i = 0; i < position && i < source.length(); i++) {
+                  if (source.charAt(i) == '\n') {
+                        line++;
+                        column = 1;
+                  } else {
+                        column++;
+                  }
+            }
+            return new RuleScriptException(line + "행 " + column + "열: " + message);
+      }
+}
@@ -0,0 +1,572 @@
+package com.wootae.backend.domain.lotto.strategy.script;
+
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 규칙 스크립트 파서 - 토큰화 후 재귀 하강으로 파싱하면서 바로 클로저 트리로 컴파일
+ *
+ * <pre>
+ * script     := { statement (줄바꿈 | ';') }          # 이후는 주석
+ * statement  := 'require' 조건식 | 'weight' 숫자식     (weight는 한 번만)
+ * or         := and { ('or' | '||') and }
+ * and        := not { ('and' | '&&') not }
+ * not        := ('not' | '!') not | comparison
+ * comparison := additive [ ('<' | '<=' | '>' | '>=' | '==' | '!=') additive | 'in' additive '..' additive ]
+ * additive   := term { ('+' | '-') term }
+ * term       := unary { ('*' | '/' | '%') unary }
+ * unary      := '-' unary | 숫자 | 'true' | 'false' | 값 | 함수 '(' 인자 ')' | '(' or ')'
+ * </pre>
+ *
+ * 값: sum, odd, even, low(1~22), high(23~45), min, max, span, maxgap, mingap, consecutive(연번 쌍),
+ * primes, lastdigits(끝자리 종류), hot, cold, frequent(풀 포함 개수), repeat(직전 회차 포함 개수), hotness(최근 빈도 합)
+ * 함수: decade(d)(d=0: 1~9, 1: 10~19 … 4: 40~45), has(n), count(a, b)(a~b 번호 개수), abs(x)
+ * 그 밖의 이름은 파라미터 상수로 찾는다. 상수끼리의 연산은 컴파일 시점에 접고, 0으로 나누면 0이다.
+ * 산술이 long 범위를 넘으면 최댓값·최솟값으로 고정한다 (넘쳐서 부호가 뒤집히지 않도록).
+ */
+final class RuleScriptParser {
+
+      static final int MAX_SOURCE_LENGTH = 4_000;
+      static final int MAX_NODES = 512;
+      // 괄호·함수 인자·단항 연산자 중첩 한도 (재귀 하강 파싱의 스택 깊이 제한)
+      static final int MAX_DEPTH = 64;
+
+      private static final long MAX_LITERAL = 1_000_000_000L;
+
+      private static final long LOW = LottoTicket.range(1, 22);
+      private static final long HIGH = LottoTicket.range(23, 45);
+      private static final long ODD = 0xAAAAAAAAAAAAAAAAL & LottoTicket.ALL_NUMBERS;
+      private static final long EVEN = ~ODD & LottoTicket.ALL_NUMBERS;
+      private static final long PRIMES = LottoTicket.of(2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43);
+
+      private static final Set<String> KEYWORDS = Set.of("require", "weight", "and", "or", "not", "in", "true", "false");
+      private static final Set<String> FUNCTIONS = Set.of("decade", "has", "count", "abs");
+      private static final Set<String> TWO_CHAR_SYMBOLS = Set.of("<=", ">=", "==", "!=", "&&", "||", "..");
+
+      private record Feature(RuleScript.Expr expr, boolean history) {
+      }
+
+      private static final Map<String, Feature> FEATURES = Map.ofEntries(
+                  Map.entry("sum", new Feature((t, e) -> LottoTicket.sum(t), false)),
+                  Map.entry("odd", new Feature((t, e) -> Long.bitCount(t & ODD), false)),
+                  Map.entry("even", new Feature((t, e) -> Long.bitCount(t & EVEN), false)),
+                  Map.entry("low", new Feature((t, e) -> Long.bitCount(t & LOW), false)),
+                  Map.entry("high", new Feature((t, e) -> Long.bitCount(t & HIGH), false)),
+                  Map.entry("min", new Feature((t, e) -> Long.numberOfTrailingZeros(t), false)),
+                  Map.entry("max", new Feature((t, e) -> 63 - Long.numberOfLeadingZeros(t), false)),
+                  Map.entry("span", new Feature((t, e) -> 63 - Long.numberOfLeadingZeros(t) - Long.numberOfTrailingZeros(t), false)),
+                  Map.entry("maxgap", new Feature((t, e) -> maxGap(t), false)),
+                  Map.entry("mingap", new Feature((t, e) -> minGap(t), false)),
+                  Map.entry("consecutive", new Feature((t, e) -> Long.bitCount(t & (t >>> 1)), false)),
+                  Map.entry("primes", new Feature((t, e) -> Long.bitCount(t & PRIMES), false)),
+                  Map.entry("lastdigits", new Feature((t, e) -> LottoTicket.distinctLastDigits(t), false)),
+                  Map.entry("hot", new Feature((t, e) -> Long.bitCount(t & e.hot()), true)),
+                  Map.entry("cold", new Feature((t, e) -> Long.bitCount(t & e.cold()), true)),
+                  Map.entry("frequent", new Feature((t, e) -> Long.bitCount(t & e.frequent()), true)),
+                  Map.entry("repeat", new Feature((t, e) -> Long.bitCount(t & e.latest()), true)),
+                  Map.entry("hotness", new Feature((t, e) -> e.recentFrequencySum(t), true)));
+
+      private enum Kind { NUMBER, NAME, SYMBOL, END_OF_STATEMENT, EOF }
+
+      private record Token(Kind kind, String text, long value, int position) {
+      }
+
+      // 컴파일 중인 식 - 상수면 value에 접힌 값
+      private record Node(RuleScript.Expr expr, boolean bool, boolean constant, boolean history, long value) {
+      }
+
+      private final String source;
+      private final Map<String, Long> parameters;
+      private final List<Token> tokens;
+      private int index;
+      private int nodeCount;
+      private int depth;
+
+      RuleScriptParser(String source, Map<String, Long> parameters) {
+            if (source == null || source.isBlank()) throw new RuleScriptException("스크립트가 비어 있습니다.");
+            if (source.length() > MAX_SOURCE_LENGTH) {
+                  throw new RuleScriptException("스크립트가 너무 깁니다. (최대 " + MAX_SOURCE_LENGTH + "자)");
+            }
+            this.source = source;
+            this.parameters = parameters == null ? Map.of() : parameters;
+            for (Map.Entry<String, Long> parameter : this.parameters.entrySet()) {
+                  String name = parameter.getKey();
+                  if (KEYWORDS.contains(name) || FUNCTIONS.contains(name) || FEATURES.containsKey(name)) {
+                        throw new RuleScriptException("파라미터 이름이 예약어와 겹칩니다: " + name);
+                  }
+                  Long value = parameter.getValue();
+                  if (value != null && (value > MAX_LITERAL || value < -MAX_LITERAL)) {
+                        throw new RuleScriptException("파라미터 값이 너무 큽니다: " + name + " (최대 ±" + MAX_LITERAL + ")");
+                  }
+            }
+            this.tokens = tokenize();
+      }
+
+      RuleScript parse() {
+            List<RuleScript.Expr> requires = new ArrayList<>();
+            Node weight = null;
+            boolean history = false;
+            int statements = 0;
+            while (true) {
+                  while (peek().kind() == Kind.END_OF_STATEMENT) index++;
+                  Token token = peek();
+                  if (token.kind() == Kind.EOF) break;
+
+                  if (isName(token, "require")) {
+                        index++;
+                        Node condition = or();
+                        if (!condition.bool()) throw error(token, "require 뒤에는 조건식이 와야 합니다.");
+                        history |= condition.history();
+                        // 항상 참인 조건은 평가하지 않음
+                        if (!condition.constant() || condition.value() == 0) requires.add(condition.expr());
+                  } else if (isName(token, "weight")) {
+                        if (weight != null) throw error(token, "weight 문은 한 번만 쓸 수 있습니다.");
+                        index++;
+                        weight = or();
+                        if (weight.bool()) throw error(token, "weight 뒤에는 숫자식이 와야 합니다.");
+                        history |= weight.history();
+                  } else {
+                        throw error(token, "require 또는 weight 문이 와야 합니다.");
+                  }
+                  statements++;
+
+                  Token end = peek();
+                  if (end.kind() != Kind.END_OF_STATEMENT && end.kind() != Kind.EOF) {
+                        throw error(end, "예상하지 못한 '" + end.text() + "'");
+                  }
+            }
+            if (statements == 0) throw new RuleScriptException("require 또는 weight 문이 없습니다.");
+            return new RuleScript(requires.toArray(RuleScript.Expr[]::new),
+                        weight == null ? null : weight.expr(), history);
+      }
+
+      // ===== 식 =====
+
+      private Node or() {
+            Node left = and();
+            while (matchName("or") || matchSymbol("||")) {
+                  Token op = previous();
+                  Node right = and();
+                  RuleScript.Expr l = bool(left, op).expr();
+                  RuleScript.Expr r = bool(right, op).expr();
+                  left = combine(left, right, true, (t, e) -> l.eval(t, e) != 0 ? 1L : r.eval(t, e));
+            }
+            return left;
+      }
+
+      private Node and() {
+            Node left = not();
+            while (matchName("and") || matchSymbol("&&")) {
+                  Token op = previous();
+                  Node right = not();
+                  RuleScript.Expr l = bool(left, op).expr();
+                  RuleScript.Expr r = bool(right, op).expr();
+                  left = combine(left, right, true, (t, e) -> l.eval(t, e) == 0 ? 0L : r.eval(t, e));
+            }
+            return left;
+      }
+
+      private Node not() {
+            if (matchName("not") || matchSymbol("!")) {
+                  Token op = previous();
+                  Node operand = bool(nested(op, this::not), op);
+                  RuleScript.Expr x = operand.expr();
+                  return node((t, e) -> 1L - x.eval(t, e), true, operand.constant(), operand.history());
+            }
+            return comparison();
+      }
+
+      private Node comparison() {
+            Node left = additive();
+            Token op = peek();
+            if (matchName("in")) {
+                  Node from = number(additive(), op);
+                  if (!matchSymbol("..")) throw error(peek(), "범위는 'a..b' 형식이어야 합니다.");
+                  Node to = number(additive(), op);
+                  return range(number(left, op), from, to);
+            }
+            if (op.kind() != Kind.SYMBOL) return left;
+            switch (op.text()) {
+                  case "<", "<=", ">", ">=", "==", "!=" -> {
+                        index++;
+                        return compare(op, number(left, op), number(additive(), op));
+                  }
+                  default -> {
+                        return left;
+                  }
+            }
+      }
+
+      private Node additive() {
+            Node left = term();
+            while (matchSymbol("+") || matchSymbol("-")) {
+                  Token op = previous();
+                  Node right = number(term(), op);
+                  RuleScript.Expr l = number(left, op).expr();
+                  RuleScript.Expr r = right.expr();
+                  left = combine(left, right, false, op.text().equals("+")
+                              ? (t, e) -> add(l.eval(t, e), r.eval(t, e))
+                              : (t, e) -> subtract(l.eval(t, e), r.eval(t, e)));
+            }
+            return left;
+      }
+
+      private Node term() {
+            Node left = unary();
+            while (matchSymbol("*") || matchSymbol("/") || matchSymbol("%")) {
+                  Token op = previous();
+                  Node right = number(unary(), op);
+                  RuleScript.Expr l = number(left, op).expr();
+                  RuleScript.Expr r = right.expr();
+                  RuleScript.Expr expr = switch (op.text()) {
+                        case "*" -> (t, e) -> multiply(l.eval(t, e), r.eval(t, e));
+                        case "/" -> (t, e) -> {
+                              long divisor = r.eval(t, e);
+                              if (divisor == 0) return 0L;
+                              return divisor == -1 ? negate(l.eval(t, e)) : l.eval(t, e) / divisor;
+                        };
+                        default -> (t, e) -> {
+                              long divisor = r.eval(t, e);
+                              return divisor == 0 ? 0L : l.eval(t, e) % divisor;
+                        };
+                  };
+                  left = combine(left, right, false, expr);
+            }
+            return left;
+      }
+
+      private Node unary() {
+            if (matchSymbol("-")) {
+                  Token op = previous();
+                  Node operand = number(nested(op, this::unary), op);
+                  RuleScript.Expr x = operand.expr();
+                  return node((t, e) -> negate(x.eval(t, e)), false, operand.constant(), operand.history());
+            }
+            return primary();
+      }
+
+      private Node primary() {
+            Token token = advance();
+            switch (token.kind()) {
+                  case NUMBER -> {
+                        return constant(token.value(), false);
+                  }
+                  case SYMBOL -> {
+                        if (token.text().equals("(")) {
+                              Node inner = nested(token, this::or);
+                              expectSymbol(")");
+                              return inner;
+                        }
+                        throw error(token, "예상하지 못한 '" + token.text() + "'");
+                  }
+                  case NAME -> {
+                        return name(token);
+                  }
+                  default -> throw error(token, "식이 와야 합니다.");
+            }
+      }
+
+      private Node name(Token token) {
+            String name = token.text();
+            if (name.equals("true")) return constant(1L, true);
+            if (name.equals("false")) return constant(0L, true);
+            if (KEYWORDS.contains(name)) throw error(token, "'" + name + "'는 여기에 올 수 없습니다.");
+
+            if (FUNCTIONS.contains(name)) {
+                  expectSymbol("(");
+                  List<Node> args = new ArrayList<>();
+                  if (!matchSymbol(")")) {
+                        do {
+                              args.add(number(nested(token, this::or), token));
+                        } while (matchSymbol(","));
+                        expectSymbol(")");
+                  }
+                  return function(token, args);
+            }
+
+            Feature feature = FEATURES.get(name);
+            if (feature != null) return node(feature.expr(), false, false, feature.history());
+
+            Long parameter = parameters.get(name);
+            if (parameter != null) return constant(parameter, false);
+            throw error(token, "알 수 없는 이름: " + name);
+      }
+
+      private Node function(Token token, List<Node> args) {
+            int arity = token.text().equals("count") ? 2 : 1;
+            if (args.size() != arity) {
+                  throw error(token, token.text() + "() 인자는 " + arity + "개여야 합니다.");
+            }
+            Node a = args.get(0);
+            RuleScript.Expr x = a.expr();
+            switch (token.text()) {
+                  case "decade" -> {
+                        if (a.constant()) {
+                              long mask = decadeMask(a.value());
+                              return node((t, e) -> Long.bitCount(t & mask), false, false, false);
+                        }
+                        return node((t, e) -> Long.bitCount(t & decadeMask(x.eval(t, e))), false, false, a.history());
+                  }
+                  case "has" -> {
+                        if (a.constant()) {
+                              if (a.value() < LottoTicket.MIN_NUMBER || a.value() > LottoTicket.MAX_NUMBER) {
+                                    throw error(token, "번호는 1~45여야 합니다.");
+                              }
+                              int number = (int) a.value();
+                              return node((t, e) -> (t >>> number) & 1L, true, false, false);
+                        }
+                        return node((t, e) -> {
+                              long number = x.eval(t, e);
+                              return Long.bitCount(t & rangeMask(number, number));
+                        }, true, false, a.history());
+                  }
+                  case "count" -> {
+                        Node b = args.get(1);
+                        RuleScript.Expr y = b.expr();
+                        if (a.constant() && b.constant()) {
+                              long mask = rangeMask(a.value(), b.value());
+                              return node((t, e) -> Long.bitCount(t & mask), false, false, false);
+                        }
+                        return node((t, e) -> Long.bitCount(t & rangeMask(x.eval(t, e), y.eval(t, e))), false, false,
+                                    a.history() || b.history());
+                  }
+                  default -> {
+                        return node((t, e) -> {
+                              long v = x.eval(t, e);
+                              return v < 0 ? negate(v) : v;
+                        }, false, a.constant(), a.history());
+                  }
+            }
+      }
+
+      private Node compare(Token op, Node left, Node right) {
+            RuleScript.Expr l = left.expr();
+            RuleScript.Expr expr;
+            if (right.constant()) {
+                  // 상수와 비교하는 흔한 경우는 오른쪽 평가 생략
+                  long v = right.value();
+                  expr = switch (op.text()) {
+                        case "<" -> (t, e) -> l.eval(t, e) < v ? 1L : 0L;
+                        case "<=" -> (t, e) -> l.eval(t, e) <= v ? 1L : 0L;
+                        case ">" -> (t, e) -> l.eval(t, e) > v ? 1L : 0L;
+                        case ">=" -> (t, e) -> l.eval(t, e) >= v ? 1L : 0L;
+                        case "==" -> (t, e) -> l.eval(t, e) == v ? 1L : 0L;
+                        default -> (t, e) -> l.eval(t, e) != v ? 1L : 0L;
+                  };
+            } else {
+                  RuleScript.Expr r = right.expr();
+                  expr = switch (op.text()) {
+                        case "<" -> (t, e) -> l.eval(t, e) < r.eval(t, e) ? 1L : 0L;
+                        case "<=" -> (t, e) -> l.eval(t, e) <= r.eval(t, e) ? 1L : 0L;
+                        case ">" -> (t, e) -> l.eval(t, e) > r.eval(t, e) ? 1L : 0L;
+                        case ">=" -> (t, e) -> l.eval(t, e) >= r.eval(t, e) ? 1L : 0L;
+                        case "==" -> (t, e) -> l.eval(t, e) == r.eval(t, e) ? 1L : 0L;
+                        default -> (t, e) -> l.eval(t, e) != r.eval(t, e) ? 1L : 0L;
+                  };
+            }
+            return combine(left, right, true, expr);
+      }
+
+      private Node range(Node value, Node from, Node to) {
+            RuleScript.Expr x = value.expr();
+            boolean constant = value.constant() && from.constant() && to.constant();
+            boolean history = value.history() || from.history() || to.history();
+            if (from.constant() && to.constant()) {
+                  long lo = from.value();
+                  long hi = to.value();
+                  return node((t, e) -> {
+                        long v = x.eval(t, e);
+                        return v >= lo && v <= hi ? 1L : 0L;
+                  }, true, constant, history);
+            }
+            RuleScript.Expr lo = from.expr();
+            RuleScript.Expr hi = to.expr();
+            return node((t, e) -> {
+                  long v = x.eval(t, e);
+                  return v >= lo.eval(t, e) && v <= hi.eval(t, e) ? 1L : 0L;
+            }, true, constant, history);
+      }
+
+      // ===== 노드 =====
+
+      private Node nested(Token at, Supplier<Node> parser) {
+            if (++depth > MAX_DEPTH) throw error(at, "식이 너무 깊게 중첩되었습니다. (최대 " + MAX_DEPTH + "단계)");
+            Node node = parser.get();
+            depth--;
+            return node;
+      }
+
+      private Node combine(Node left, Node right, boolean bool, RuleScript.Expr expr) {
+            return node(expr, bool, left.constant() && right.constant(), left.history() || right.history());
+      }
+
+      private Node node(RuleScript.Expr expr, boolean bool, boolean constant, boolean history) {
+            if (++nodeCount > MAX_NODES) {
+                  throw new RuleScriptException("식이 너무 큽니다. (최대 " + MAX_NODES + "개 항)");
+            }
+            if (constant) return constant(expr.eval(0L, RuleScriptEnv.EMPTY), bool);
+            return new Node(expr, bool, false, history, 0L);
+      }
+
+      private static Node constant(long value, boolean bool) {
+            return new Node((t, e) -> value, bool, true, false, value);
+      }
+
+      private Node bool(Node node, Token at) {
+            if (!node.bool()) throw error(at, "'" + at.text() + "'에는 조건식이 와야 합니다.");
+            return node;
+      }
+
+      private Node number(Node node, Token at) {
+            if (node.bool()) throw error(at, "'" + at.text() + "'에는 숫자식이 와야 합니다.");
+            return node;
+      }
+
+      // ===== 포화 산술 (티켓마다 평가하므로 예외 없이 비트 연산으로 넘침 검사) =====
+
+      private static long add(long a, long b) {
+            long r = a + b;
+            if (((a ^ r) & (b ^ r)) < 0) return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            return r;
+      }
+
+      private static long subtract(long a, long b) {
+            long r = a - b;
+            if (((a ^ b) & (a ^ r)) < 0) return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            return r;
+      }
+
+      private static long multiply(long a, long b) {
+            long r = a * b;
+            long high = Math.multiplyHigh(a, b);
+            if (high == (r >> 63)) return r;
+            return (a ^ b) < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+      }
+
+      private static long negate(long a) {
+            return a == Long.MIN_VALUE ? Long.MAX_VALUE : -a;
+      }
+
+      private static long decadeMask(long decade) {
+            if (decade < 0 || decade > LottoTicket.MAX_NUMBER / 10) return 0L;
+            return LottoTicket.range((int) decade * 10, (int) decade * 10 + 9);
+      }
+
+      private static long rangeMask(long from, long to) {
+            long lo = Math.max(from, LottoTicket.MIN_NUMBER);
+            long hi = Math.min(to, LottoTicket.MAX_NUMBER);
+            return lo > hi ? 0L : LottoTicket.range((int) lo, (int) hi);
+      }
+
+      private static int maxGap(long ticket) {
+            int gap = 0;
+            int prev = Long.numberOfTrailingZeros(ticket);
+            for (long m = ticket & (ticket - 1); m != 0; m &= m - 1) {
+                  int number = Long.numberOfTrailingZeros(m);
+                  gap = Math.max(gap, number - prev);
+                  prev = number;
+            }
+            return gap;
+      }
+
+      private static int minGap(long ticket) {
+            int gap = LottoTicket.MAX_NUMBER;
+            int prev = Long.numberOfTrailingZeros(ticket);
+            for (long m = ticket & (ticket - 1); m != 0; m &= m - 1) {
+                  int number = Long.numberOfTrailingZeros(m);
+                  gap = Math.min(gap, number - prev);
+                  prev = number;
+            }
+            return gap;
+      }
+
+      // ===== 토큰 =====
+
+      private List<Token> tokenize() {
+            List<Token> result = new ArrayList<>();
+            int i = 0;
+            int length = source.length();
+            while (i < length) {
+                  char c = source.charAt(i);
+                  if (c == '#') {
+                        while (i < length && source.charAt(i) != '\n') i++;
+                  } else if (c == '\n' || c == ';') {
+                        result.add(new Token(Kind.END_OF_STATEMENT, c == ';' ? ";" : "줄바꿈", 0L, i++));
+                  } else if (Character.isWhitespace(c)) {
+                        i++;
+                  } else if (c >= '0' && c <= '9') {
+                        int start = i;
+                        long value = 0L;
+                        while (i < length && source.charAt(i) >= '0' && source.charAt(i) <= '9') {
+                              value = value * 10 + (source.charAt(i++) - '0');
+                              if (value > MAX_LITERAL) throw RuleScriptException.at(source, start, "숫자가 너무 큽니다.");
+                        }
+                        result.add(new Token(Kind.NUMBER, source.substring(start, i), value, start));
+                  } else if (isNameStart(c)) {
+                        int start = i;
+                        while (i < length && (isNameStart(source.charAt(i)) || Character.isDigit(source.charAt(i)))) i++;
+                        result.add(new Token(Kind.NAME, source.substring(start, i), 0L, start));
+                  } else {
+                        String pair = i + 1 < length ? source.substring(i, i + 2) : "";
+                        if (TWO_CHAR_SYMBOLS.contains(pair)) {
+                              result.add(new Token(Kind.SYMBOL, pair, 0L, i));
+                              i += 2;
+                        } else if ("+-*/%(),<>!".indexOf(c) >= 0) {
+                              result.add(new Token(Kind.SYMBOL, String.valueOf(c), 0L, i++));
+                        } else {
+                              throw RuleScriptException.at(source, i, "알 수 없는 문자 '" + c + "'");
+                        }
+                  }
+            }
+            result.add(new Token(Kind.EOF, "끝", 0L, length));
+            return result;
+      }
+
+      private static boolean isNameStart(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+      }
+
+      private Token peek() {
+            return tokens.get(index);
+      }
+
+      private Token previous() {
+            return tokens.get(index - 1);
+      }
+
+      private Token advance() {
+            Token token = tokens.get(index);
+            if (token.kind() != Kind.EOF) index++;
+            return token;
+      }
+
+      private static boolean isName(Token token, String name) {
+            return token.kind() == Kind.NAME && token.text().equals(name);
+      }
+
+      private boolean matchName(String name) {
+            if (!isName(peek(), name)) return false;
+            index++;
+            return true;
+      }
+
+      private boolean matchSymbol(String symbol) {
+            Token token = peek();
+            if (token.kind() != Kind.SYMBOL || !token.text().equals(symbol)) return false;
+            index++;
+            return true;
+      }
+
+      private void expectSymbol(String symbol) {
+            if (!matchSymbol(symbol)) throw error(peek(), "'" + symbol + "'가 와야 합니다.");
+      }
+
+      private RuleScriptException error(Token token, String message) {
+            return RuleScriptException.at(source, token.position(), message);
+      }
+}
@@ -0,0 +1,118 @@
+package com.wootae.backend.domain.lotto.strategy.script;
+
+import com.wootae.backend.domain.lotto.strategy.AbstractLottoStrategy;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongPredicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * 사용자 규칙 스크립트({@link RuleScript})로 생성하는 전략 (빈이 아니라 규칙마다 생성)
+ *
+ * require 조건은 무작위 조합을 거르는 방식으로 적용하되, 이력과 무관한 조건의 통과율이 낮으면
+ * 생성 시점에 전체 조합을 한 번 열거해 통과 조합 표에서 바로 뽑는다.
+ * weight가 있으면 조건을 통과한 후보 candidates개 중 가중치에 비례해 하나를 고른다.
+ */
+public class ScriptedLottoStrategy extends AbstractLottoStrategy {
+
+      public static final int DEFAULT_CANDIDATES = 16;
+      public static final int MAX_CANDIDATES = 1_000;
+
+      // 후보 하나의 가중치 상한 - 후보 전체를 더해도 long을 넘지 않도록
+      static final long MAX_WEIGHT = Long.MAX_VALUE / MAX_CANDIDATES;
+
+      // 이력 기반 조건을 재시도로 만족시키는 최대 횟수
+      static final int MAX_ATTEMPTS = 100_000;
+
+      // 통과율 추정 표본 수와, 이 비율(1/256)보다 낮으면 통과 조합 표를 만든다
+      private static final int PROBE_SAMPLES = 4_096;
+      private static final int PROBE_MIN_ACCEPTED = PROBE_SAMPLES / 256;
+      private static final int MAX_TABLE_SIZE = 1 << 20;
+
+      private final String type;
+      private final String name;
+      private final RuleScript script;
+      private final int candidates;
+      private final long[] table;
+
+      /**
+       * @throws RuleScriptException 이력과 무관한 조건을 만족하는 조합이 하나도 없을 때
+       */
+      public ScriptedLottoStrategy(String type, String name, RuleScript script, int candidates) {
+            this.type = type;
+            this.name = name;
+            this.script = script;
+            this.candidates = Math.max(1, Math.min(candidates, MAX_CANDIDATES));
+            this.table = script.usesHistory() ? null : buildTable(script);
+      }
+
+      public String getType() { return type; }
+      public String getName() { return name; }
+      public String getDescription() { return "사용자 정의 규칙 스크립트"; }
+      public String getCategory() { return "CUSTOM"; }
+
+      /**
+       * 이력과 무관하고 가중치가 없으면 "조건을 만족하는 조합 중 균등 추출"이므로 정확 확률 모드 대상
+       */
+      @Override
+      public LongPredicate uniformSupport() {
+            if (script.usesHistory() || script.hasWeight()) return null;
+            return ticket -> script.accepts(ticket, RuleScriptEnv.EMPTY);
+      }
+
+      @Override
+      public long generateMask(LottoStrategyContext context) {
+            RandomGenerator random = random(context);
+            RuleScriptEnv env = script.usesHistory() ? RuleScriptEnv.of(context) : RuleScriptEnv.EMPTY;
+            if (!script.hasWeight()) return sample(random, env);
+
+            // 가중치 비례 추출 (한 번 훑으며 선택 교체)
+            long chosen = 0L;
+            long totalWeight = 0L;
+            for (int i = 0; i < candidates; i++) {
+                  long ticket = sample(random, env);
+                  long weight = Math.min(script.weight(ticket, env), MAX_WEIGHT);
+                  totalWeight += weight;
+                  if (chosen == 0L || (weight > 0 && random.nextLong(totalWeight) < weight)) chosen = ticket;
+            }
+            return chosen;
+      }
+
+      private long sample(RandomGenerator random, RuleScriptEnv env) {
+            if (table != null) return table[random.nextInt(table.length)];
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                  long ticket = generateRandom(random);
+                  if (script.accepts(ticket, env)) return ticket;
+            }
+            throw new RuleScriptException("조건을 만족하는 조합을 찾지 못했습니다. (" + MAX_ATTEMPTS + "회 시도)");
+      }
+
+      /**
+       * 통과율이 충분하면 null (재시도로 뽑음), 낮으면 통과 조합 전체
+       */
+      private long[] buildTable(RuleScript script) {
+            SplittableRandom probe = new SplittableRandom(type.hashCode());
+            int accepted = 0;
+            for (int i = 0; i < PROBE_SAMPLES && accepted < PROBE_MIN_ACCEPTED; i++) {
+                  if (script.accepts(generateRandom(probe), RuleScriptEnv.EMPTY)) accepted++;
+            }
+            if (accepted >= PROBE_MIN_ACCEPTED) return null;
+
+            long[][] tickets = {new long[1_024]};
+            int[] size = new int[1];
+            boolean complete = LottoTicket.forEachCombination(ticket -> {
+                  if (!script.accepts(ticket, RuleScriptEnv.EMPTY)) return true;
+                  // 표가 너무 커지면 재시도 방식으로 충분
+                  if (size[0] == MAX_TABLE_SIZE) return false;
+                  if (size[0] == tickets[0].length) tickets[0] = Arrays.copyOf(tickets[0], size[0] * 2);
+                  tickets[0][size[0]++] = ticket;
+                  return true;
+            });
+            if (!complete) return null;
+            if (size[0] == 0) throw new RuleScriptException("조건을 만족하는 조합이 없습니다.");
+            return Arrays.copyOf(tickets[0], size[0]);
+      }
+}
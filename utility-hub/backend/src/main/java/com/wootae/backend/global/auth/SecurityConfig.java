@@ -1,6 +1,7 @@
 package com.wootae.backend.global.auth;
 
 import com.wootae.backend.domain.user.service.CustomOAuth2UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -61,6 +62,8 @@ public class SecurityConfig {
                                     .requestMatchers("/api/tarot/**", "/api/text-to-md/**").permitAll()
                                     // Swagger
                                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                                    // SSE 등 비동기 디스패치 (최초 요청에서 이미 인증됨)
+                                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                     // Others: Authenticated
                                     .anyRequest().authenticated())
 
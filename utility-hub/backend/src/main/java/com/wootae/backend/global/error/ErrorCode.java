@@ -51,6 +51,10 @@ public enum ErrorCode {
       LOTTO_RULE_NOT_FOUND(HttpStatus.NOT_FOUND, "LOTTO_001", "로또 규칙을 찾을 수 없습니다."),
       LOTTO_GENERATE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "LOTTO_002", "번호 생성 한도를 초과했습니다."),
       LOTTO_INVALID_PERIOD(HttpStatus.BAD_REQUEST, "LOTTO_003", "유효하지 않은 기간입니다."),
+      SIMULATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "LOTTO_004", "시뮬레이션 작업을 찾을 수 없습니다."),
+      SIMULATION_JOB_INVALID_STATE(HttpStatus.BAD_REQUEST, "LOTTO_005", "현재 상태에서는 요청한 작업을 수행할 수 없습니다."),
+      LOTTO_DRAW_IMPORT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "LOTTO_006", "추첨 데이터를 가져오지 못했습니다."),
+      LOTTO_RULE_SCRIPT_INVALID(HttpStatus.BAD_REQUEST, "LOTTO_007", "규칙 스크립트가 올바르지 않습니다."),
 
       // OAuth2
       OAUTH2_FAILED(HttpStatus.BAD_REQUEST, "OAUTH2_001", "소셜 로그인 중 오류가 발생했습니다."),
@@ -0,0 +1,98 @@
+package com.wootae.backend.domain.lotto.feed;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LottoDrawXlsxReaderTest {
+
+      @TempDir
+      Path tempDir;
+
+      private List<LottoDraw> readAll(Path file) throws IOException {
+            List<LottoDraw> draws = new ArrayList<>();
+            try (LottoDrawXlsxReader reader = LottoDrawXlsxReader.open(file)) {
+                  LottoDraw draw;
+                  while ((draw = reader.next()) != null) draws.add(draw);
+            }
+            return draws;
+      }
+
+      @Test
+      @DisplayName("헤더 열 기준으로 행 변환 - 공유 문자열 금액·인원, 추첨일 계산")
+      void read() throws IOException {
+            Path file = XlsxFixtures.write(tempDir.resolve("draws.xlsx"), List.of(
+                        XlsxFixtures.HEADER,
+                        XlsxFixtures.firstRankRow(1209, new int[]{2, 17, 20, 35, 37, 39}, 24, 22, 1_371_910_466L),
+                        XlsxFixtures.firstRankRow(1, new int[]{10, 23, 29, 33, 37, 40}, 16, 0, 0L)));
+
+            List<LottoDraw> draws = readAll(file);
+
+            assertThat(draws).extracting(LottoDraw::getDrwNo).containsExactly(1209, 1);
+            LottoDraw latest = draws.get(0);
+            assertThat(List.of(latest.getDrwtNo1(), latest.getDrwtNo2(), latest.getDrwtNo3(),
+                        latest.getDrwtNo4(), latest.getDrwtNo5(), latest.getDrwtNo6()))
+                        .containsExactly(2, 17, 20, 35, 37, 39);
+            assertThat(latest.getBnusNo()).isEqualTo(24);
+            assertThat(latest.getFirstWinamnt()).isEqualTo(1_371_910_466L);
+            assertThat(latest.getFirstPrzwnerCo()).isEqualTo(22L);
+            assertThat(latest.getDrwNoDate()).isEqualTo(LocalDate.of(2026, 1, 31));
+            assertThat(draws.get(1).getDrwNoDate()).isEqualTo(LottoDrawXlsxReader.FIRST_DRAW_DATE);
+      }
+
+      @Test
+      @DisplayName("1등이 아닌 순위 행은 건너뜀")
+      void skipOtherRanks() throws IOException {
+            List<Object> second = new ArrayList<>(
+                        XlsxFixtures.firstRankRow(1209, new int[]{2, 17, 20, 35, 37, 39}, 24, 90, 50_000_000L));
+            second.set(9, "2등");
+            Path file = XlsxFixtures.write(tempDir.resolve("draws.xlsx"), List.of(
+                        XlsxFixtures.HEADER,
+                        XlsxFixtures.firstRankRow(1209, new int[]{2, 17, 20, 35, 37, 39}, 24, 22, 1_371_910_466L),
+                        second));
+
+            assertThat(readAll(file)).hasSize(1);
+      }
+
+      @Test
+      @DisplayName("헤더가 없으면 예외")
+      void missingHeader() throws IOException {
+            Path file = XlsxFixtures.write(tempDir.resolve("draws.xlsx"), List.of(List.of("제목", "없음")));
+
+            assertThatThrownBy(() -> readAll(file)).isInstanceOf(IOException.class);
+      }
+
+      @Test
+      @DisplayName("디렉터리의 최신 파일 - 파일명 순 마지막 xlsx")
+      void latestIn() throws IOException {
+            Files.createFile(tempDir.resolve("로또 회차별 당첨번호_20260101000000.xlsx"));
+            Files.createFile(tempDir.resolve("로또 회차별 당첨번호_20260203163722.xlsx"));
+            Files.createFile(tempDir.resolve("notes.txt"));
+
+            assertThat(LottoDrawXlsxReader.latestIn(tempDir)).get()
+                        .extracting(path -> path.getFileName().toString())
+                        .isEqualTo("로또 회차별 당첨번호_20260203163722.xlsx");
+            assertThat(LottoDrawXlsxReader.latestIn(tempDir.resolve("missing"))).isEmpty();
+      }
+
+      @Test
+      @DisplayName("숫자 파싱 - 구분 기호·단위 무시")
+      void parseNumber() {
+            assertThat(LottoDrawXlsxReader.parseNumber("1,371,910,466 원")).isEqualTo(1_371_910_466L);
+            assertThat(LottoDrawXlsxReader.parseNumber("22 명")).isEqualTo(22L);
+            assertThat(LottoDrawXlsxReader.parseNumber("7.0")).isEqualTo(7L);
+            assertThatThrownBy(() -> LottoDrawXlsxReader.parseNumber("없음"))
+                        .isInstanceOf(NumberFormatException.class);
+      }
+}
@@ -0,0 +1,87 @@
+package com.wootae.backend.domain.lotto.feed;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 테스트용 "회차별 당첨번호" XLSX 생성 (문자열은 공유 문자열 표, 숫자는 숫자 셀)
+ */
+public final class XlsxFixtures {
+
+      private static final String NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+      private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+      public static final List<Object> HEADER = List.of("No", "회차", "당첨번호", "", "", "", "", "",
+                  "보너스", "순위", "당첨게임수", "1게임당 당첨금액");
+
+      private XlsxFixtures() {
+      }
+
+      /**
+       * 1등 행 (No, 회차, 번호 6개, 보너스, 순위, 당첨자 수, 당첨금)
+       */
+      public static List<Object> firstRankRow(int drawNo, int[] numbers, int bonus, long winners, long prize) {
+            List<Object> row = new ArrayList<>();
+            row.add(1);
+            row.add(drawNo);
+            for (int number : numbers) row.add(number);
+            row.add(bonus);
+            row.add("1등");
+            row.add(winners + " 명");
+            row.add(String.format("%,d 원", prize));
+            return row;
+      }
+
+      public static Path write(Path file, List<List<Object>> rows) throws IOException {
+            Map<String, Integer> strings = new LinkedHashMap<>();
+            StringBuilder sheet = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                        + "<x:worksheet xmlns:x=\"" + NS + "\"><x:sheetData>");
+            for (int r = 0; r < rows.size(); r++) {
+                  sheet.append("<x:row r=\"").append(r + 1).append("\">");
+                  List<Object> row = rows.get(r);
+                  for (int c = 0; c < row.size(); c++) {
+                        Object value = row.get(c);
+                        String ref = (char) ('A' + c) + String.valueOf(r + 1);
+                        if (value instanceof Number) {
+                              sheet.append("<x:c r=\"").append(ref).append("\"><x:v>").append(value).append("</x:v></x:c>");
+                        } else {
+                              int index = strings.computeIfAbsent(value.toString(), s -> strings.size());
+                              sheet.append("<x:c r=\"").append(ref).append("\" t=\"s\"><x:v>").append(index).append("</x:v></x:c>");
+                        }
+                  }
+                  sheet.append("</x:row>");
+            }
+            sheet.append("</x:sheetData></x:worksheet>");
+
+            StringBuilder sst = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><x:sst xmlns:x=\"" + NS + "\">");
+            strings.keySet().forEach(s -> sst.append("<x:si><x:t>").append(s).append("</x:t></x:si>"));
+            sst.append("</x:sst>");
+
+            try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+                  put(zip, "xl/workbook.xml", "<?xml version=\"1.0\" encoding=\"UTF-8\"?><x:workbook xmlns:r=\"" + REL_NS
+                              + "\" xmlns:x=\"" + NS + "\"><x:sheets><x:sheet name=\"당첨번호\" sheetId=\"1\" r:id=\"rId4\"/>"
+                              + "</x:sheets></x:workbook>");
+                  put(zip, "xl/_rels/workbook.xml.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                              + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                              + "<Relationship Id=\"rId4\" Type=\"worksheet\" Target=\"worksheets/data.xml\"/></Relationships>");
+                  put(zip, "xl/sharedStrings.xml", sst.toString());
+                  put(zip, "xl/worksheets/data.xml", sheet.toString());
+            }
+            return file;
+      }
+
+      private static void put(ZipOutputStream zip, String name, String content) throws IOException {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+      }
+}
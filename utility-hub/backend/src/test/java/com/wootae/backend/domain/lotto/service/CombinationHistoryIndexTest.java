@@ -0,0 +1,83 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.repository.LottoDrawRepository;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CombinationHistoryIndexTest {
+
+      @Mock
+      private LottoDrawRepository lottoDrawRepository;
+
+      @TempDir
+      Path tempDir;
+
+      private final LottoDraw draw1 = new LottoDraw(1, LocalDate.of(2025, 1, 4),
+                  3, 11, 19, 27, 35, 42, 7, 2_000_000_000L, 10L);
+      private final LottoDraw draw2 = new LottoDraw(2, LocalDate.of(2025, 1, 11),
+                  3, 11, 19, 27, 35, 7, 42, 2_000_000_000L, 10L);
+
+      private CombinationHistoryIndex index() {
+            return new CombinationHistoryIndex(new LottoDrawStore(lottoDrawRepository),
+                        tempDir.resolve("index.bin").toString());
+      }
+
+      @Test
+      @DisplayName("전체 구축 - 티켓별 등수 횟수와 최고 등수 회차")
+      void build() {
+            when(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).thenReturn(List.of(draw1, draw2));
+            CombinationHistoryIndex index = index();
+
+            assertThat(index.refresh()).isEqualTo(2);
+
+            // 1회 1등, 2회 2등(5개 + 보너스 42)
+            CombinationHistoryIndex.TicketHistory first = index.history(LottoTicket.of(3, 11, 19, 27, 35, 42));
+            assertThat(first.rankCounts()).containsExactly(0, 1, 1, 0, 0, 0);
+            assertThat(first.bestRank()).isEqualTo(1);
+            assertThat(first.bestDrawNo()).isEqualTo(1);
+            assertThat(first.drawCount()).isEqualTo(2);
+
+            // 1회 2등(보너스 7), 2회 1등
+            CombinationHistoryIndex.TicketHistory second = index.history(LottoTicket.of(3, 7, 11, 19, 27, 35));
+            assertThat(second.rankCounts()).containsExactly(0, 1, 1, 0, 0, 0);
+            assertThat(second.bestDrawNo()).isEqualTo(2);
+
+            // 두 회차 모두 3개 일치
+            CombinationHistoryIndex.TicketHistory fifth = index.history(LottoTicket.of(3, 11, 19, 1, 2, 4));
+            assertThat(fifth.rankCounts()).containsExactly(0, 0, 0, 0, 0, 2);
+            assertThat(fifth.bestRank()).isEqualTo(5);
+            assertThat(fifth.bestDrawNo()).isEqualTo(2);
+
+            assertThat(index.history(LottoTicket.of(1, 2, 4, 5, 6, 8)).bestRank()).isZero();
+      }
+
+      @Test
+      @DisplayName("증분 갱신 - 파일을 다시 열어도 새 회차만 반영")
+      void extend() {
+            when(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).thenReturn(List.of(draw1));
+            assertThat(index().refresh()).isEqualTo(1);
+
+            when(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).thenReturn(List.of(draw1, draw2));
+            CombinationHistoryIndex reopened = index();
+
+            assertThat(reopened.refresh()).isEqualTo(1);
+            assertThat(reopened.refresh()).isZero();
+            assertThat(reopened.history(LottoTicket.of(3, 11, 19, 27, 35, 42)).rankCounts())
+                        .containsExactly(0, 1, 1, 0, 0, 0);
+            assertThat(reopened.history(LottoTicket.of(3, 11, 19, 27, 35, 42)).drawCount()).isEqualTo(2);
+      }
+}
@@ -0,0 +1,67 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import com.wootae.backend.domain.lotto.strategy.impl.AttackStrategy;
+import com.wootae.backend.domain.lotto.strategy.impl.BalanceStrategy;
+import com.wootae.backend.domain.lotto.strategy.impl.LowHighStrategy;
+import com.wootae.backend.domain.lotto.strategy.impl.NoConsecutiveStrategy;
+import com.wootae.backend.domain.lotto.strategy.impl.RandomStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExactRankCalculatorTest {
+
+      private final ExactRankCalculator calculator = new ExactRankCalculator();
+
+      private final LottoMatchService.WinningMask winning = new LottoMatchService.WinningMask(
+                  1, LottoTicket.of(3, 11, 19, 27, 35, 42), LottoTicket.bit(7), 2_000_000_000L);
+
+      @Test
+      @DisplayName("RANDOM - 초기하 분포와 일치 (전체 8,145,060 조합)")
+      void random() {
+            long[] counts = calculator.countRanks(new RandomStrategy(), winning);
+
+            assertThat(calculator.supportSize(new RandomStrategy())).isEqualTo(8_145_060L);
+            assertThat(counts).containsExactly(8_145_060L - 194_130L, 1, 6, 228, 11_115, 182_780);
+      }
+
+      @Test
+      @DisplayName("조건부 균등 전략 - 조건을 만족하는 조합 수")
+      void supportSizes() {
+            assertThat(calculator.supportSize(new NoConsecutiveStrategy())).isEqualTo(3_838_380L); // C(40,6)
+            assertThat(calculator.supportSize(new LowHighStrategy())).isEqualTo(1_540L * 1_771L);  // C(22,3)·C(23,3)
+            assertThat(calculator.supportSize(new BalanceStrategy())).isEqualTo(1_771L * 1_540L);  // C(23,3)·C(22,3)
+      }
+
+      @Test
+      @DisplayName("당첨 번호가 모두 홀수면 BALANCE는 4등 이상 불가")
+      void balanceAllOddWinning() {
+            long[] counts = calculator.countRanks(new BalanceStrategy(), winning);
+
+            assertThat(counts[1]).isZero();
+            assertThat(counts[2]).isZero();
+            assertThat(counts[3]).isZero();
+            assertThat(counts[4]).isPositive();
+      }
+
+      @Test
+      @DisplayName("이력 무관 균등 추출이 아닌 전략은 지원하지 않음")
+      void supports() {
+            assertThat(calculator.supports(new RandomStrategy())).isTrue();
+            assertThat(calculator.supports(new AttackStrategy())).isFalse();
+      }
+
+      @Test
+      @DisplayName("기댓값 반올림 - 합계를 티켓 수로 유지")
+      void roundPreservingTotal() {
+            double[] expected = calculator.expectedCounts(new RandomStrategy(), winning, 100_000);
+            int[] rounded = SimulationService.roundPreservingTotal(expected, 100_000);
+
+            int sum = 0;
+            for (int count : rounded) sum += count;
+            assertThat(sum).isEqualTo(100_000);
+            assertThat(rounded[5]).isEqualTo((int) Math.round(expected[5]));
+      }
+}
@@ -0,0 +1,137 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.feed.LottoDrawFeed;
+import com.wootae.backend.domain.lotto.feed.XlsxFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LottoDrawIngestServiceTest {
+
+      @Mock
+      private JdbcTemplate jdbcTemplate;
+
+      @Mock
+      private PlatformTransactionManager transactionManager;
+
+      @Mock
+      private LottoDrawStore lottoDrawStore;
+
+      @Mock
+      private LottoDrawFeed lottoDrawFeed;
+
+      @TempDir
+      Path tempDir;
+
+      private LottoDrawIngestService service;
+
+      @BeforeEach
+      void setUp() {
+            service = new LottoDrawIngestService(jdbcTemplate, transactionManager, lottoDrawStore, lottoDrawFeed,
+                        tempDir.toString(), false, 2);
+      }
+
+      private LottoDraw draw(int drawNo, int n1, int n2, int n3, int n4, int n5, int n6, int bonus) {
+            return new LottoDraw(drawNo, LocalDate.of(2026, 1, 31), n1, n2, n3, n4, n5, n6, bonus,
+                        1_000_000_000L, 10L);
+      }
+
+      @Test
+      @DisplayName("XLSX 일괄 적재 - 배치마다 기존 회차는 UPDATE, 나머지는 INSERT, 검증 실패 행은 건너뜀")
+      @SuppressWarnings("unchecked")
+      void importFile() throws IOException {
+            Path file = XlsxFixtures.write(tempDir.resolve("draws.xlsx"), List.of(
+                        XlsxFixtures.HEADER,
+                        XlsxFixtures.firstRankRow(3, new int[]{1, 2, 3, 4, 5, 6}, 7, 1, 1_000L),
+                        XlsxFixtures.firstRankRow(2, new int[]{1, 2, 3, 4, 5, 5}, 7, 1, 1_000L),
+                        XlsxFixtures.firstRankRow(1, new int[]{8, 9, 10, 11, 12, 13}, 14, 1, 1_000L),
+                        XlsxFixtures.firstRankRow(4, new int[]{20, 21, 22, 23, 24, 25}, 26, 1, 1_000L)));
+            // 첫 배치(3, 1회) 중 1회만 이미 존재
+            given(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1), eq(3))).willReturn(List.of(1));
+            given(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(4), eq(4))).willReturn(List.of());
+            List<Integer> updated = new ArrayList<>();
+            List<Integer> inserted = new ArrayList<>();
+            given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                        .willAnswer(invocation -> {
+                              List<Integer> target = invocation.<String>getArgument(0).startsWith("UPDATE") ? updated : inserted;
+                              invocation.<Collection<LottoDraw>>getArgument(1).forEach(d -> target.add(d.getDrwNo()));
+                              return new int[0][];
+                        });
+
+            LottoDrawIngestService.ImportResult result = service.importFile(file);
+
+            assertThat(result).isEqualTo(new LottoDrawIngestService.ImportResult(4, 2, 1, 1));
+            assertThat(updated).containsExactly(1);
+            assertThat(inserted).containsExactly(3, 4);
+            verify(lottoDrawStore).reload();
+      }
+
+      @Test
+      @DisplayName("다음 회차 적재 - 공급원 결과를 검증 후 INSERT하고 저장소 갱신")
+      @SuppressWarnings("unchecked")
+      void ingestNextDraw() {
+            LottoDraw next = draw(1210, 3, 9, 14, 28, 33, 41, 5);
+            given(lottoDrawStore.latest()).willReturn(Optional.of(draw(1209, 2, 17, 20, 35, 37, 39, 24)));
+            given(lottoDrawFeed.fetch(1210)).willReturn(Optional.of(next));
+            given(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1210), eq(1210))).willReturn(List.of());
+
+            assertThat(service.ingestNextDraw()).contains(next);
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(jdbcTemplate).batchUpdate(sql.capture(), eq(List.of(next)), anyInt(),
+                        any(ParameterizedPreparedStatementSetter.class));
+            assertThat(sql.getValue()).startsWith("INSERT INTO lotto_draws");
+            verify(lottoDrawStore, times(2)).refresh();
+      }
+
+      @Test
+      @DisplayName("다음 회차 적재 - 공급원에 없거나 검증 실패면 저장하지 않음")
+      void ingestNextDrawRejected() {
+            given(lottoDrawStore.latest()).willReturn(Optional.of(draw(1209, 2, 17, 20, 35, 37, 39, 24)));
+            given(lottoDrawFeed.fetch(1210))
+                        .willReturn(Optional.empty())
+                        .willReturn(Optional.of(draw(1210, 3, 9, 14, 28, 33, 41, 41)))
+                        .willReturn(Optional.of(draw(1211, 3, 9, 14, 28, 33, 41, 5)));
+
+            assertThat(service.ingestNextDraw()).isEmpty();
+            assertThat(service.ingestNextDraw()).isEmpty();
+            assertThat(service.ingestNextDraw()).isEmpty();
+
+            verifyNoInteractions(jdbcTemplate);
+      }
+
+      @Test
+      @DisplayName("추첨 결과 검증 - 범위, 중복, 보너스 중복")
+      void validate() {
+            assertThat(LottoDrawIngestService.validate(draw(1, 1, 2, 3, 4, 5, 45, 6))).isNull();
+            assertThat(LottoDrawIngestService.validate(draw(0, 1, 2, 3, 4, 5, 6, 7))).isNotNull();
+            assertThat(LottoDrawIngestService.validate(draw(1, 0, 2, 3, 4, 5, 6, 7))).isNotNull();
+            assertThat(LottoDrawIngestService.validate(draw(1, 1, 2, 3, 4, 5, 65, 7))).isNotNull();
+            assertThat(LottoDrawIngestService.validate(draw(1, 1, 2, 3, 4, 5, 5, 7))).isNotNull();
+            assertThat(LottoDrawIngestService.validate(draw(1, 1, 2, 3, 4, 5, 6, 6))).isNotNull();
+            assertThat(LottoDrawIngestService.validate(draw(1, 1, 2, 3, 4, 5, 6, 46))).isNotNull();
+      }
+}
@@ -0,0 +1,114 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.repository.LottoDrawRepository;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LottoDrawStoreTest {
+
+      @Mock
+      private LottoDrawRepository lottoDrawRepository;
+
+      // from ~ to 회차, 오름차순
+      private List<LottoDraw> draws(int from, int to) {
+            List<LottoDraw> draws = new ArrayList<>();
+            for (int no = from; no <= to; no++) {
+                  int base = no % 39;
+                  draws.add(new LottoDraw(no, LocalDate.of(2025, 1, 4).plusWeeks(no),
+                              base + 1, base + 2, base + 3, base + 4, base + 5, base + 6, base + 7,
+                              no % 2 == 0 ? 1_500_000_000L : null, 10L));
+            }
+            return draws;
+      }
+
+      @Test
+      @DisplayName("최초 접근 시 전체 적재 - 최신순 목록, 최신 회차, 회차 조회")
+      void loadOnFirstAccess() {
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).willReturn(draws(1, 100));
+            LottoDrawStore store = new LottoDrawStore(lottoDrawRepository);
+
+            assertThat(store.size()).isEqualTo(100);
+            assertThat(store.latest()).get().extracting(LottoDraw::getDrwNo).isEqualTo(100);
+            assertThat(store.draws().get(0).getDrwNo()).isEqualTo(100);
+            assertThat(store.draws().get(99).getDrwNo()).isEqualTo(1);
+            assertThat(store.find(42)).get().extracting(LottoDraw::getBnusNo).isEqualTo(42 % 39 + 7);
+            assertThat(store.find(101)).isEmpty();
+            verify(lottoDrawRepository, times(1)).findByDrwNoGreaterThanOrderByDrwNoAsc(0);
+      }
+
+      @Test
+      @DisplayName("증분 갱신 - 마지막 회차 이후만 조회해 이어 붙이고, 이전 스냅샷 목록은 그대로")
+      void refreshAppends() {
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).willReturn(draws(1, 100));
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(100)).willReturn(draws(101, 102));
+            LottoDrawStore store = new LottoDrawStore(lottoDrawRepository);
+            store.load();
+            List<LottoDraw> before = store.draws();
+
+            assertThat(store.refresh()).isEqualTo(2);
+
+            assertThat(store.size()).isEqualTo(102);
+            assertThat(store.latest()).get().extracting(LottoDraw::getDrwNo).isEqualTo(102);
+            assertThat(before).hasSize(100);
+            assertThat(before.get(0).getDrwNo()).isEqualTo(100);
+      }
+
+      @Test
+      @DisplayName("구간 조회 - 양끝 포함 최신순, 범위 밖은 잘라냄")
+      void range() {
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).willReturn(draws(1, 30));
+            LottoDrawStore store = new LottoDrawStore(lottoDrawRepository);
+
+            assertThat(store.range(10, 12)).extracting(LottoDraw::getDrwNo).containsExactly(12, 11, 10);
+            assertThat(store.range(28, 40)).extracting(LottoDraw::getDrwNo).containsExactly(30, 29, 28);
+            assertThat(store.range(40, 50)).isEmpty();
+      }
+
+      @Test
+      @DisplayName("컨텍스트 - 다음 추첨용은 전체 이력, 대상 회차용은 직전까지")
+      void contexts() {
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).willReturn(draws(1, 30));
+            LottoDrawStore store = new LottoDrawStore(lottoDrawRepository);
+
+            LottoStrategyContext next = store.context();
+            assertThat(next.getAllDraws()).hasSize(30);
+            assertThat(next.getLatestDraw().getDrwNo()).isEqualTo(30);
+            assertThat(store.context()).isSameAs(next);
+
+            LottoStrategyContext before26 = store.contextFor(26);
+            assertThat(before26.getLatestDraw().getDrwNo()).isEqualTo(25);
+            assertThat(before26.getRecentDraws()).hasSize(20);
+      }
+
+      @Test
+      @DisplayName("당첨 마스크 - 컬럼 값으로 생성, 1등 당첨금이 없으면 기본값")
+      void winningMasks() {
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(0)).willReturn(draws(1, 5));
+            LottoDrawStore store = new LottoDrawStore(lottoDrawRepository);
+
+            LottoMatchService.WinningMask mask = store.winningMask(3).orElseThrow();
+            assertThat(mask).isEqualTo(LottoMatchService.WinningMask.of(store.find(3).orElseThrow()));
+            assertThat(mask.numbers()).isEqualTo(LottoTicket.of(4, 5, 6, 7, 8, 9));
+            assertThat(mask.firstPrize()).isEqualTo(LottoMatchService.DEFAULT_FIRST_PRIZE);
+            assertThat(store.winningMask(4).orElseThrow().firstPrize()).isEqualTo(1_500_000_000L);
+
+            assertThat(store.winningMasksAfter(2)).extracting(LottoMatchService.WinningMask::drawNo)
+                        .containsExactly(3, 4, 5);
+      }
+}
@@ -1,14 +1,18 @@
 package com.wootae.backend.domain.lotto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootae.backend.domain.lotto.dto.LottoGenerateResponse;
+import com.wootae.backend.domain.lotto.dto.LottoPortfolioResponse;
 import com.wootae.backend.domain.lotto.entity.LottoDraw;
 import com.wootae.backend.domain.lotto.entity.LottoRule;
 import com.wootae.backend.domain.lotto.repository.LottoDrawRepository;
 import com.wootae.backend.domain.lotto.repository.LottoRuleRepository;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
 import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import com.wootae.backend.domain.lotto.strategy.impl.*;
 import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +22,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,7 +62,8 @@ class LottoGenerateServiceTest {
                         new ExcludeLastStrategy()
             );
             lottoGenerateService = new LottoGenerateService(
-                        lottoRuleRepository, lottoDrawRepository, strategies);
+                        lottoRuleRepository, new LottoDrawStore(lottoDrawRepository), strategies,
+                        new LottoRuleStrategyCache(new ObjectMapper()), 1_000, 100, 200);
       }
 
       // ====== 공통 검증 헬퍼 ======
@@ -79,12 +88,10 @@ class LottoGenerateServiceTest {
 
       private void setupDrawMocks() {
             List<LottoDraw> draws = List.of(
-                        createDraw(1, 1, 5, 10, 20, 30, 40, 7),
-                        createDraw(2, 2, 8, 15, 25, 35, 43, 12)
+                        createDraw(1, 2, 8, 15, 25, 35, 43, 12),
+                        createDraw(2, 1, 5, 10, 20, 30, 40, 7)
             );
-            lenient().when(lottoDrawRepository.findRecentDraws(anyInt())).thenReturn(draws);
-            lenient().when(lottoDrawRepository.findAllByOrderByDrwNoDesc()).thenReturn(draws);
-            lenient().when(lottoDrawRepository.findLatestDraw()).thenReturn(Optional.of(draws.get(0)));
+            lenient().when(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(anyInt())).thenReturn(draws);
       }
 
       private LottoDraw createDraw(int drwNo, int n1, int n2, int n3, int n4, int n5, int n6, int bonus) {
@@ -289,9 +296,7 @@ class LottoGenerateServiceTest {
       @Test
       @DisplayName("번호 생성 성공 - HOT 타입 (데이터 없으면 RANDOM 폴백)")
       void generateNumbers_hot_noData() {
-            given(lottoDrawRepository.findRecentDraws(anyInt())).willReturn(List.of());
-            lenient().when(lottoDrawRepository.findAllByOrderByDrwNoDesc()).thenReturn(List.of());
-            lenient().when(lottoDrawRepository.findLatestDraw()).thenReturn(Optional.empty());
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(anyInt())).willReturn(List.of());
             assertValidTickets(generateWithType("HOT"), 3);
       }
 
@@ -326,9 +331,7 @@ class LottoGenerateServiceTest {
       @Test
       @DisplayName("번호 생성 성공 - MIRROR 타입 (데이터 없으면 RANDOM 폴백)")
       void generateNumbers_mirror_noData() {
-            lenient().when(lottoDrawRepository.findRecentDraws(anyInt())).thenReturn(List.of());
-            lenient().when(lottoDrawRepository.findAllByOrderByDrwNoDesc()).thenReturn(List.of());
-            given(lottoDrawRepository.findLatestDraw()).willReturn(Optional.empty());
+            given(lottoDrawRepository.findByDrwNoGreaterThanOrderByDrwNoAsc(anyInt())).willReturn(List.of());
             assertValidTickets(generateWithType("MIRROR"), 3);
       }
 
@@ -361,6 +364,176 @@ class LottoGenerateServiceTest {
             assertValidTickets(response, 3);
       }
 
+      // ====== 대량 생성 스트림 ======
+
+      private LottoTicketStream openStreamWithType(String type, int count, boolean distinct) {
+            Long ruleId = 1L;
+            LottoRule rule = LottoRule.builder().id(ruleId).name(type + " Rule").type(type).build();
+            given(lottoRuleRepository.findById(ruleId)).willReturn(Optional.of(rule));
+            return lottoGenerateService.openStream(ruleId, count, distinct);
+      }
+
+      @Test
+      @DisplayName("스트림 생성 - NDJSON 줄마다 유효한 티켓, 배치 안 중복 없음")
+      void openStream_ndjson() throws IOException {
+            setupDrawMocks();
+            LottoTicketStream stream = openStreamWithType("RANDOM", 1_000, true);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            assertThat(stream.writeTo(out, LottoTicketStream.Format.NDJSON)).isEqualTo(1_000);
+
+            List<String> lines = out.toString(StandardCharsets.US_ASCII).lines().toList();
+            assertThat(lines).hasSize(1_000).doesNotHaveDuplicates();
+            lines.forEach(line -> {
+                  assertThat(line).startsWith("[").endsWith("]");
+                  assertThat(LottoTicket.isValid(LottoTicket.parse(line))).isTrue();
+            });
+      }
+
+      @Test
+      @DisplayName("스트림 생성 - CSV 헤더 + 번호 6개씩")
+      void openStream_csv() throws IOException {
+            setupDrawMocks();
+            LottoTicketStream stream = openStreamWithType("LOW_HIGH", 50, false);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            stream.writeTo(out, LottoTicketStream.Format.CSV);
+
+            List<String> lines = out.toString(StandardCharsets.US_ASCII).lines().toList();
+            assertThat(lines).hasSize(51);
+            assertThat(lines.get(0)).isEqualTo("n1,n2,n3,n4,n5,n6");
+            lines.subList(1, lines.size()).forEach(line ->
+                        assertThat(LottoTicket.isValid(LottoTicket.parse(line))).isTrue());
+      }
+
+      @Test
+      @DisplayName("스트림 생성 - 서로 다른 조합이 부족하면 요청 개수보다 일찍 종료")
+      void openStream_exhausted() {
+            LottoStrategy fixed = new RandomStrategy() {
+                  @Override
+                  public long generateMask(LottoStrategyContext context) {
+                        return LottoTicket.of(1, 2, 3, 4, 5, 6);
+                  }
+            };
+            LottoTicketStream stream = new LottoTicketStream(fixed, LottoStrategyContext.builder().build(), 10, true);
+
+            assertThat(stream.next()).isEqualTo(LottoTicket.of(1, 2, 3, 4, 5, 6));
+            assertThat(stream.next()).isZero();
+            assertThat(stream.isExhausted()).isTrue();
+            assertThat(stream.getProduced()).isEqualTo(1);
+      }
+
+      @Test
+      @DisplayName("스트림 생성 실패 - 이력 조건을 만족시키지 못하는 규칙은 응답을 쓰기 전에 LOTTO_RULE_SCRIPT_INVALID")
+      void openStream_unsatisfiableScript() {
+            setupDrawMocks();
+            given(lottoRuleRepository.findById(7L)).willReturn(Optional.of(LottoRule.builder()
+                        .id(7L).name("불가능").type("LAB").script("require repeat > 6").build()));
+
+            assertThatThrownBy(() -> lottoGenerateService.openStream(7L, 10, false))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.LOTTO_RULE_SCRIPT_INVALID);
+      }
+
+      @Test
+      @DisplayName("스트림 생성 실패 - 한도 초과, 잘못된 개수, 존재하지 않는 규칙, 알 수 없는 형식")
+      void openStream_invalid() {
+            given(lottoRuleRepository.findById(999L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> lottoGenerateService.openStream(1L, 1_001, true))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.LOTTO_GENERATE_LIMIT_EXCEEDED);
+            assertThatThrownBy(() -> lottoGenerateService.openStream(1L, 0, true))
+                        .isInstanceOf(BusinessException.class);
+            assertThatThrownBy(() -> lottoGenerateService.openStream(999L, 10, true))
+                        .isInstanceOf(BusinessException.class);
+            assertThatThrownBy(() -> LottoTicketStream.Format.from("xml"))
+                        .isInstanceOf(BusinessException.class);
+      }
+
+      // ====== 규칙 스크립트 ======
+
+      @Test
+      @DisplayName("스크립트 규칙 - 컴파일된 전략으로 생성, 조건을 만족하는 번호만")
+      void generate_scriptRule() {
+            LottoRule rule = LottoRule.builder().id(7L).name("내 규칙").type("ATTACK")
+                        .script("require sum in low_sum..high_sum\nrequire odd == 3 and consecutive == 0")
+                        .parameters("{\"low_sum\": 120, \"high_sum\": 140}").build();
+            given(lottoRuleRepository.findById(7L)).willReturn(Optional.of(rule));
+
+            LottoGenerateResponse response = lottoGenerateService.generate(7L, 50);
+
+            assertValidTickets(response, 50);
+            response.getTickets().forEach(ticket -> {
+                  long mask = LottoTicket.fromList(ticket);
+                  assertThat(LottoTicket.sum(mask)).isBetween(120, 140);
+                  assertThat(ticket.stream().filter(n -> n % 2 == 1).count()).isEqualTo(3);
+                  assertThat(LottoTicket.hasConsecutive(mask)).isFalse();
+            });
+            assertThat(lottoGenerateService.resolveStrategy(rule))
+                        .isSameAs(lottoGenerateService.resolveStrategy(rule))
+                        .extracting(LottoStrategy::getType).isEqualTo("RULE_7");
+      }
+
+      @Test
+      @DisplayName("스크립트 규칙 - 시뮬레이션 대상 전략에 RULE_{id}로 포함, 스크립트 없는 규칙은 제외")
+      void resolveStrategies_ruleTypes() {
+            given(lottoRuleRepository.findById(7L)).willReturn(Optional.of(LottoRule.builder()
+                        .id(7L).name("내 규칙").type("LAB").script("require primes >= 2").build()));
+            given(lottoRuleRepository.findById(8L)).willReturn(Optional.of(LottoRule.builder()
+                        .id(8L).name("기본 규칙").type("LAB").build()));
+
+            assertThat(lottoGenerateService.resolveStrategies("HOT, RULE_7, RULE_8, RULE_X, UNKNOWN"))
+                        .containsOnlyKeys("HOT", "RULE_7");
+            assertThat(lottoGenerateService.resolveStrategies(null)).hasSize(22);
+      }
+
+      @Test
+      @DisplayName("스크립트 규칙 - 문법 오류는 LOTTO_RULE_SCRIPT_INVALID")
+      void generate_invalidScript() {
+            given(lottoRuleRepository.findById(7L)).willReturn(Optional.of(LottoRule.builder()
+                        .id(7L).name("오류").type("LAB").script("require sum >").build()));
+
+            assertThatThrownBy(() -> lottoGenerateService.generate(7L, 1))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.LOTTO_RULE_SCRIPT_INVALID);
+      }
+
+      // ====== 커버리지 포트폴리오 ======
+
+      @Test
+      @DisplayName("포트폴리오 - 전략이 자주 고르는 번호로 풀 구성, 풀의 3개 조합을 모두 덮는 서로 다른 티켓")
+      void generatePortfolio_fullCoverage() {
+            given(lottoRuleRepository.findById(7L)).willReturn(Optional.of(LottoRule.builder()
+                        .id(7L).name("고정수").type("LAB").script("require has(1) and has(2) and has(3)").build()));
+
+            LottoPortfolioResponse response = lottoGenerateService.generatePortfolio(7L, 12, 3, 9);
+
+            assertThat(response.getStrategyType()).isEqualTo("RULE_7");
+            assertThat(response.getPool()).hasSize(9).contains(1, 2, 3);
+            assertThat(response.getTickets()).hasSize(12).doesNotHaveDuplicates();
+            response.getTickets().forEach(ticket -> {
+                  assertThat(ticket).hasSize(6).isSorted();
+                  assertThat(response.getPool()).containsAll(ticket);
+            });
+            assertThat(response.getTotalCombinations()).isEqualTo(84);
+            assertThat(response.isFullCoverage()).isTrue();
+            assertThat(response.getCoverageRate()).isEqualTo(1.0);
+      }
+
+      @Test
+      @DisplayName("포트폴리오 - 잘못된 match·풀 크기는 INVALID_INPUT_VALUE, 풀 조합 수·상한 초과는 LOTTO_GENERATE_LIMIT_EXCEEDED")
+      void generatePortfolio_invalid() {
+            assertThatThrownBy(() -> lottoGenerateService.generatePortfolio(1L, 10, 6, 15))
+                        .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> lottoGenerateService.generatePortfolio(1L, 10, 3, 5))
+                        .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+            assertThatThrownBy(() -> lottoGenerateService.generatePortfolio(1L, 2, 3, 6))
+                        .extracting("errorCode").isEqualTo(ErrorCode.LOTTO_GENERATE_LIMIT_EXCEEDED);
+            assertThatThrownBy(() -> lottoGenerateService.generatePortfolio(1L, 101, 3, 15))
+                        .extracting("errorCode").isEqualTo(ErrorCode.LOTTO_GENERATE_LIMIT_EXCEEDED);
+      }
+
       // ====== 전략 패턴 검증 ======
 
       @Test
@@ -382,4 +555,24 @@ class LottoGenerateServiceTest {
             LottoStrategy strategy = lottoGenerateService.resolveStrategy(null);
             assertThat(strategy.getType()).isEqualTo("RANDOM");
       }
+
+      @Test
+      @DisplayName("모든 전략 - 같은 시드의 난수 생성기면 같은 번호 생성")
+      void generateNumbers_sameSeedReproducible() {
+            LottoStrategyContext context = LottoStrategyContext.builder()
+                        .recentDraws(List.of(createDraw(2, 2, 8, 15, 25, 35, 43, 12),
+                                    createDraw(1, 1, 5, 10, 20, 30, 40, 7)))
+                        .latestDraw(createDraw(2, 2, 8, 15, 25, 35, 43, 12))
+                        .build();
+
+            for (LottoStrategy strategy : lottoGenerateService.getStrategyMap().values()) {
+                  LottoStrategyContext first = context.withRandom(new SplittableRandom(42));
+                  LottoStrategyContext second = context.withRandom(new SplittableRandom(42));
+                  for (int i = 0; i < 100; i++) {
+                        assertThat(strategy.generateMask(first))
+                                    .as(strategy.getType())
+                                    .isEqualTo(strategy.generateMask(second));
+                  }
+            }
+      }
 }
@@ -1,6 +1,8 @@
 package com.wootae.backend.domain.lotto.service;
 
 import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.entity.UserTicketHistory;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -70,4 +72,43 @@ class LottoMatchServiceTest {
             assertThat(matchService.estimatePrize(5, draw)).isEqualTo(5_000L);
             assertThat(matchService.estimatePrize(0, draw)).isEqualTo(0L);
       }
+
+      @Test
+      @DisplayName("마스크 매칭 - 리스트 매칭과 동일한 등수")
+      void matchRank_mask() {
+            LottoMatchService.WinningMask winning = matchService.toWinningMask(draw);
+            assertThat(matchService.matchRank(LottoTicket.of(3, 10, 15, 25, 35, 42), winning)).isEqualTo(1);
+            assertThat(matchService.matchRank(LottoTicket.of(3, 7, 10, 15, 25, 35), winning)).isEqualTo(2);
+            assertThat(matchService.matchRank(LottoTicket.of(3, 10, 15, 25, 35, 44), winning)).isEqualTo(3);
+            assertThat(matchService.matchRank(LottoTicket.of(3, 10, 15, 25, 1, 2), winning)).isEqualTo(4);
+            assertThat(matchService.matchRank(LottoTicket.of(3, 10, 15, 7, 1, 2), winning)).isEqualTo(5);
+            assertThat(matchService.matchRank(LottoTicket.of(3, 10, 7, 1, 2, 4), winning)).isEqualTo(0);
+      }
+
+      @Test
+      @DisplayName("구매 티켓 확인 - 등수/당첨금 반영")
+      void checkTicket() {
+            UserTicketHistory history = UserTicketHistory.builder()
+                        .drawId(1)
+                        .ticket("[3, 10, 15, 25, 35, 44]")
+                        .build();
+
+            int rank = matchService.checkTicket(history, matchService.toWinningMask(draw));
+
+            assertThat(rank).isEqualTo(3);
+            assertThat(history.getRankResult()).isEqualTo(3);
+            assertThat(history.getPrize()).isEqualTo(1_500_000L);
+      }
+
+      @Test
+      @DisplayName("구매 티켓 확인 - 잘못된 티켓은 결과 미반영")
+      void checkTicket_invalid() {
+            UserTicketHistory history = UserTicketHistory.builder()
+                        .drawId(1)
+                        .ticket("[3, 10, 15]")
+                        .build();
+
+            assertThat(matchService.checkTicket(history, matchService.toWinningMask(draw))).isEqualTo(-1);
+            assertThat(history.getRankResult()).isNull();
+      }
 }
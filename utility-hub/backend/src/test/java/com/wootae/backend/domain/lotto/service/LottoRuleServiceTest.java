@@ -1,18 +1,26 @@
 package com.wootae.backend.domain.lotto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootae.backend.domain.lotto.dto.LottoPeriodStatsResponse;
 import com.wootae.backend.domain.lotto.dto.LottoRuleDetailResponse;
 import com.wootae.backend.domain.lotto.dto.LottoRuleRequest;
 import com.wootae.backend.domain.lotto.dto.LottoRuleResponse;
 import com.wootae.backend.domain.lotto.dto.LottoTopRuleResponse;
 import com.wootae.backend.domain.lotto.entity.LottoRule;
+import com.wootae.backend.domain.lotto.entity.LottoSimulationStats;
+import com.wootae.backend.domain.lotto.entity.LottoStatsPeriod;
+import com.wootae.backend.domain.lotto.entity.SimulationResult;
 import com.wootae.backend.domain.lotto.repository.LottoRuleRepository;
 import com.wootae.backend.domain.lotto.repository.LottoSimulationStatsRepository;
+import com.wootae.backend.domain.lotto.repository.SimulationResultRepository;
 import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -20,8 +28,11 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class LottoRuleServiceTest {
@@ -35,6 +46,20 @@ class LottoRuleServiceTest {
       @Mock
       private LottoSimulationStatsRepository lottoSimulationStatsRepository;
 
+      @Mock
+      private SimulationResultRepository simulationResultRepository;
+
+      @Spy
+      private LottoRuleStrategyCache lottoRuleStrategyCache = new LottoRuleStrategyCache(new ObjectMapper());
+
+      private LottoSimulationStats stats(String strategyType, LottoStatsPeriod period, int fromDrawNo, int toDrawNo,
+                  long rank5Count) {
+            return LottoSimulationStats.builder()
+                        .strategyType(strategyType).period(period).fromDrawNo(fromDrawNo).toDrawNo(toDrawNo)
+                        .totalDraws((long) (toDrawNo - fromDrawNo + 1)).totalTickets(1_000L)
+                        .rank4Count(1L).rank5Count(rank5Count).build();
+      }
+
       @Test
       @DisplayName("규칙 목록 전체 조회")
       void getAllRules() {
@@ -78,7 +103,8 @@ class LottoRuleServiceTest {
             LottoRule rule = LottoRule.builder().id(1L).name("Detail Rule").type("ATTACK")
                         .attack(0.9).stability(0.6).build();
             given(lottoRuleRepository.findById(1L)).willReturn(Optional.of(rule));
-            given(lottoSimulationStatsRepository.findByRuleId(1L)).willReturn(Optional.empty());
+            given(lottoSimulationStatsRepository.findByStrategyTypeAndPeriod("ATTACK", LottoStatsPeriod.ALL_TIME))
+                        .willReturn(Optional.empty());
 
             LottoRuleDetailResponse result = lottoRuleService.getRuleDetail(1L);
 
@@ -87,6 +113,61 @@ class LottoRuleServiceTest {
             assertThat(result.getAttack()).isEqualTo(0.9);
       }
 
+      @Test
+      @DisplayName("규칙 상세 조회 - 전체 기간 등수별 당첨 수와 최근 5회차 당첨 추이")
+      void getRuleDetail_withStats() {
+            LottoRule rule = LottoRule.builder().id(1L).name("Detail Rule").type("ATTACK").build();
+            given(lottoRuleRepository.findById(1L)).willReturn(Optional.of(rule));
+            given(lottoSimulationStatsRepository.findByStrategyTypeAndPeriod("ATTACK", LottoStatsPeriod.ALL_TIME))
+                        .willReturn(Optional.of(stats("ATTACK", LottoStatsPeriod.ALL_TIME, 1, 120, 7)));
+            given(simulationResultRepository.findByStrategyTypeAndDrawNoBetweenOrderByDrawNoAsc("ATTACK", 116, 120))
+                        .willReturn(List.of(
+                                    SimulationResult.builder().strategyType("ATTACK").drawNo(117).totalTickets(100)
+                                                .rank4Count(1).rank5Count(3).build(),
+                                    SimulationResult.builder().strategyType("ATTACK").drawNo(120).totalTickets(100)
+                                                .rank5Count(2).build()));
+
+            LottoRuleDetailResponse result = lottoRuleService.getRuleDetail(1L);
+
+            assertThat(result.getStats().getWins()).containsExactly(
+                        entry("1st", 0L), entry("2nd", 0L), entry("3rd", 0L), entry("4th", 1L), entry("5th", 7L));
+            assertThat(result.getStats().getRecent5Weeks()).containsExactly(0, 4, 0, 0, 2);
+      }
+
+      @Test
+      @DisplayName("기간 통계 - 스크립트 규칙은 RULE_{id} 전략의 해당 기간 집계")
+      void getPeriodStats() {
+            given(lottoRuleRepository.findById(7L)).willReturn(Optional.of(LottoRule.builder()
+                        .id(7L).name("내 규칙").type("LAB").script("require primes >= 2").build()));
+            given(lottoSimulationStatsRepository.findByStrategyTypeAndPeriod("RULE_7", LottoStatsPeriod.RECENT_4_WEEKS))
+                        .willReturn(Optional.of(stats("RULE_7", LottoStatsPeriod.RECENT_4_WEEKS, 117, 120, 3)));
+
+            LottoPeriodStatsResponse result = lottoRuleService.getPeriodStats(7L, "RECENT_4_WEEKS");
+
+            assertThat(result.getFromDrawNo()).isEqualTo(117);
+            assertThat(result.getToDrawNo()).isEqualTo(120);
+            assertThat(result.getStats()).containsExactly(
+                        entry("1st", 0L), entry("2nd", 0L), entry("3rd", 0L), entry("4th", 1L), entry("5th", 3L));
+      }
+
+      @Test
+      @DisplayName("기간 통계 - 집계가 없으면 0, 잘못된 기간은 LOTTO_INVALID_PERIOD")
+      void getPeriodStats_noDataAndInvalidPeriod() {
+            given(lottoRuleRepository.findById(1L)).willReturn(Optional.of(
+                        LottoRule.builder().id(1L).name("Rule").type("HOT").build()));
+            given(lottoSimulationStatsRepository.findByStrategyTypeAndPeriod("HOT", LottoStatsPeriod.RECENT_8_WEEKS))
+                        .willReturn(Optional.empty());
+
+            LottoPeriodStatsResponse result = lottoRuleService.getPeriodStats(1L, "RECENT_8_WEEKS");
+
+            assertThat(result.getToDrawNo()).isNull();
+            assertThat(result.getStats()).containsOnlyKeys("1st", "2nd", "3rd", "4th", "5th");
+            assertThat(result.getStats().values()).containsOnly(0L);
+            assertThatThrownBy(() -> lottoRuleService.getPeriodStats(1L, "RECENT_3_DAYS"))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.LOTTO_INVALID_PERIOD);
+      }
+
       @Test
       @DisplayName("규칙 상세 조회 실패 - 존재하지 않는 규칙")
       void getRuleDetail_notFound() {
@@ -112,11 +193,26 @@ class LottoRuleServiceTest {
             assertThat(result.getName()).isEqualTo("New Rule");
       }
 
+      @Test
+      @DisplayName("규칙 생성 실패 - 스크립트 오류는 저장하지 않음")
+      void createRule_invalidScript() {
+            LottoRuleRequest request = new LottoRuleRequest();
+            request.setName("New Rule");
+            request.setType("LAB");
+            request.setScript("require sum in 100..");
+
+            assertThatThrownBy(() -> lottoRuleService.createRule(request))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.LOTTO_RULE_SCRIPT_INVALID);
+            verify(lottoRuleRepository, never()).save(any(LottoRule.class));
+      }
+
       @Test
       @DisplayName("규칙 삭제 성공")
       void deleteRule() {
             given(lottoRuleRepository.existsById(1L)).willReturn(true);
             lottoRuleService.deleteRule(1L);
+            verify(lottoRuleStrategyCache).evict(1L);
       }
 
       @Test
@@ -0,0 +1,77 @@
+package com.wootae.backend.domain.lotto.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationCheckpointTest {
+
+      // 2개 전략 × 5회차 = 작업 10개, 청크 크기 4 → 청크 3개 (4, 4, 2)
+      private final List<String> strategyTypes = List.of("A", "B");
+      private final List<Integer> drawNos = List.of(5, 4, 3, 2, 1);
+
+      @Test
+      @DisplayName("청크 번호 - 전략 순 × 회차 순으로 나눔")
+      void chunkOf() {
+            SimulationCheckpoint checkpoint = new SimulationCheckpoint(strategyTypes, drawNos, 4, null);
+
+            assertThat(checkpoint.chunkCount()).isEqualTo(3);
+            assertThat(checkpoint.chunkOf("A", 5)).isZero();
+            assertThat(checkpoint.chunkOf("A", 2)).isZero();
+            assertThat(checkpoint.chunkOf("A", 1)).isEqualTo(1);
+            assertThat(checkpoint.chunkOf("B", 3)).isEqualTo(1);
+            assertThat(checkpoint.chunkOf("B", 2)).isEqualTo(2);
+      }
+
+      @Test
+      @DisplayName("청크의 작업이 모두 저장되어야 완료로 표시")
+      void saved() {
+            SimulationCheckpoint checkpoint = new SimulationCheckpoint(strategyTypes, drawNos, 4, null);
+            for (String type : strategyTypes) {
+                  for (int drawNo : drawNos) checkpoint.expect(type, drawNo);
+            }
+
+            checkpoint.saved("A", 5);
+            checkpoint.saved("A", 4);
+            checkpoint.saved("A", 3);
+            assertThat(checkpoint.isChunkDone(0)).isFalse();
+
+            checkpoint.saved("A", 2);
+            assertThat(checkpoint.isChunkDone(0)).isTrue();
+            assertThat(checkpoint.doneChunkCount()).isEqualTo(1);
+      }
+
+      @Test
+      @DisplayName("처리할 작업이 없는 청크는 바로 완료")
+      void markIdleChunksDone() {
+            SimulationCheckpoint checkpoint = new SimulationCheckpoint(strategyTypes, drawNos, 4, null);
+            // 마지막 청크(B 2, 1회차)는 이미 결과가 있어 등록하지 않음
+            for (int drawNo : drawNos) checkpoint.expect("A", drawNo);
+            for (int drawNo : List.of(5, 4, 3)) checkpoint.expect("B", drawNo);
+
+            checkpoint.markIdleChunksDone();
+
+            assertThat(checkpoint.isChunkDone(0)).isFalse();
+            assertThat(checkpoint.isChunkDone(1)).isFalse();
+            assertThat(checkpoint.isChunkDone(2)).isTrue();
+      }
+
+      @Test
+      @DisplayName("완료 청크 인코딩 후 재개 시 복원")
+      void encodeAndRestore() {
+            SimulationCheckpoint checkpoint = new SimulationCheckpoint(strategyTypes, drawNos, 4, null);
+            for (int drawNo : List.of(2, 1)) checkpoint.expect("B", drawNo);
+            checkpoint.saved("B", 2);
+            checkpoint.saved("B", 1);
+
+            SimulationCheckpoint restored = new SimulationCheckpoint(strategyTypes, drawNos, 4, checkpoint.encode());
+
+            assertThat(restored.isChunkDone(0)).isFalse();
+            assertThat(restored.isChunkDone(1)).isFalse();
+            assertThat(restored.isChunkDone(2)).isTrue();
+            assertThat(restored.doneChunkCount()).isEqualTo(1);
+      }
+}
@@ -0,0 +1,40 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.repository.SimulationResultRepository.CompletedTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationCompletionTest {
+
+      private CompletedTask task(String strategyType, int drawNo) {
+            return new CompletedTask() {
+                  @Override
+                  public String getStrategyType() {
+                        return strategyType;
+                  }
+
+                  @Override
+                  public Integer getDrawNo() {
+                        return drawNo;
+                  }
+            };
+      }
+
+      @Test
+      @DisplayName("완료된 (전략, 회차)만 건너뛰기 대상")
+      void isDone() {
+            SimulationCompletion completion = SimulationCompletion.of(List.of(
+                        task("RANDOM", 1), task("RANDOM", 1200), task("HOT", 5), task("HOT", 5)));
+
+            assertThat(completion.isDone("RANDOM", 1)).isTrue();
+            assertThat(completion.isDone("RANDOM", 1200)).isTrue();
+            assertThat(completion.isDone("RANDOM", 5)).isFalse();
+            assertThat(completion.isDone("HOT", 5)).isTrue();
+            assertThat(completion.isDone("COLD", 1)).isFalse();
+            assertThat(completion.count()).isEqualTo(3);
+      }
+}
@@ -0,0 +1,71 @@
+package com.wootae.backend.domain.lotto.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationExecutorTest {
+
+      @ParameterizedTest
+      @EnumSource(SimulationExecutionMode.class)
+      @DisplayName("모든 작업 실행 - 실패한 작업은 건너뛰고 계속 진행, 실패 건수 반환")
+      void forEach(SimulationExecutionMode mode) throws InterruptedException {
+            SimulationExecutor executor = new SimulationExecutor(mode, 4);
+            List<Integer> tasks = IntStream.range(0, 1000).boxed().toList();
+            AtomicLong sum = new AtomicLong();
+
+            int failures = executor.forEach(tasks, task -> {
+                  if (task == 500 || task == 700) throw new IllegalStateException("실패");
+                  sum.addAndGet(task);
+            });
+
+            assertThat(sum.get()).isEqualTo(499_500L - 500 - 700);
+            assertThat(failures).isEqualTo(2);
+      }
+
+      @ParameterizedTest
+      @EnumSource(SimulationExecutionMode.class)
+      @DisplayName("티켓 분할 집계 - 청크 합계가 전체 티켓 수와 일치")
+      void countTickets(SimulationExecutionMode mode) throws InterruptedException {
+            SimulationExecutor executor = new SimulationExecutor(mode, 4);
+            AtomicLong total = new AtomicLong();
+
+            executor.forEach(List.of(1, 2, 3), task -> {
+                  int[] counts = executor.countTickets(100_001, new SplittableRandom(task),
+                              (tickets, random) -> new int[]{tickets, 1});
+                  assertThat(counts[0]).isEqualTo(100_001);
+                  total.addAndGet(counts[0]);
+            });
+
+            assertThat(total.get()).isEqualTo(300_003L);
+      }
+
+      @Test
+      @DisplayName("같은 시드면 실행 방식과 무관하게 같은 집계")
+      void countTickets_reproducible() throws InterruptedException {
+            SimulationExecutor.TicketCounter counter = (tickets, random) -> {
+                  int[] counts = new int[6];
+                  for (int i = 0; i < tickets; i++) counts[random.nextInt(6)]++;
+                  return counts;
+            };
+            List<int[]> results = new CopyOnWriteArrayList<>();
+
+            for (SimulationExecutionMode mode : SimulationExecutionMode.values()) {
+                  SimulationExecutor executor = new SimulationExecutor(mode, 4);
+                  executor.forEach(List.of(7), seed ->
+                              results.add(executor.countTickets(100_000, new SplittableRandom(seed), counter)));
+            }
+
+            assertThat(results).hasSize(SimulationExecutionMode.values().length);
+            assertThat(results).allSatisfy(counts -> assertThat(counts).containsExactly(results.get(0)));
+      }
+}
@@ -0,0 +1,125 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.SimulationJob;
+import com.wootae.backend.domain.lotto.repository.SimulationJobRepository;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategy;
+import com.wootae.backend.global.error.BusinessException;
+import com.wootae.backend.global.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SimulationJobSchedulerTest {
+
+      @Mock
+      private SimulationService simulationService;
+
+      @Mock
+      private SimulationJobRepository simulationJobRepository;
+
+      @Mock
+      private LottoDrawStore lottoDrawStore;
+
+      @Mock
+      private LottoGenerateService lottoGenerateService;
+
+      private SimulationJobScheduler scheduler;
+
+      @BeforeEach
+      void setUp() {
+            scheduler = new SimulationJobScheduler(simulationService, simulationJobRepository,
+                        lottoDrawStore, lottoGenerateService, 1, 100);
+      }
+
+      @AfterEach
+      void tearDown() throws InterruptedException {
+            scheduler.shutdown();
+      }
+
+      private SimulationJob job(long id) {
+            SimulationJob job = SimulationJob.queue(10, 100, null, 10, 100, 1L);
+            ReflectionTestUtils.setField(job, "id", id);
+            given(simulationJobRepository.findById(id)).willReturn(Optional.of(job));
+            return job;
+      }
+
+      @Test
+      @DisplayName("대기 중인 작업 일시정지 - 바로 PAUSED로 저장")
+      void pauseQueued() {
+            SimulationJob job = job(1L);
+            given(simulationJobRepository.save(any(SimulationJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            SimulationJob paused = scheduler.pause(1L);
+
+            assertThat(paused.getStatus()).isEqualTo("PAUSED");
+            verify(simulationJobRepository).save(job);
+      }
+
+      @Test
+      @DisplayName("실행 중인 작업 취소 - 상태는 작업 스레드가 저장 후 변경")
+      void cancelRunning() {
+            SimulationJob job = job(1L);
+            job.start();
+
+            SimulationJob cancelled = scheduler.cancel(1L);
+
+            assertThat(cancelled.getStatus()).isEqualTo("RUNNING");
+            verify(simulationJobRepository, never()).save(any());
+      }
+
+      @Test
+      @DisplayName("완료된 작업은 재개/취소 불가")
+      void finishedJob() {
+            SimulationJob job = job(1L);
+            job.complete();
+
+            assertThatThrownBy(() -> scheduler.resume(1L))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.SIMULATION_JOB_INVALID_STATE);
+            assertThatThrownBy(() -> scheduler.cancel(1L))
+                        .isInstanceOf(BusinessException.class);
+      }
+
+      @Test
+      @DisplayName("제출 당시 전략이 삭제된 작업은 재개 불가 - 체크포인트 청크가 어긋나지 않도록")
+      void resumeWithRemovedStrategy() {
+            SimulationJob job = SimulationJob.queue(10, 100, "HOT,RULE_3", 10, 100, 1L);
+            ReflectionTestUtils.setField(job, "id", 2L);
+            job.pause();
+            given(simulationJobRepository.findById(2L)).willReturn(Optional.of(job));
+            given(lottoGenerateService.resolveStrategies("HOT,RULE_3"))
+                        .willReturn(Map.of("HOT", mock(LottoStrategy.class)));
+
+            assertThatThrownBy(() -> scheduler.resume(2L))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.SIMULATION_JOB_INVALID_STATE);
+            verify(simulationJobRepository, never()).save(any());
+      }
+
+      @Test
+      @DisplayName("존재하지 않는 작업 조회")
+      void notFound() {
+            given(simulationJobRepository.findById(99L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> scheduler.getJob(99L))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.SIMULATION_JOB_NOT_FOUND);
+      }
+}
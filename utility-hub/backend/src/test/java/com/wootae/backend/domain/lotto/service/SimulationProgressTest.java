@@ -0,0 +1,49 @@
+package com.wootae.backend.domain.lotto.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationProgressTest {
+
+      @Test
+      @DisplayName("진행 스냅샷 - 건너뛴 작업 포함 진행률, 작업 중인 스레드 표시")
+      void snapshot() {
+            SimulationProgress progress = new SimulationProgress();
+            progress.start(1L, 10, 4);
+
+            progress.taskStarted("RANDOM", 100);
+            SimulationProgress.Snapshot running = progress.snapshot();
+            assertThat(running.status()).isEqualTo("RUNNING");
+            assertThat(running.completedTasks()).isEqualTo(4);
+            assertThat(running.currentStrategy()).isEqualTo("RANDOM");
+            assertThat(running.workers()).singleElement()
+                        .satisfies(worker -> assertThat(worker.drawNo()).isEqualTo(100));
+            assertThat(running.etaSeconds()).isEqualTo(-1);
+
+            progress.taskFinished(1_000);
+            SimulationProgress.Snapshot after = progress.snapshot();
+            assertThat(after.completedTasks()).isEqualTo(5);
+            assertThat(after.progressPercent()).isEqualTo(50.0);
+            assertThat(after.workers()).isEmpty();
+            assertThat(after.ticketsPerSecond()).isPositive();
+            assertThat(after.etaSeconds()).isGreaterThanOrEqualTo(0);
+      }
+
+      @Test
+      @DisplayName("저장된 작업 수는 계산 완료와 별도로 집계")
+      void savedTasks() {
+            SimulationProgress progress = new SimulationProgress();
+            progress.start(1L, 10, 2);
+
+            assertThat(progress.tasksSaved(3)).isEqualTo(5);
+            progress.finish("COMPLETED");
+
+            SimulationProgress.Snapshot snapshot = progress.snapshot();
+            assertThat(snapshot.savedTasks()).isEqualTo(5);
+            assertThat(snapshot.completedTasks()).isEqualTo(2);
+            assertThat(snapshot.status()).isEqualTo("COMPLETED");
+            assertThat(snapshot.etaSeconds()).isEqualTo(-1);
+      }
+}
@@ -0,0 +1,122 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.entity.SimulationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SimulationResultWriterTest {
+
+      @Mock
+      private JdbcTemplate jdbcTemplate;
+
+      @Mock
+      private PlatformTransactionManager transactionManager;
+
+      private SimulationResultWriter writer;
+
+      @BeforeEach
+      void setUp() {
+            writer = new SimulationResultWriter(jdbcTemplate, transactionManager, 3);
+      }
+
+      private SimulationResult result(int drawNo) {
+            return SimulationResult.builder()
+                        .strategyType("RANDOM")
+                        .drawNo(drawNo)
+                        .totalTickets(100)
+                        .build();
+      }
+
+      private SimulationResult result(String strategyType, int drawNo, int rank5Count) {
+            return SimulationResult.builder()
+                        .strategyType(strategyType)
+                        .drawNo(drawNo)
+                        .totalTickets(100)
+                        .rank5Count(rank5Count)
+                        .estimatedPrize(rank5Count * 5_000L)
+                        .build();
+      }
+
+      @Test
+      @DisplayName("배치 크기마다 저장 + close 시 나머지 저장")
+      @SuppressWarnings("unchecked")
+      void flushByBatchSize() {
+            List<Integer> flushedSizes = new ArrayList<>();
+
+            try (SimulationResultWriter.Buffer buffer = writer.open(batch -> flushedSizes.add(batch.size()))) {
+                  for (int drawNo = 1; drawNo <= 7; drawNo++) {
+                        buffer.add(result(drawNo));
+                  }
+                  assertThat(flushedSizes).containsExactly(3, 3);
+            }
+
+            assertThat(flushedSizes).containsExactly(3, 3, 1);
+            verify(jdbcTemplate, times(3)).batchUpdate(anyString(), any(Collection.class), eq(3),
+                        any(ParameterizedPreparedStatementSetter.class));
+            verify(transactionManager, times(3)).commit(any());
+      }
+
+      @Test
+      @DisplayName("결과 저장 시 전략별 누적 집계 증분 갱신 - 집계 행이 없으면 생성")
+      void accumulateAggregates() {
+            given(jdbcTemplate.update(startsWith("UPDATE simulation_strategy_aggregates"), any(Object[].class)))
+                        .willReturn(1, 0);
+
+            writer.writeAll(List.of(result("HOT", 1, 2), result("RANDOM", 1, 0), result("RANDOM", 2, 1)));
+
+            // HOT: 기존 행 갱신
+            verify(jdbcTemplate).update(startsWith("UPDATE"), eq(1L), eq(100L), eq(0L), eq(0L), eq(0L), eq(0L),
+                        eq(2L), eq(10_000L), any(Timestamp.class), eq("HOT"));
+            // RANDOM: 갱신된 행이 없어 새로 생성
+            verify(jdbcTemplate).update(startsWith("INSERT INTO simulation_strategy_aggregates"), eq(2L), eq(200L),
+                        eq(0L), eq(0L), eq(0L), eq(0L), eq(1L), eq(5_000L), any(Timestamp.class), eq("RANDOM"));
+            verify(transactionManager).commit(any());
+      }
+
+      @Test
+      @DisplayName("기간 통계 갱신 - 최신 회차 기준 최근 4·8회차는 결과 구간 합산, 전체 기간은 누적 집계 복사")
+      void refreshPeriodStats() {
+            given(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(drw_no)"), eq(Integer.class)))
+                        .willReturn(120);
+
+            assertThat(writer.refreshPeriodStats()).isEqualTo(120);
+
+            verify(jdbcTemplate).update("DELETE FROM lotto_simulation_stats");
+            verify(jdbcTemplate).update(contains("WHERE draw_no BETWEEN"), eq("RECENT_4_WEEKS"), eq(117), eq(120),
+                        any(Timestamp.class), eq(117), eq(120));
+            verify(jdbcTemplate).update(contains("WHERE draw_no BETWEEN"), eq("RECENT_8_WEEKS"), eq(113), eq(120),
+                        any(Timestamp.class), eq(113), eq(120));
+            verify(jdbcTemplate).update(contains("FROM simulation_strategy_aggregates"), eq("ALL_TIME"), eq(120),
+                        any(Timestamp.class));
+            verify(transactionManager).commit(any());
+      }
+
+      @Test
+      @DisplayName("빈 버퍼는 저장하지 않음")
+      void emptyBuffer() {
+            List<Integer> flushedSizes = new ArrayList<>();
+
+            writer.open(batch -> flushedSizes.add(batch.size())).close();
+
+            assertThat(flushedSizes).isEmpty();
+            verifyNoInteractions(jdbcTemplate, transactionManager);
+      }
+}
@@ -0,0 +1,107 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.dto.UserHistoryResponse;
+import com.wootae.backend.domain.lotto.dto.UserStatsResponse;
+import com.wootae.backend.domain.lotto.entity.UserTicketHistory;
+import com.wootae.backend.domain.lotto.repository.UserTicketHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserLottoServiceTest {
+
+      private static final Long USER_ID = 1L;
+
+      @Mock
+      private UserTicketHistoryRepository userTicketHistoryRepository;
+
+      private UserStatsCache userStatsCache;
+      private UserLottoService userLottoService;
+
+      @BeforeEach
+      void setUp() {
+            userStatsCache = new UserStatsCache(60_000, 100);
+            userLottoService = new UserLottoService(userTicketHistoryRepository, userStatsCache);
+      }
+
+      private UserTicketHistoryRepository.UserStatsView statsView(long tickets, long wins, Integer bestRank, long prize) {
+            return new UserTicketHistoryRepository.UserStatsView() {
+                  public Long getTotalTickets() { return tickets; }
+                  public Long getTotalWins() { return wins; }
+                  public Integer getBestRank() { return bestRank; }
+                  public Long getTotalPrize() { return prize; }
+            };
+      }
+
+      // id가 from부터 1씩 줄어드는 기록 count개 (최신순)
+      private List<UserTicketHistory> histories(long from, int count) {
+            List<UserTicketHistory> histories = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                  UserTicketHistory history = UserTicketHistory.builder()
+                              .drawId(1210).ticket("[1, 2, 3, 4, 5, 6]").rankResult(0).prize(0L).build();
+                  ReflectionTestUtils.setField(history, "id", from - i);
+                  histories.add(history);
+            }
+            return histories;
+      }
+
+      @Test
+      @DisplayName("통계 - 집계 쿼리 한 번, TTL 안에서는 캐시, 정산 무효화 후 다시 집계")
+      void getUserStats_cached() {
+            given(userTicketHistoryRepository.aggregateStatsByUserId(USER_ID))
+                        .willReturn(statsView(120, 7, 3, 1_615_000L))
+                        .willReturn(statsView(121, 8, 3, 1_620_000L));
+
+            UserStatsResponse first = userLottoService.getUserStats(USER_ID);
+            UserStatsResponse second = userLottoService.getUserStats(USER_ID);
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.getTotalTickets()).isEqualTo(120L);
+            assertThat(first.getTotalWins()).isEqualTo(7L);
+            assertThat(first.getBestRank()).isEqualTo(3);
+            assertThat(first.getTotalPrize()).isEqualTo(1_615_000L);
+            verify(userTicketHistoryRepository, times(1)).aggregateStatsByUserId(USER_ID);
+
+            userStatsCache.invalidateAll();
+            assertThat(userLottoService.getUserStats(USER_ID).getTotalTickets()).isEqualTo(121L);
+            verify(userTicketHistoryRepository, times(2)).aggregateStatsByUserId(USER_ID);
+      }
+
+      @Test
+      @DisplayName("구매 기록 - 한 건 더 읽어 다음 커서 계산, 마지막 페이지는 커서 없음")
+      void getUserHistory_keyset() {
+            given(userTicketHistoryRepository.findHistoryPage(USER_ID, Long.MAX_VALUE, 3)).willReturn(histories(50, 3));
+            given(userTicketHistoryRepository.findHistoryPage(USER_ID, 49L, 3)).willReturn(histories(48, 1));
+
+            UserHistoryResponse first = userLottoService.getUserHistory(USER_ID, null, 2);
+            assertThat(first.getHistory()).hasSize(2);
+            assertThat(first.getNextCursor()).isEqualTo(49L);
+            assertThat(first.getHistory().get(0).getTicket()).containsExactly(1, 2, 3, 4, 5, 6);
+
+            UserHistoryResponse last = userLottoService.getUserHistory(USER_ID, first.getNextCursor(), 2);
+            assertThat(last.getHistory()).hasSize(1);
+            assertThat(last.getNextCursor()).isNull();
+      }
+
+      @Test
+      @DisplayName("구매 기록 - 페이지 크기는 1~100으로 제한")
+      void getUserHistory_pageSizeClamped() {
+            given(userTicketHistoryRepository.findHistoryPage(USER_ID, Long.MAX_VALUE, UserLottoService.MAX_PAGE_SIZE + 1))
+                        .willReturn(List.of());
+
+            assertThat(userLottoService.getUserHistory(USER_ID, null, 10_000).getHistory()).isEmpty();
+      }
+}
@@ -0,0 +1,116 @@
+package com.wootae.backend.domain.lotto.service;
+
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import com.wootae.backend.global.error.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserTicketSettlementServiceTest {
+
+      private static final int DRAW_NO = 1210;
+
+      @Mock
+      private JdbcTemplate jdbcTemplate;
+
+      @Mock
+      private PlatformTransactionManager transactionManager;
+
+      @Mock
+      private LottoDrawStore lottoDrawStore;
+
+      @Mock
+      private UserStatsCache userStatsCache;
+
+      private UserTicketSettlementService service;
+
+      @BeforeEach
+      void setUp() {
+            service = new UserTicketSettlementService(jdbcTemplate, transactionManager, lottoDrawStore,
+                        new LottoMatchService(), userStatsCache, 2);
+      }
+
+      // (id, ticket) 행을 RowCallbackHandler에 차례로 전달
+      private static Answer<Void> rows(Object[]... rows) throws SQLException {
+            List<ResultSet> resultSets = new ArrayList<>();
+            for (Object[] row : rows) {
+                  ResultSet rs = mock(ResultSet.class);
+                  given(rs.getLong(1)).willReturn((Long) row[0]);
+                  given(rs.getString(2)).willReturn((String) row[1]);
+                  resultSets.add(rs);
+            }
+            return invocation -> {
+                  RowCallbackHandler handler = invocation.getArgument(1);
+                  for (ResultSet rs : resultSets) handler.processRow(rs);
+                  return null;
+            };
+      }
+
+      @Test
+      @DisplayName("키셋 페이지 정산 - 페이지마다 배치 update, 파싱 실패 티켓은 건너뜀")
+      @SuppressWarnings("unchecked")
+      void settle() throws SQLException {
+            given(lottoDrawStore.winningMask(DRAW_NO)).willReturn(Optional.of(new LottoMatchService.WinningMask(
+                        DRAW_NO, LottoTicket.of(1, 2, 3, 4, 5, 6), LottoTicket.bit(7), 3_000_000_000L)));
+            willAnswer(rows(new Object[]{10L, "[1,2,3,4,5,6]"}, new Object[]{11L, "[1,2,3,4,5]"}))
+                        .given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(DRAW_NO), eq(0L), eq(2));
+            willAnswer(rows(new Object[]{12L, "[1,2,3,4,5,7]"}, new Object[]{15L, "[40,41,42,43,44,45]"}))
+                        .given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(DRAW_NO), eq(11L), eq(2));
+            willAnswer(rows())
+                        .given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(DRAW_NO), eq(15L), eq(2));
+
+            UserTicketSettlementService.SettlementResult result = service.settle(DRAW_NO);
+
+            assertThat(result).isEqualTo(new UserTicketSettlementService.SettlementResult(
+                        DRAW_NO, 3, 2, 3_000_000_000L + 50_000_000L, 1));
+
+            ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE user_ticket_history"), batches.capture());
+            assertThat(batches.getAllValues().get(0)).containsExactly(new Object[]{1, 3_000_000_000L, 10L});
+            assertThat(batches.getAllValues().get(1)).containsExactly(
+                        new Object[]{2, 50_000_000L, 12L}, new Object[]{0, 0L, 15L});
+            verify(userStatsCache, times(2)).invalidateAll();
+      }
+
+      @Test
+      @DisplayName("미정산 티켓이 없으면 update 없음")
+      void settle_nothingPending() {
+            given(lottoDrawStore.winningMask(DRAW_NO)).willReturn(Optional.of(new LottoMatchService.WinningMask(
+                        DRAW_NO, LottoTicket.of(1, 2, 3, 4, 5, 6), LottoTicket.bit(7), 3_000_000_000L)));
+
+            assertThat(service.settle(DRAW_NO).settled()).isZero();
+
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+      }
+
+      @Test
+      @DisplayName("저장소에 없는 회차는 정산 실패")
+      void settle_unknownDraw() {
+            given(lottoDrawStore.winningMask(DRAW_NO)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.settle(DRAW_NO)).isInstanceOf(BusinessException.class);
+            verifyNoInteractions(jdbcTemplate);
+      }
+}
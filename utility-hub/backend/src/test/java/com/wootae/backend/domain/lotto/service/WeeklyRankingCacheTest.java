@@ -0,0 +1,52 @@
+package com.wootae.backend.domain.lotto.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyRankingCacheTest {
+
+      private final WeeklyRankingCache cache = new WeeklyRankingCache();
+      private final AtomicInteger loads = new AtomicInteger();
+
+      private WeeklyRankingCache.CurrentRankings load() {
+            loads.incrementAndGet();
+            return new WeeklyRankingCache.CurrentRankings(1210, List.of(), List.of(), Map.of());
+      }
+
+      @Test
+      @DisplayName("두 번째 조회부터 적중, 무효화 후 다시 적재")
+      void hitAndInvalidate() {
+            cache.get(this::load);
+            cache.get(this::load);
+            assertThat(loads).hasValue(1);
+
+            cache.invalidate();
+            cache.get(this::load);
+            assertThat(loads).hasValue(2);
+
+            Map<String, Object> stats = cache.stats();
+            assertThat(stats).containsEntry("hits", 1L)
+                        .containsEntry("misses", 2L)
+                        .containsEntry("invalidations", 1L)
+                        .containsEntry("cachedDrawNo", 1210);
+      }
+
+      @Test
+      @DisplayName("적재 중에 무효화되면 적재한 값은 캐시하지 않음")
+      void invalidatedWhileLoading() {
+            cache.get(() -> {
+                  cache.invalidate();
+                  return load();
+            });
+            cache.get(this::load);
+
+            assertThat(loads).hasValue(2);
+            assertThat(cache.stats()).containsEntry("hits", 0L);
+      }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -103,18 +105,12 @@ class WeeklyRankingServiceTest {
             SimulationResult attackResult = createResult("ATTACK", drawNo, 1, 0, 3, 40, 800);
             SimulationResult balanceResult = createResult("BALANCE", drawNo, 0, 1, 8, 60, 1200);
 
-            given(simulationResultRepository.findByStrategyTypeAndDrawNo("RANDOM", drawNo))
-                        .willReturn(Optional.of(randomResult));
-            given(simulationResultRepository.findByStrategyTypeAndDrawNo("ATTACK", drawNo))
-                        .willReturn(Optional.of(attackResult));
-            given(simulationResultRepository.findByStrategyTypeAndDrawNo("BALANCE", drawNo))
-                        .willReturn(Optional.of(balanceResult));
+            given(simulationResultRepository.findByDrawNoBetween(drawNo, drawNo))
+                        .willReturn(List.of(randomResult, attackResult, balanceResult));
 
             // 이전 랭킹 없음 (첫 주)
-            given(weeklyRankingRepository.findRecentRankings(anyString(), anyInt()))
+            given(weeklyRankingRepository.findByDrawNoBetween(drawNo - 3, drawNo))
                         .willReturn(List.of());
-            given(weeklyRankingRepository.findRankByStrategyTypeAndDrawNo(anyString(), anyInt()))
-                        .willReturn(Optional.empty());
 
             given(weeklyRankingRepository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
 
@@ -130,6 +126,51 @@ class WeeklyRankingServiceTest {
             verify(weeklyRankingRepository).saveAll(anyList());
       }
 
+      @Test
+      @DisplayName("구간 백필 - 쿼리 2번으로 적재하고 계산한 회차를 다음 회차의 4주 창에 반영")
+      void backfillRankings() {
+            given(lottoGenerateService.getStrategyMap()).willReturn(strategyMap);
+
+            // 1208회: 기존 랭킹 (RANDOM 1위 100점, ATTACK 2위 50점)
+            WeeklyStrategyRanking random1208 = createRankingWithScore("RANDOM", 1208, 1, 100.0);
+            WeeklyStrategyRanking attack1208 = createRankingWithScore("ATTACK", 1208, 2, 50.0);
+            given(weeklyRankingRepository.findByDrawNoBetween(1205, 1210))
+                        .willReturn(List.of(random1208, attack1208));
+
+            // 1209, 1210회 결과 (1208회 결과는 이미 랭킹이 있으므로 다시 계산하지 않음)
+            given(simulationResultRepository.findByDrawNoBetween(1208, 1210)).willReturn(List.of(
+                        createResult("RANDOM", 1208, 0, 0, 0, 0, 100),
+                        createResult("RANDOM", 1209, 0, 0, 0, 0, 100),
+                        createResult("ATTACK", 1209, 0, 0, 0, 20, 0),
+                        createResult("RANDOM", 1210, 0, 0, 0, 0, 0),
+                        createResult("ATTACK", 1210, 0, 0, 0, 0, 300)));
+            given(weeklyRankingRepository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
+
+            int calculated = weeklyRankingService.backfillRankings(1208, 1210);
+
+            assertThat(calculated).isEqualTo(2);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<WeeklyStrategyRanking>> captor = ArgumentCaptor.forClass(List.class);
+            verify(weeklyRankingRepository).saveAll(captor.capture());
+            Map<String, WeeklyStrategyRanking> saved = new HashMap<>();
+            captor.getValue().forEach(r -> saved.put(r.getStrategyType() + r.getDrawNo(), r));
+            assertThat(saved).hasSize(4);
+
+            // 1209회 ATTACK: 200점 → (200×0.4 + 50×0.3) / 0.7, 1208회 2위 → 1위
+            WeeklyStrategyRanking attack1209 = saved.get("ATTACK1209");
+            assertThat(attack1209.getWeightedScore()).isCloseTo((200 * 0.4 + 50 * 0.3) / 0.7, within(1e-9));
+            assertThat(attack1209.getRankPosition()).isEqualTo(1);
+            assertThat(attack1209.getRankChange()).isEqualTo(1);
+
+            // 1210회 RANDOM: 이번 주 0점 + 이번 백필에서 계산한 1209회(100점) + 1208회(100점)
+            WeeklyStrategyRanking random1210 = saved.get("RANDOM1210");
+            assertThat(random1210.getWeightedScore()).isCloseTo((100 * 0.3 + 100 * 0.2) / 0.9, within(1e-9));
+            assertThat(random1210.getPreviousRank()).isEqualTo(2);
+
+            verify(simulationResultRepository, never()).findByStrategyTypeAndDrawNo(anyString(), anyInt());
+      }
+
       @Test
       @DisplayName("이미 계산된 회차는 기존 결과 반환")
       void calculateAndSaveRankings_alreadyExists() {
@@ -176,6 +217,35 @@ class WeeklyRankingServiceTest {
             assertThat(result).isEmpty();
       }
 
+      @Test
+      @DisplayName("현재 랭킹은 캐시에서 재사용하고 새 랭킹 저장 시 다시 조회")
+      void currentRankingsCache() {
+            int latestDrawNo = 1210;
+            given(weeklyRankingRepository.findLatestRankedDrawNo())
+                        .willReturn(Optional.of(latestDrawNo), Optional.of(latestDrawNo + 1));
+            given(weeklyRankingRepository.findByDrawNoOrderByRankPositionAsc(latestDrawNo))
+                        .willReturn(List.of(createRanking("ATTACK", latestDrawNo, 1)));
+
+            assertThat(weeklyRankingService.isTop3Strategy("ATTACK")).isTrue();
+            assertThat(weeklyRankingService.getRankingSummary()).containsEntry("drawNo", latestDrawNo);
+            verify(weeklyRankingRepository, times(1)).findLatestRankedDrawNo();
+
+            // 1211회차 랭킹 저장 → 캐시 무효화
+            given(weeklyRankingRepository.existsByDrawNo(latestDrawNo + 1)).willReturn(false);
+            given(lottoGenerateService.getStrategyMap()).willReturn(strategyMap);
+            given(simulationResultRepository.findByDrawNoBetween(latestDrawNo + 1, latestDrawNo + 1))
+                        .willReturn(List.of(createResult("RANDOM", latestDrawNo + 1, 0, 0, 0, 0, 10)));
+            given(weeklyRankingRepository.findByDrawNoBetween(latestDrawNo - 2, latestDrawNo + 1))
+                        .willReturn(List.of());
+            given(weeklyRankingRepository.findByDrawNoOrderByRankPositionAsc(latestDrawNo + 1))
+                        .willReturn(List.of(createRanking("RANDOM", latestDrawNo + 1, 1)));
+            weeklyRankingService.calculateAndSaveRankings(latestDrawNo + 1);
+
+            assertThat(weeklyRankingService.getTop3StrategyTypes()).containsExactly("RANDOM");
+            verify(weeklyRankingRepository, times(2)).findLatestRankedDrawNo();
+            assertThat(weeklyRankingService.getCacheStats()).containsEntry("invalidations", 1L);
+      }
+
       @Test
       @DisplayName("Top 3 전략 타입 조회")
       void getTop3StrategyTypes() {
@@ -296,6 +366,16 @@ class WeeklyRankingServiceTest {
                         .build();
       }
 
+      private WeeklyStrategyRanking createRankingWithScore(String type, int drawNo, int rank, double weeklyScore) {
+            return WeeklyStrategyRanking.builder()
+                        .drawNo(drawNo)
+                        .strategyType(type)
+                        .weeklyScore(weeklyScore)
+                        .weightedScore(weeklyScore)
+                        .rankPosition(rank)
+                        .build();
+      }
+
       private WeeklyStrategyRanking createRankingWithChange(String type, int drawNo,
                   int rank, int prevRank, int change) {
             WeeklyStrategyRanking ranking = createRanking(type, drawNo, rank);
@@ -0,0 +1,66 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConstrainedSamplerTest {
+
+      @Test
+      @DisplayName("조건을 만족하는 조합 수 - 전체 열거 결과와 일치")
+      void supportSize() {
+            assertThat(ConstrainedSampler.of(ConstrainedSampler.minGap(1)).supportSize()).isEqualTo(8_145_060L);
+            assertThat(ConstrainedSampler.of(ConstrainedSampler.minGap(2)).supportSize()).isEqualTo(3_838_380L); // C(40,6)
+            assertThat(ConstrainedSampler.of(ConstrainedSampler.minGap(4)).supportSize()).isEqualTo(593_775L);   // C(30,6)
+            assertThat(ConstrainedSampler.of(ConstrainedSampler.sumBetween(100, 175)).supportSize()).isEqualTo(6_431_550L);
+            assertThat(ConstrainedSampler.of(ConstrainedSampler.distinctLastDigitsAtLeast(5)).supportSize())
+                        .isEqualTo(5_756_780L);
+      }
+
+      @Test
+      @DisplayName("추출한 티켓은 항상 조건을 만족")
+      void sampleSatisfiesConstraint() {
+            ConstrainedSampler sum = ConstrainedSampler.of(ConstrainedSampler.sumBetween(100, 175));
+            ConstrainedSampler gap = ConstrainedSampler.of(ConstrainedSampler.minGap(4));
+            ConstrainedSampler edge = ConstrainedSampler.of(ConstrainedSampler.distinctLastDigitsAtLeast(5));
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (int i = 0; i < 10_000; i++) {
+                  long ticket = sum.sample(random);
+                  assertThat(LottoTicket.isValid(ticket)).isTrue();
+                  assertThat(LottoTicket.sum(ticket)).isBetween(100, 175);
+                  assertThat(LottoTicket.hasMinGap(gap.sample(random), 4)).isTrue();
+                  assertThat(LottoTicket.distinctLastDigits(edge.sample(random))).isGreaterThanOrEqualTo(5);
+            }
+      }
+
+      @Test
+      @DisplayName("조건 판정 - 상태 기계와 직접 계산 일치")
+      void predicate() {
+            ConstrainedSampler gap = ConstrainedSampler.of(ConstrainedSampler.minGap(4));
+
+            assertThat(gap.test(LottoTicket.of(1, 5, 9, 13, 17, 21))).isTrue();
+            assertThat(gap.test(LottoTicket.of(1, 5, 9, 13, 17, 20))).isFalse();
+      }
+
+      @Test
+      @DisplayName("균등 추출 - 작은 조건 공간에서 모든 조합이 고르게 나옴")
+      void uniform() {
+            // 간격 7 이상: C(15,6) = 5005개, 조합당 기대 100회
+            ConstrainedSampler sampler = ConstrainedSampler.of(ConstrainedSampler.minGap(7));
+            assertThat(sampler.supportSize()).isEqualTo(5_005L);
+
+            SplittableRandom random = new SplittableRandom(7);
+            Map<Long, Integer> counts = new HashMap<>();
+            for (int i = 0; i < 500_500; i++) {
+                  counts.merge(sampler.sample(random), 1, Integer::sum);
+            }
+            assertThat(counts).hasSize(5_005);
+            assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(50, 150));
+      }
+}
@@ -0,0 +1,114 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoverageSolverTest {
+
+      // 풀의 match개 조합 중 티켓에 하나라도 포함된 조합 수 (전수 확인)
+      private static int bruteForceCovered(long pool, long[] tickets, int match) {
+            return countCovered(LottoTicket.toArray(pool), 0, 0L, match, tickets);
+      }
+
+      private static int countCovered(int[] numbers, int from, long subset, int remaining, long[] tickets) {
+            if (remaining == 0) {
+                  for (long ticket : tickets) {
+                        if ((ticket & subset) == subset) return 1;
+                  }
+                  return 0;
+            }
+            int covered = 0;
+            for (int i = from; i <= numbers.length - remaining; i++) {
+                  covered += countCovered(numbers, i + 1, subset | LottoTicket.bit(numbers[i]), remaining - 1, tickets);
+            }
+            return covered;
+      }
+
+      private static void assertValidPortfolio(CoverageSolver.Result result, long pool, int count) {
+            assertThat(result.tickets()).hasSize(count);
+            Set<Long> distinct = new HashSet<>();
+            for (long ticket : result.tickets()) {
+                  assertThat(LottoTicket.isValid(ticket)).isTrue();
+                  assertThat(ticket & ~pool).isZero();
+                  distinct.add(ticket);
+            }
+            assertThat(distinct).hasSize(count);
+            assertThat(result.covered()).isEqualTo(bruteForceCovered(pool, result.tickets(), result.match()));
+      }
+
+      @Test
+      @DisplayName("작은 풀 - 최소 커버링 크기에 가까운 티켓 수로 3개 조합 전부 덮음")
+      void fullCoverage_smallPool() {
+            long pool10 = LottoTicket.range(1, 10);
+            CoverageSolver.Result result10 = CoverageSolver.solve(pool10, 10, 3, new SplittableRandom(1), 100_000_000L);
+            assertValidPortfolio(result10, pool10, 10);
+            assertThat(result10.total()).isEqualTo(120);
+            assertThat(result10.fullCoverage()).isTrue();
+
+            long pool12 = LottoTicket.range(20, 31);
+            CoverageSolver.Result result12 = CoverageSolver.solve(pool12, 17, 3, new SplittableRandom(2), 100_000_000L);
+            assertValidPortfolio(result12, pool12, 17);
+            assertThat(result12.fullCoverage()).isTrue();
+      }
+
+      @Test
+      @DisplayName("티켓이 모자라면 최대한 덮고, 지역 탐색은 탐욕 구성보다 나빠지지 않음")
+      void partialCoverage() {
+            long pool = LottoTicket.range(1, 15);
+            CoverageSolver.Result greedy = CoverageSolver.solve(pool, 20, 3, new SplittableRandom(3), 0L);
+            CoverageSolver.Result improved = CoverageSolver.solve(pool, 20, 3, new SplittableRandom(3), 100_000_000L);
+
+            assertValidPortfolio(greedy, pool, 20);
+            assertValidPortfolio(improved, pool, 20);
+            assertThat(improved.total()).isEqualTo(455);
+            assertThat(improved.fullCoverage()).isFalse();
+            assertThat(improved.covered()).isGreaterThanOrEqualTo(greedy.covered());
+            // 한 장이 덮는 3개 조합은 20개, 겹침이 적어야 300개 이상
+            assertThat(improved.covered()).isGreaterThan(300);
+      }
+
+      @Test
+      @DisplayName("전체 45개 풀 수천 장 - 시간 예산 안에 끝나고 중복 없음")
+      void largePortfolio() {
+            long start = System.nanoTime();
+            CoverageSolver.Result result = CoverageSolver.solve(LottoTicket.ALL_NUMBERS, 2_000, 2,
+                        new SplittableRandom(4), 200_000_000L);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+            assertValidPortfolio(result, LottoTicket.ALL_NUMBERS, 2_000);
+            assertThat(result.fullCoverage()).isTrue();
+            assertThat(elapsedMillis).isLessThan(2_000);
+      }
+
+      @Test
+      @DisplayName("풀 조합 수만큼 요청하면 모든 조합을 한 장씩")
+      void exhaustivePool() {
+            long pool = LottoTicket.range(1, 7);
+            CoverageSolver.Result result = CoverageSolver.solve(pool, 7, 5, new SplittableRandom(5), 0L);
+
+            assertValidPortfolio(result, pool, 7);
+            assertThat(result.fullCoverage()).isTrue();
+            assertThat(CoverageSolver.ticketCount(7)).isEqualTo(7);
+      }
+
+      @Test
+      @DisplayName("잘못된 풀·match·티켓 수는 IllegalArgumentException")
+      void invalidArguments() {
+            SplittableRandom random = new SplittableRandom(6);
+            assertThatThrownBy(() -> CoverageSolver.solve(LottoTicket.range(1, 5), 1, 3, random, 0L))
+                        .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CoverageSolver.solve(LottoTicket.range(1, 10) | 1L, 1, 3, random, 0L))
+                        .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CoverageSolver.solve(LottoTicket.range(1, 10), 1, 6, random, 0L))
+                        .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CoverageSolver.solve(LottoTicket.range(1, 10), 211, 3, random, 0L))
+                        .isInstanceOf(IllegalArgumentException.class);
+      }
+}
@@ -0,0 +1,78 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DrawHistoryIndexTest {
+
+      // 1~30회차, 최신순
+      private List<LottoDraw> draws() {
+            List<LottoDraw> draws = new ArrayList<>();
+            for (int no = 30; no >= 1; no--) {
+                  int base = no % 40;
+                  draws.add(new LottoDraw(no, LocalDate.of(2025, 1, 1).plusWeeks(no),
+                              base + 1, base + 2, base + 3, base + 4, base + 5, 45, 7, 2_000_000_000L, 10L));
+            }
+            return draws;
+      }
+
+      @Test
+      @DisplayName("대상 회차 이전 이력 뷰 - 최근 20회, 직전 회차")
+      void contextFor() {
+            DrawHistoryIndex index = DrawHistoryIndex.of(draws());
+
+            LottoStrategyContext context = index.contextFor(26);
+
+            assertThat(context.getAllDraws()).hasSize(25);
+            assertThat(context.getRecentDraws()).hasSize(DrawHistoryIndex.RECENT_WINDOW);
+            assertThat(context.getLatestDraw().getDrwNo()).isEqualTo(25);
+            assertThat(context.getRecentDraws().get(19).getDrwNo()).isEqualTo(6);
+      }
+
+      @Test
+      @DisplayName("첫 회차 이전은 빈 컨텍스트")
+      void contextForFirstDraw() {
+            LottoStrategyContext context = DrawHistoryIndex.of(draws()).contextFor(1);
+
+            assertThat(context.hasDrawData()).isFalse();
+            assertThat(context.getAllDraws()).isEmpty();
+      }
+
+      @Test
+      @DisplayName("누적 합 빈도 - 직접 집계한 통계와 일치")
+      void frequenciesMatchDirectCount() {
+            List<LottoDraw> draws = draws();
+            DrawHistoryIndex index = DrawHistoryIndex.of(draws);
+
+            for (int target = 1; target <= 31; target++) {
+                  LottoStrategyContext indexed = index.contextFor(target);
+                  DrawStatistics direct = DrawStatistics.of(indexed.getRecentDraws(), indexed.getAllDraws());
+                  DrawStatistics stats = indexed.getStatistics();
+
+                  assertThat(stats.allFrequencies()).containsExactly(direct.allFrequencies());
+                  assertThat(stats.recentFrequencies()).containsExactly(direct.recentFrequencies());
+                  assertThat(stats.hotPool()).isEqualTo(direct.hotPool());
+                  assertThat(index.frequencyBefore(target, 45)).isEqualTo(target - 1);
+            }
+      }
+
+      @Test
+      @DisplayName("정렬되지 않은 입력도 최신순으로 처리")
+      void unsortedInput() {
+            List<LottoDraw> shuffled = new ArrayList<>(draws());
+            Collections.reverse(shuffled);
+
+            LottoStrategyContext context = DrawHistoryIndex.of(shuffled).contextFor(11);
+
+            assertThat(context.getLatestDraw().getDrwNo()).isEqualTo(10);
+            assertThat(context.getAllDraws()).hasSize(10);
+      }
+}
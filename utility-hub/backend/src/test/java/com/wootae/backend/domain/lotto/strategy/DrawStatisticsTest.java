@@ -0,0 +1,67 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DrawStatisticsTest {
+
+      private LottoDraw draw(int drwNo, int... n) {
+            return new LottoDraw(drwNo, LocalDate.of(2025, 1, 1).plusWeeks(drwNo),
+                        n[0], n[1], n[2], n[3], n[4], n[5], 45, 2_000_000_000L, 10L);
+      }
+
+      @Test
+      @DisplayName("빈도/미출현 간격 계산")
+      void frequencyAndGap() {
+            List<LottoDraw> draws = List.of(
+                        draw(3, 1, 2, 3, 4, 5, 6),
+                        draw(2, 1, 7, 8, 9, 10, 11),
+                        draw(1, 1, 2, 12, 13, 14, 15));
+
+            DrawStatistics stats = DrawStatistics.of(draws.subList(0, 2), draws);
+
+            assertThat(stats.recentFrequency(1)).isEqualTo(2);
+            assertThat(stats.recentFrequency(12)).isZero();
+            assertThat(stats.allFrequency(1)).isEqualTo(3);
+            assertThat(stats.allFrequency(2)).isEqualTo(2);
+            assertThat(stats.gapSinceLastSeen(1)).isZero();
+            assertThat(stats.gapSinceLastSeen(7)).isEqualTo(1);
+            assertThat(stats.gapSinceLastSeen(12)).isEqualTo(2);
+            assertThat(stats.gapSinceLastSeen(40)).isEqualTo(3);
+            assertThat(stats.pairCount(1, 2)).isEqualTo(2);
+            assertThat(stats.pairCount(2, 1)).isEqualTo(2);
+            assertThat(stats.pairCount(1, 40)).isZero();
+      }
+
+      @Test
+      @DisplayName("번호 풀 - hot은 출현 번호만, cold는 미출현 포함 15개")
+      void pools() {
+            List<LottoDraw> draws = List.of(draw(1, 1, 2, 3, 4, 5, 6));
+
+            DrawStatistics stats = DrawStatistics.of(draws, draws);
+
+            assertThat(LottoTicket.toList(stats.hotPool())).containsExactly(1, 2, 3, 4, 5, 6);
+            assertThat(LottoTicket.size(stats.coldPool())).isEqualTo(DrawStatistics.POOL_SIZE);
+            assertThat(stats.coldPool() & stats.hotPool()).isZero();
+            assertThat(stats.frequentPool()).isEqualTo(stats.hotPool());
+      }
+
+      @Test
+      @DisplayName("컨텍스트 통계는 한 번만 계산되어 공유")
+      void contextCachesStatistics() {
+            List<LottoDraw> draws = List.of(draw(1, 1, 2, 3, 4, 5, 6));
+            LottoStrategyContext context = LottoStrategyContext.builder()
+                        .recentDraws(draws)
+                        .allDraws(draws)
+                        .latestDraw(draws.get(0))
+                        .build();
+
+            assertThat(context.getStatistics()).isSameAs(context.getStatistics());
+      }
+}
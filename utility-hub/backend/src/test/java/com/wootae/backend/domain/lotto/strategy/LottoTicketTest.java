@@ -0,0 +1,115 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LottoTicketTest {
+
+      @Test
+      @DisplayName("리스트 <-> 마스크 변환 - 정렬된 리스트로 복원")
+      void roundTrip() {
+            long mask = LottoTicket.fromList(List.of(45, 3, 17, 1, 30, 22));
+            assertThat(LottoTicket.toList(mask)).containsExactly(1, 3, 17, 22, 30, 45);
+            assertThat(LottoTicket.toArray(mask)).containsExactly(1, 3, 17, 22, 30, 45);
+            assertThat(LottoTicket.isValid(mask)).isTrue();
+      }
+
+      @Test
+      @DisplayName("유효성 검사 - 개수/범위 위반")
+      void isValid() {
+            assertThat(LottoTicket.isValid(LottoTicket.of(1, 2, 3, 4, 5))).isFalse();
+            assertThat(LottoTicket.isValid(LottoTicket.of(0, 1, 2, 3, 4, 5))).isFalse();
+            assertThat(LottoTicket.isValid(LottoTicket.of(1, 2, 3, 4, 5, 46))).isFalse();
+            assertThat(LottoTicket.ALL_NUMBERS).isEqualTo(LottoTicket.range(1, 45));
+            assertThat(LottoTicket.size(LottoTicket.ALL_NUMBERS)).isEqualTo(45);
+      }
+
+      @Test
+      @DisplayName("리스트 변환 - 1~45 밖의 번호는 시프트가 감겨 다른 번호가 되지 않고 무효 처리")
+      void fromList_outOfRange() {
+            assertThat(LottoTicket.fromList(List.of(65, 2, 3, 4, 5, 6))).isZero();
+            assertThat(LottoTicket.fromList(List.of(-63, 2, 3, 4, 5, 6))).isZero();
+            assertThat(LottoTicket.isValid(LottoTicket.fromList(List.of(1, 2, 3, 4, 5, 46)))).isFalse();
+            assertThat(LottoTicket.isValid(LottoTicket.fromList(List.of(0, 2, 3, 4, 5, 6)))).isFalse();
+      }
+
+      @Test
+      @DisplayName("구간 마스크 - 범위 밖은 잘라냄")
+      void range() {
+            assertThat(LottoTicket.toList(LottoTicket.range(-2, 3))).containsExactly(1, 2, 3);
+            assertThat(LottoTicket.toList(LottoTicket.range(43, 50))).containsExactly(43, 44, 45);
+            assertThat(LottoTicket.range(10, 9)).isZero();
+      }
+
+      @Test
+      @DisplayName("합계/끝수/연번/간격 계산")
+      void patterns() {
+            long ticket = LottoTicket.of(1, 5, 10, 20, 30, 40);
+            assertThat(LottoTicket.sum(ticket)).isEqualTo(106);
+            assertThat(LottoTicket.distinctLastDigits(ticket)).isEqualTo(3);
+            assertThat(LottoTicket.hasConsecutive(ticket)).isFalse();
+            assertThat(LottoTicket.hasConsecutive(LottoTicket.of(1, 2, 10, 20, 30, 40))).isTrue();
+            assertThat(LottoTicket.hasMinGap(ticket, 4)).isTrue();
+            assertThat(LottoTicket.hasMinGap(ticket, 5)).isFalse();
+      }
+
+      @Test
+      @DisplayName("추첨 결과 마스크 - 보너스 제외 6개")
+      void fromDraw() {
+            LottoDraw draw = new LottoDraw(1, LocalDate.of(2025, 1, 1),
+                        3, 10, 15, 25, 35, 42, 7, 2_000_000_000L, 10L);
+            long mask = LottoTicket.fromDraw(draw);
+            assertThat(LottoTicket.toList(mask)).containsExactly(3, 10, 15, 25, 35, 42);
+            assertThat(LottoTicket.contains(mask, 7)).isFalse();
+            assertThat(LottoTicket.countIn(mask, LottoTicket.of(3, 10, 7))).isEqualTo(2);
+      }
+
+      @Test
+      @DisplayName("JSON 티켓 파싱 - 잘못된 값은 0")
+      void parse() {
+            assertThat(LottoTicket.toList(LottoTicket.parse("[1,2,3,4,5,6]"))).containsExactly(1, 2, 3, 4, 5, 6);
+            assertThat(LottoTicket.toList(LottoTicket.parse("[ 45, 7, 12 ]"))).containsExactly(7, 12, 45);
+            assertThat(LottoTicket.parse("[1,1,2,3,4,5]")).isZero();
+            assertThat(LottoTicket.parse("[0,1,2,3,4,5]")).isZero();
+            assertThat(LottoTicket.parse("[1,2,3,4,5,46]")).isZero();
+            assertThat(LottoTicket.parse(null)).isZero();
+      }
+
+      @Test
+      @DisplayName("조합 순위(colex) - 0 ~ C(45,6)-1 범위, 역변환 일치")
+      void colexRank() {
+            assertThat(LottoTicket.colexRank(LottoTicket.of(1, 2, 3, 4, 5, 6))).isZero();
+            assertThat(LottoTicket.colexRank(LottoTicket.of(1, 2, 3, 4, 5, 7))).isEqualTo(1);
+            assertThat(LottoTicket.colexRank(LottoTicket.of(40, 41, 42, 43, 44, 45)))
+                        .isEqualTo(LottoTicket.COMBINATION_COUNT - 1);
+
+            for (int rank = 0; rank < LottoTicket.COMBINATION_COUNT; rank += 9_973) {
+                  long mask = LottoTicket.fromColexRank(rank);
+                  assertThat(LottoTicket.isValid(mask)).isTrue();
+                  assertThat(LottoTicket.colexRank(mask)).isEqualTo(rank);
+            }
+      }
+
+      @Test
+      @DisplayName("전체 조합 순회 - colex 순서로 C(45,6)개, false를 반환하면 중단")
+      void forEachCombination() {
+            int[] visited = new int[1];
+            boolean complete = LottoTicket.forEachCombination(ticket -> {
+                  if (visited[0] % 9_973 == 0) assertThat(LottoTicket.colexRank(ticket)).isEqualTo(visited[0]);
+                  visited[0]++;
+                  return true;
+            });
+            assertThat(complete).isTrue();
+            assertThat(visited[0]).isEqualTo(LottoTicket.COMBINATION_COUNT);
+
+            visited[0] = 0;
+            assertThat(LottoTicket.forEachCombination(ticket -> ++visited[0] < 3)).isFalse();
+            assertThat(visited[0]).isEqualTo(3);
+      }
+}
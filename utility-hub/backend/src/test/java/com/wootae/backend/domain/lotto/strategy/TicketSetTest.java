@@ -0,0 +1,43 @@
+package com.wootae.backend.domain.lotto.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketSetTest {
+
+      @Test
+      @DisplayName("추가/조회 - 중복 추가는 false")
+      void addAndContains() {
+            TicketSet set = new TicketSet(4);
+            long ticket = LottoTicket.of(1, 2, 3, 4, 5, 6);
+
+            assertThat(set.add(ticket)).isTrue();
+            assertThat(set.add(ticket)).isFalse();
+            assertThat(set.contains(ticket)).isTrue();
+            assertThat(set.contains(LottoTicket.of(1, 2, 3, 4, 5, 7))).isFalse();
+            assertThat(set.contains(0L)).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+            assertThatThrownBy(() -> set.add(0L)).isInstanceOf(IllegalArgumentException.class);
+      }
+
+      @Test
+      @DisplayName("예상 크기를 넘어도 확장하며 HashSet과 같은 결과")
+      void growsBeyondExpectedSize() {
+            TicketSet set = new TicketSet(8);
+            Set<Long> expected = new HashSet<>();
+            SplittableRandom random = new SplittableRandom(7);
+            for (int i = 0; i < 50_000; i++) {
+                  long ticket = LottoTicket.fromColexRank(random.nextInt(20_000));
+                  assertThat(set.add(ticket)).isEqualTo(expected.add(ticket));
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+            expected.forEach(ticket -> assertThat(set.contains(ticket)).isTrue());
+      }
+}
@@ -0,0 +1,169 @@
+package com.wootae.backend.domain.lotto.strategy.script;
+
+import com.wootae.backend.domain.lotto.entity.LottoDraw;
+import com.wootae.backend.domain.lotto.strategy.LottoStrategyContext;
+import com.wootae.backend.domain.lotto.strategy.LottoTicket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleScriptTest {
+
+      private static final long TICKET = LottoTicket.of(3, 4, 12, 23, 37, 45);
+
+      private static long eval(String expression) {
+            RuleScript script = RuleScript.compile("weight " + expression, Map.of("base", 10L));
+            return script.weight(TICKET, RuleScriptEnv.EMPTY);
+      }
+
+      private static boolean accepts(String condition, long ticket) {
+            return RuleScript.compile("require " + condition, Map.of()).accepts(ticket, RuleScriptEnv.EMPTY);
+      }
+
+      @Test
+      @DisplayName("티켓 값 - 합계·홀짝·구간·간격·연번·끝자리")
+      void ticketFeatures() {
+            assertThat(eval("sum")).isEqualTo(124);
+            assertThat(eval("odd * 10 + even")).isEqualTo(42);
+            assertThat(eval("low * 10 + high")).isEqualTo(33);
+            assertThat(eval("min * 100 + max")).isEqualTo(345);
+            assertThat(eval("span")).isEqualTo(42);
+            assertThat(eval("maxgap * 100 + mingap")).isEqualTo(1401);
+            assertThat(eval("consecutive")).isEqualTo(1);
+            assertThat(eval("primes")).isEqualTo(3);
+            assertThat(eval("lastdigits")).isEqualTo(5);
+            assertThat(eval("decade(0) * 10 + decade(4)")).isEqualTo(21);
+            assertThat(eval("count(10, 30)")).isEqualTo(2);
+            assertThat(eval("abs(base - sum) % 7 + 100 / (base - 10)")).isEqualTo(2);
+      }
+
+      @Test
+      @DisplayName("조건식 - 우선순위, 범위, 단락 평가")
+      void conditions() {
+            assertThat(accepts("sum in 100..130 and not consecutive == 0", TICKET)).isTrue();
+            assertThat(accepts("odd == 2 or odd == 3 && high >= 4", TICKET)).isFalse();
+            assertThat(accepts("(odd == 4 || odd == 3) && high >= 3", TICKET)).isTrue();
+            assertThat(accepts("has(45) and !has(44)", TICKET)).isTrue();
+            assertThat(accepts("-min + 2 * 3 < 4", TICKET)).isTrue();
+            assertThat(accepts("true", TICKET)).isTrue();
+            assertThat(accepts("sum > 200", TICKET)).isFalse();
+      }
+
+      @Test
+      @DisplayName("이력 값 - 컨텍스트의 hot/cold 풀과 직전 회차")
+      void historyFeatures() {
+            LottoDraw latest = new LottoDraw(2, LocalDate.of(2025, 1, 8), 3, 4, 5, 6, 7, 8, 9, 1L, 1L);
+            LottoStrategyContext context = LottoStrategyContext.builder()
+                        .recentDraws(List.of(latest)).allDraws(List.of(latest)).latestDraw(latest).build();
+            RuleScript script = RuleScript.compile("require repeat == 2\nweight hot * 10 + hotness", Map.of());
+
+            assertThat(script.usesHistory()).isTrue();
+            assertThat(script.accepts(TICKET, RuleScriptEnv.of(context))).isTrue();
+            assertThat(script.weight(TICKET, RuleScriptEnv.of(context))).isEqualTo(22);
+            assertThat(RuleScript.compile("require sum > 100", Map.of()).usesHistory()).isFalse();
+      }
+
+      private static Stream<String> invalidSources() {
+            return Stream.of(
+                        "require sum >", "require sum", "weight odd == 3", "require foo > 1", "require sum in 1..",
+                        "require has(46)", "require count(1) > 0", "weight 1\nweight 2", "require 1 > 0 sum",
+                        "require sum > 1 @", "# 주석만", "require sum > 99999999999",
+                        // 깊은 중첩은 스택 넘침 대신 RuleScriptException
+                        "require " + "(".repeat(1_000) + "sum" + ")".repeat(1_000) + " > 1",
+                        "require " + "not ".repeat(900) + "true",
+                        "weight " + "-".repeat(3_000) + "1",
+                        "weight " + "abs(".repeat(600) + "1" + ")".repeat(600));
+      }
+
+      @ParameterizedTest
+      @MethodSource("invalidSources")
+      @DisplayName("문법·타입 오류는 RuleScriptException")
+      void invalidScripts(String source) {
+            assertThatThrownBy(() -> RuleScript.compile(source, Map.of()))
+                        .isInstanceOf(RuleScriptException.class);
+      }
+
+      @Test
+      @DisplayName("오류 메시지에 행·열 포함, 예약어와 겹치는 파라미터 거부")
+      void errorPosition() {
+            assertThatThrownBy(() -> RuleScript.compile("require sum > 1\nrequire odd ==", Map.of()))
+                        .hasMessageStartingWith("2행 15열");
+            assertThatThrownBy(() -> RuleScript.compile("require sum > 1", Map.of("sum", 1L)))
+                        .isInstanceOf(RuleScriptException.class);
+            assertThatThrownBy(() -> RuleScript.compile("require " + "sum + ".repeat(600) + "1 > 0", Map.of()))
+                        .isInstanceOf(RuleScriptException.class);
+      }
+
+      @Test
+      @DisplayName("산술 넘침은 long 범위로 고정, 범위를 넘는 파라미터 거부")
+      void overflowSaturates() {
+            assertThat(eval("1000000000 * 1000000000 * 1000000000")).isEqualTo(Long.MAX_VALUE);
+            assertThat(eval("1000000000 * 1000000000 * 1000000000 + 1")).isEqualTo(Long.MAX_VALUE);
+            assertThat(eval("0 - 1000000000 * 1000000000 * 1000000000 + 1")).isZero();
+            assertThat(eval("abs(0 - 1000000000 * 1000000000 * 1000000000 - 1000000000 * 1000000000 * 1000000000)"))
+                        .isEqualTo(Long.MAX_VALUE);
+            assertThat(accepts("-(1000000000 * 1000000000 * 1000000000) < 0", TICKET)).isTrue();
+            assertThatThrownBy(() -> RuleScript.compile("weight big", Map.of("big", 1_000_000_001L)))
+                        .isInstanceOf(RuleScriptException.class);
+      }
+
+      @Test
+      @DisplayName("전략 - 후보 가중치 합이 long을 넘어도 가중 선택")
+      void scriptedStrategy_hugeWeights() {
+            RuleScript script = RuleScript.compile("weight 1000000000 * 1000000000 * sum", Map.of());
+            ScriptedLottoStrategy strategy = new ScriptedLottoStrategy("RULE_4", "큰 가중치", script,
+                        ScriptedLottoStrategy.MAX_CANDIDATES);
+            LottoStrategyContext context = LottoStrategyContext.builder().random(new SplittableRandom(4)).build();
+
+            for (int i = 0; i < 20; i++) {
+                  assertThat(LottoTicket.isValid(strategy.generateMask(context))).isTrue();
+            }
+      }
+
+      @Test
+      @DisplayName("전략 - 통과율이 낮은 조건은 통과 조합 표에서 균등 추출, 정확 확률 모드 지원")
+      void scriptedStrategy_narrowCondition() {
+            RuleScript script = RuleScript.compile("require sum == 30 # 최소 합계(21)에 가까운 좁은 조건", Map.of());
+            ScriptedLottoStrategy strategy = new ScriptedLottoStrategy("RULE_1", "좁은 규칙", script, 1);
+            LottoStrategyContext context = LottoStrategyContext.builder().random(new SplittableRandom(1)).build();
+
+            for (int i = 0; i < 1_000; i++) {
+                  long ticket = strategy.generateMask(context);
+                  assertThat(LottoTicket.isValid(ticket)).isTrue();
+                  assertThat(LottoTicket.sum(ticket)).isEqualTo(30);
+            }
+            assertThat(strategy.uniformSupport()).isNotNull();
+            assertThat(strategy.uniformSupport().test(LottoTicket.of(1, 2, 3, 4, 5, 15))).isTrue();
+      }
+
+      @Test
+      @DisplayName("전략 - weight는 후보 중 가중치 비례 선택, 만족하는 조합이 없으면 생성 거부")
+      void scriptedStrategy_weighted() {
+            RuleScript script = RuleScript.compile("require high >= 3\nweight count(45, 45) * 1000", Map.of());
+            ScriptedLottoStrategy strategy = new ScriptedLottoStrategy("RULE_2", "가중 규칙", script, 64);
+            LottoStrategyContext context = LottoStrategyContext.builder().random(new SplittableRandom(2)).build();
+
+            int with45 = 0;
+            for (int i = 0; i < 200; i++) {
+                  long ticket = strategy.generateMask(context);
+                  assertThat(Long.bitCount(ticket & LottoTicket.range(23, 45))).isGreaterThanOrEqualTo(3);
+                  if (LottoTicket.contains(ticket, 45)) with45++;
+            }
+            assertThat(with45).isGreaterThan(190);
+            assertThat(strategy.uniformSupport()).isNull();
+
+            RuleScript impossible = RuleScript.compile("require sum < 21", Map.of());
+            assertThatThrownBy(() -> new ScriptedLottoStrategy("RULE_3", "불가능", impossible, 1))
+                        .isInstanceOf(RuleScriptException.class);
+      }
+}